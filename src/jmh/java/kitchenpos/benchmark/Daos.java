@@ -0,0 +1,45 @@
+package kitchenpos.benchmark;
+
+import kitchenpos.dao.MenuDao;
+import kitchenpos.dao.MenuGroupDao;
+import kitchenpos.dao.MenuProductDao;
+import kitchenpos.dao.MenuSalesDao;
+import kitchenpos.dao.OrderDao;
+import kitchenpos.dao.OrderLineItemDao;
+import kitchenpos.dao.OrderTableDao;
+import kitchenpos.dao.ProductDao;
+import kitchenpos.dao.TableGroupDao;
+
+public class Daos {
+    final ProductDao productDao;
+    final MenuGroupDao menuGroupDao;
+    final MenuDao menuDao;
+    final MenuProductDao menuProductDao;
+    final OrderTableDao orderTableDao;
+    final TableGroupDao tableGroupDao;
+    final OrderDao orderDao;
+    final OrderLineItemDao orderLineItemDao;
+    final MenuSalesDao menuSalesDao;
+
+    Daos(
+            final ProductDao productDao,
+            final MenuGroupDao menuGroupDao,
+            final MenuDao menuDao,
+            final MenuProductDao menuProductDao,
+            final OrderTableDao orderTableDao,
+            final TableGroupDao tableGroupDao,
+            final OrderDao orderDao,
+            final OrderLineItemDao orderLineItemDao,
+            final MenuSalesDao menuSalesDao
+    ) {
+        this.productDao = productDao;
+        this.menuGroupDao = menuGroupDao;
+        this.menuDao = menuDao;
+        this.menuProductDao = menuProductDao;
+        this.orderTableDao = orderTableDao;
+        this.tableGroupDao = tableGroupDao;
+        this.orderDao = orderDao;
+        this.orderLineItemDao = orderLineItemDao;
+        this.menuSalesDao = menuSalesDao;
+    }
+}
@@ -0,0 +1,89 @@
+package kitchenpos.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.Product;
+
+final class Fixtures {
+    private Fixtures() {
+    }
+
+    static MenuGroup saveMenuGroup(final Daos daos) {
+        final MenuGroup menuGroup = new MenuGroup();
+        menuGroup.setName("두마리메뉴");
+        return daos.menuGroupDao.save(menuGroup);
+    }
+
+    static Product saveProduct(final Daos daos) {
+        final Product product = new Product();
+        product.setName("후라이드치킨");
+        product.setPrice(BigDecimal.valueOf(16000L));
+        return daos.productDao.save(product);
+    }
+
+    static Menu saveMenu(final Daos daos, final MenuGroup menuGroup, final Product product) {
+        final Menu menu = new Menu();
+        menu.setName("후라이드치킨");
+        menu.setPrice(BigDecimal.valueOf(16000L));
+        menu.setMenuGroupId(menuGroup.getId());
+        final Menu savedMenu = daos.menuDao.save(menu);
+
+        final MenuProduct menuProduct = new MenuProduct();
+        menuProduct.setMenuId(savedMenu.getId());
+        menuProduct.setProductId(product.getId());
+        menuProduct.setQuantity(1L);
+        daos.menuProductDao.save(menuProduct);
+
+        return savedMenu;
+    }
+
+    static List<Long> saveMenus(final Daos daos, final int count) {
+        final MenuGroup menuGroup = saveMenuGroup(daos);
+        final Product product = saveProduct(daos);
+
+        final List<Long> menuIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            menuIds.add(saveMenu(daos, menuGroup, product).getId());
+        }
+        return menuIds;
+    }
+
+    static OrderTable saveOrderTable(final Daos daos, final boolean empty) {
+        final OrderTable orderTable = new OrderTable();
+        orderTable.setEmpty(empty);
+        return daos.orderTableDao.save(orderTable);
+    }
+
+    static Order saveOrder(final Daos daos, final OrderTable orderTable, final List<Long> menuIds) {
+        final Order order = new Order();
+        order.setOrderTableId(orderTable.getId());
+        order.setOrderStatus(OrderStatus.COOKING);
+        order.setOrderedTime(LocalDateTime.now());
+        final Order savedOrder = daos.orderDao.save(order);
+
+        daos.orderLineItemDao.saveAll(orderLineItems(savedOrder.getId(), menuIds));
+        return savedOrder;
+    }
+
+    static List<OrderLineItem> orderLineItems(final Long orderId, final List<Long> menuIds) {
+        final List<OrderLineItem> orderLineItems = new ArrayList<>();
+        for (final Long menuId : menuIds) {
+            final OrderLineItem orderLineItem = new OrderLineItem();
+            orderLineItem.setOrderId(orderId);
+            orderLineItem.setMenuId(menuId);
+            orderLineItem.setQuantity(1L);
+            orderLineItems.add(orderLineItem);
+        }
+        return orderLineItems;
+    }
+}
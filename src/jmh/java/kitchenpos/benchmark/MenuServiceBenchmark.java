@@ -0,0 +1,76 @@
+package kitchenpos.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import kitchenpos.application.Catalog;
+import kitchenpos.application.MenuImportWriter;
+import kitchenpos.application.MenuService;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.MenuProduct;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MenuServiceBenchmark {
+    @Param({"IN_MEMORY", "H2"})
+    public Storage storage;
+
+    @Param({"1", "10", "50"})
+    public int menuProductCount;
+
+    private MenuService menuService;
+    private MenuGroup menuGroup;
+    private List<Long> productIds;
+
+    @Setup
+    public void setUp() {
+        final Daos daos = storage.create();
+        final Catalog catalog = new Catalog(daos.productDao, daos.menuGroupDao, daos.menuDao,
+                daos.menuProductDao);
+        menuService = new MenuService(daos.menuDao, daos.menuProductDao, daos.productDao, catalog,
+                new MenuImportWriter(daos.menuDao, daos.menuProductDao, catalog));
+
+        menuGroup = Fixtures.saveMenuGroup(daos);
+        productIds = new ArrayList<>();
+        for (int i = 0; i < menuProductCount; i++) {
+            productIds.add(Fixtures.saveProduct(daos).getId());
+        }
+    }
+
+    @Benchmark
+    public Menu create() {
+        final List<MenuProduct> menuProducts = new ArrayList<>();
+        for (final Long productId : productIds) {
+            final MenuProduct menuProduct = new MenuProduct();
+            menuProduct.setProductId(productId);
+            menuProduct.setQuantity(1L);
+            menuProducts.add(menuProduct);
+        }
+
+        final Menu menu = new Menu();
+        menu.setName("후라이드치킨");
+        menu.setPrice(BigDecimal.valueOf(16000L));
+        menu.setMenuGroupId(menuGroup.getId());
+        menu.setMenuProducts(menuProducts);
+        return menuService.create(menu);
+    }
+}
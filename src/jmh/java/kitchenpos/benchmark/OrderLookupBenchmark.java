@@ -0,0 +1,130 @@
+package kitchenpos.benchmark;
+
+import java.util.ArrayList;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import kitchenpos.dao.JdbcTemplateOrderDao;
+import kitchenpos.dao.JdbcTemplateOrderLineItemDao;
+import kitchenpos.dao.JdbcTemplateOrderTableDao;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+
+/**
+ * 조회용 인덱스(V3, V5, V9)가 있을 때와 지운 기준 스키마({@code lookupIndexes=false})에서 조회와 쓰기 비용을 비교한다.
+ * 기준 스키마에도 외래 키 제약 조건이 만든 인덱스는 남는다. 준비가 끝나면 테이블별로 인덱스를 포함한 크기를 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class OrderLookupBenchmark {
+    private static final List<OrderStatus> ACTIVE_ORDER_STATUSES =
+            Arrays.asList(OrderStatus.COOKING, OrderStatus.MEAL);
+    private static final List<String> LOOKUP_INDEXES = Arrays.asList(
+            "idx_orders_order_table_id_order_status",
+            "idx_order_line_item_order_id",
+            "idx_menu_product_menu_id",
+            "idx_order_table_table_group_id",
+            "idx_orders_order_status_id",
+            "idx_orders_order_table_id_id",
+            "idx_orders_ordered_time"
+    );
+    private static final List<String> MEASURED_TABLES = Arrays.asList("ORDERS", "ORDER_LINE_ITEM", "ORDER_TABLE");
+
+    @Param({"10000", "1000000", "3000000"})
+    public int orderCount;
+
+    @Param({"true", "false"})
+    public boolean lookupIndexes;
+
+    private JdbcTemplateOrderDao orderDao;
+    private JdbcTemplateOrderLineItemDao orderLineItemDao;
+    private JdbcTemplateOrderTableDao orderTableDao;
+
+    @Setup
+    public void setUp() {
+        final DataSource dataSource = Storage.createDataSource();
+        final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        if (!lookupIndexes) {
+            for (final String index : LOOKUP_INDEXES) {
+                jdbcTemplate.execute("DROP INDEX " + index);
+            }
+        }
+        SeedData.seedOrders(dataSource, orderCount);
+        for (final String table : MEASURED_TABLES) {
+            final Long bytes = jdbcTemplate.queryForObject("SELECT DISK_SPACE_USED(?)", Long.class, table);
+            System.out.printf("lookupIndexes=%s orderCount=%d %s: %d bytes%n", lookupIndexes, orderCount, table, bytes);
+        }
+
+        orderDao = new JdbcTemplateOrderDao(dataSource);
+        orderLineItemDao = new JdbcTemplateOrderLineItemDao(dataSource);
+        orderTableDao = new JdbcTemplateOrderTableDao(dataSource);
+    }
+
+    @Benchmark
+    public boolean existsByOrderTableIdAndOrderStatusIn() {
+        return orderDao.existsByOrderTableIdAndOrderStatusIn(randomOrderTableId(), ACTIVE_ORDER_STATUSES);
+    }
+
+    @Benchmark
+    public boolean existsByOrderTableIdInAndOrderStatusIn() {
+        final List<Long> orderTableIds = new ArrayList<>();
+        for (int i = 0; i < SeedData.TABLE_GROUP_SIZE; i++) {
+            orderTableIds.add(randomOrderTableId());
+        }
+        return orderDao.existsByOrderTableIdInAndOrderStatusIn(orderTableIds, ACTIVE_ORDER_STATUSES);
+    }
+
+    @Benchmark
+    public List<OrderLineItem> findAllByOrderId() {
+        return orderLineItemDao.findAllByOrderId(ThreadLocalRandom.current().nextLong(1, orderCount + 1));
+    }
+
+    @Benchmark
+    public List<OrderTable> findAllByTableGroupId() {
+        final int tableGroupCount = SeedData.ORDER_TABLE_COUNT / SeedData.TABLE_GROUP_SIZE;
+        return orderTableDao.findAllByTableGroupId(ThreadLocalRandom.current().nextLong(1, tableGroupCount + 1));
+    }
+
+    /**
+     * 주문을 하나 저장하고 지워 인덱스를 갱신하는 쓰기 비용을 잰다. 지우므로 반복해도 주문 수는 그대로다.
+     */
+    @Benchmark
+    public Long saveAndDeleteOrder() {
+        final Order order = new Order();
+        order.setOrderTableId(randomOrderTableId());
+        order.setOrderStatus(OrderStatus.COOKING);
+        order.setOrderedTime(LocalDateTime.now());
+        final Long orderId = orderDao.save(order).getId();
+        orderDao.deleteAllByIdIn(Collections.singletonList(orderId));
+        return orderId;
+    }
+
+    private long randomOrderTableId() {
+        return SeedData.FIRST_ORDER_TABLE_ID + ThreadLocalRandom.current().nextInt(SeedData.ORDER_TABLE_COUNT);
+    }
+}
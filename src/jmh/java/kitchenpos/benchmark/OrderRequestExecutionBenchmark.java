@@ -0,0 +1,148 @@
+package kitchenpos.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.Application;
+import kitchenpos.application.MenuGroupService;
+import kitchenpos.application.MenuService;
+import kitchenpos.application.ProductService;
+import kitchenpos.application.TableService;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.Product;
+import kitchenpos.ui.OrderRestController;
+
+/**
+ * 애플리케이션을 임의의 포트로 띄우고 {@value #CLIENT_THREADS}개의 스레드가 동시에 {@code POST /api/orders}를 보낸다.
+ * {@code platform}은 톰캣 스레드가 JDBC 작업까지 실행하고, {@code async}는 커넥션 풀 크기만큼의 작업 스레드가 실행한다.
+ * 처리량({@code thrpt})과 응답 시간 분포({@code sample}, p0.99 포함)를 함께 기록한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Threads(OrderRequestExecutionBenchmark.CLIENT_THREADS)
+@Fork(1)
+public class OrderRequestExecutionBenchmark {
+    static final int CLIENT_THREADS = 64;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    @Param({"platform", "async"})
+    public String mode;
+
+    @Param({"10"})
+    public int connectionPoolSize;
+
+    private ConfigurableApplicationContext context;
+    private URL orderUrl;
+    private byte[] orderBody;
+
+    @Setup
+    public void setUp() throws IOException {
+        context = SpringApplication.run(Application.class,
+                "--server.port=0",
+                "--kitchenpos.request-execution.mode=" + mode,
+                "--kitchenpos.order-intake.enabled=false",
+                "--spring.datasource.hikari.maximum-pool-size=" + connectionPoolSize,
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.org.springframework.jdbc.core.JdbcTemplate=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+        final int port = ((ServletWebServerApplicationContext)context).getWebServer().getPort();
+        orderUrl = new URL("http", "localhost", port, OrderRestController.ORDER_REST_API_URI);
+
+        final Order order = new Order();
+        order.setOrderTableId(saveOrderTable().getId());
+        order.setOrderLineItems(Fixtures.orderLineItems(null, Collections.singletonList(saveMenu().getId())));
+        orderBody = context.getBean(ObjectMapper.class).writeValueAsBytes(order);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int create() throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection)orderUrl.openConnection();
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        connection.setRequestProperty(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+        try (final OutputStream outputStream = connection.getOutputStream()) {
+            outputStream.write(orderBody);
+        }
+
+        final int status = connection.getResponseCode();
+        final InputStream body = status < HttpURLConnection.HTTP_BAD_REQUEST
+                ? connection.getInputStream()
+                : connection.getErrorStream();
+        if (body != null) {
+            try (final InputStream inputStream = body) {
+                final byte[] buffer = new byte[BUFFER_SIZE];
+                while (inputStream.read(buffer) >= 0) {
+                }
+            }
+        }
+        return status;
+    }
+
+    private Menu saveMenu() {
+        final MenuGroup menuGroup = new MenuGroup();
+        menuGroup.setName("두마리메뉴");
+        final MenuGroup savedMenuGroup = context.getBean(MenuGroupService.class).create(menuGroup);
+
+        final Product product = new Product();
+        product.setName("후라이드치킨");
+        product.setPrice(BigDecimal.valueOf(16000L));
+        final Product savedProduct = context.getBean(ProductService.class).create(product);
+
+        final MenuProduct menuProduct = new MenuProduct();
+        menuProduct.setProductId(savedProduct.getId());
+        menuProduct.setQuantity(1L);
+
+        final Menu menu = new Menu();
+        menu.setName("후라이드치킨");
+        menu.setPrice(BigDecimal.valueOf(16000L));
+        menu.setMenuGroupId(savedMenuGroup.getId());
+        menu.setMenuProducts(Collections.singletonList(menuProduct));
+        return context.getBean(MenuService.class).create(menu);
+    }
+
+    private OrderTable saveOrderTable() {
+        final OrderTable orderTable = new OrderTable();
+        orderTable.setEmpty(false);
+        return context.getBean(TableService.class).create(orderTable);
+    }
+}
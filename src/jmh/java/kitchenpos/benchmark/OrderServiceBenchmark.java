@@ -0,0 +1,63 @@
+package kitchenpos.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import kitchenpos.application.Catalog;
+import kitchenpos.application.MenuSalesCounter;
+import kitchenpos.application.OrderEventPublisher;
+import kitchenpos.application.OrderService;
+import kitchenpos.application.SalesRollupService;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderTable;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class OrderServiceBenchmark {
+    @Param({"IN_MEMORY", "H2"})
+    public Storage storage;
+
+    @Param({"1", "10", "50"})
+    public int orderLineItemCount;
+
+    private OrderService orderService;
+    private OrderTable orderTable;
+    private List<Long> menuIds;
+
+    @Setup
+    public void setUp() {
+        final Daos daos = storage.create();
+        final Catalog catalog = new Catalog(daos.productDao, daos.menuGroupDao, daos.menuDao,
+                daos.menuProductDao);
+        orderService = new OrderService(catalog, daos.orderDao,
+                daos.orderLineItemDao, daos.orderTableDao, new OrderEventPublisher(),
+                new SalesRollupService(catalog, daos.menuSalesDao), new MenuSalesCounter());
+
+        orderTable = Fixtures.saveOrderTable(daos, false);
+        menuIds = Fixtures.saveMenus(daos, orderLineItemCount);
+    }
+
+    @Benchmark
+    public Order create() {
+        final Order order = new Order();
+        order.setOrderTableId(orderTable.getId());
+        order.setOrderLineItems(Fixtures.orderLineItems(null, menuIds));
+        return orderService.create(order);
+    }
+}
@@ -0,0 +1,110 @@
+package kitchenpos.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import kitchenpos.dao.JdbcTemplateMenuDao;
+import kitchenpos.dao.JdbcTemplateMenuGroupDao;
+import kitchenpos.dao.JdbcTemplateMenuProductDao;
+import kitchenpos.dao.JdbcTemplateOrderDao;
+import kitchenpos.dao.JdbcTemplateOrderLineItemDao;
+import kitchenpos.dao.JdbcTemplateOrderTableDao;
+import kitchenpos.dao.JdbcTemplateProductDao;
+import kitchenpos.dao.JdbcTemplateTableGroupDao;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.Product;
+import kitchenpos.domain.TableGroup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RowMapperBenchmark {
+    @Param({"100", "10000"})
+    public int rowCount;
+
+    private JdbcTemplateProductDao productDao;
+    private JdbcTemplateMenuGroupDao menuGroupDao;
+    private JdbcTemplateMenuDao menuDao;
+    private JdbcTemplateMenuProductDao menuProductDao;
+    private JdbcTemplateOrderTableDao orderTableDao;
+    private JdbcTemplateTableGroupDao tableGroupDao;
+    private JdbcTemplateOrderDao orderDao;
+    private JdbcTemplateOrderLineItemDao orderLineItemDao;
+
+    @Setup
+    public void setUp() {
+        final DataSource dataSource = Storage.createDataSource();
+        SeedData.seedEveryTable(dataSource, rowCount);
+
+        productDao = new JdbcTemplateProductDao(dataSource);
+        menuGroupDao = new JdbcTemplateMenuGroupDao(dataSource);
+        menuDao = new JdbcTemplateMenuDao(dataSource);
+        menuProductDao = new JdbcTemplateMenuProductDao(dataSource);
+        orderTableDao = new JdbcTemplateOrderTableDao(dataSource);
+        tableGroupDao = new JdbcTemplateTableGroupDao(dataSource);
+        orderDao = new JdbcTemplateOrderDao(dataSource);
+        orderLineItemDao = new JdbcTemplateOrderLineItemDao(dataSource);
+    }
+
+    @Benchmark
+    public List<Product> product() {
+        return productDao.findAll();
+    }
+
+    @Benchmark
+    public List<MenuGroup> menuGroup() {
+        return menuGroupDao.findAll();
+    }
+
+    @Benchmark
+    public List<Menu> menu() {
+        return menuDao.findAll();
+    }
+
+    @Benchmark
+    public List<MenuProduct> menuProduct() {
+        return menuProductDao.findAll();
+    }
+
+    @Benchmark
+    public List<OrderTable> orderTable() {
+        return orderTableDao.findAll();
+    }
+
+    @Benchmark
+    public List<TableGroup> tableGroup() {
+        return tableGroupDao.findAll();
+    }
+
+    @Benchmark
+    public List<Order> order() {
+        return orderDao.findAll();
+    }
+
+    @Benchmark
+    public List<OrderLineItem> orderLineItem() {
+        return orderLineItemDao.findAll();
+    }
+}
@@ -0,0 +1,55 @@
+package kitchenpos.benchmark;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+final class SeedData {
+    static final int ORDER_TABLE_COUNT = 1000;
+    static final long FIRST_ORDER_TABLE_ID = 1001L;
+    static final int TABLE_GROUP_SIZE = 4;
+
+    private SeedData() {
+    }
+
+    static void seedEveryTable(final DataSource dataSource, final int rows) {
+        final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO product (name, price)"
+                + " SELECT CONCAT('상품', X), 16000 FROM SYSTEM_RANGE(1, ?)", rows);
+        jdbcTemplate.update("INSERT INTO menu_group (name)"
+                + " SELECT CONCAT('메뉴 그룹', X) FROM SYSTEM_RANGE(1, ?)", rows);
+        jdbcTemplate.update("INSERT INTO menu (name, price, menu_group_id)"
+                + " SELECT CONCAT('메뉴', X), 16000, 1 FROM SYSTEM_RANGE(1, ?)", rows);
+        jdbcTemplate.update("INSERT INTO menu_product (menu_id, product_id, quantity)"
+                + " SELECT 1, 1, X FROM SYSTEM_RANGE(1, ?)", rows);
+        jdbcTemplate.update("INSERT INTO table_group (created_date)"
+                + " SELECT CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, ?)", rows);
+        jdbcTemplate.update("INSERT INTO order_table (number_of_guests, empty)"
+                + " SELECT 0, TRUE FROM SYSTEM_RANGE(1, ?)", rows);
+        jdbcTemplate.update("INSERT INTO orders (order_table_id, order_status, ordered_time)"
+                + " SELECT 1, 3, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, ?)", rows);
+        jdbcTemplate.update("INSERT INTO order_line_item (order_id, menu_id, quantity)"
+                + " SELECT (SELECT MIN(id) FROM orders), 1, X FROM SYSTEM_RANGE(1, ?)", rows);
+    }
+
+    /**
+     * 주문 테이블 1000개에 주문을 고르게 나누고, 주문 상태는 조리 중, 식사 중, 계산 완료 순으로 돌아가며 지정한다.
+     */
+    static void seedOrders(final DataSource dataSource, final int orderCount) {
+        final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO table_group (id, created_date)"
+                + " SELECT X, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, ?)", ORDER_TABLE_COUNT / TABLE_GROUP_SIZE);
+        jdbcTemplate.update("INSERT INTO order_table (id, table_group_id, number_of_guests, empty)"
+                + " SELECT X, (X - ?) / ? + 1, 4, FALSE FROM SYSTEM_RANGE(?, ?)",
+                FIRST_ORDER_TABLE_ID, TABLE_GROUP_SIZE, FIRST_ORDER_TABLE_ID,
+                FIRST_ORDER_TABLE_ID + ORDER_TABLE_COUNT - 1);
+        jdbcTemplate.update("INSERT INTO orders (id, order_table_id, order_status, ordered_time)"
+                + " SELECT X, MOD(X, ?) + ?,"
+                + " CASE MOD(X, 3) WHEN 0 THEN 1 WHEN 1 THEN 2 ELSE 3 END,"
+                + " CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, ?)",
+                ORDER_TABLE_COUNT, FIRST_ORDER_TABLE_ID, orderCount);
+        jdbcTemplate.execute("ALTER SEQUENCE orders_id_seq RESTART WITH " + (orderCount + 1L));
+        jdbcTemplate.update("INSERT INTO order_line_item (order_id, menu_id, quantity)"
+                + " SELECT X, MOD(X, 6) + 1, 1 FROM SYSTEM_RANGE(1, ?)", orderCount);
+    }
+}
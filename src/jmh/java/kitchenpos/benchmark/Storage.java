@@ -0,0 +1,76 @@
+package kitchenpos.benchmark;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import kitchenpos.dao.JdbcTemplateMenuDao;
+import kitchenpos.dao.JdbcTemplateMenuGroupDao;
+import kitchenpos.dao.JdbcTemplateMenuProductDao;
+import kitchenpos.dao.JdbcTemplateMenuSalesDao;
+import kitchenpos.dao.JdbcTemplateOrderDao;
+import kitchenpos.dao.JdbcTemplateOrderLineItemDao;
+import kitchenpos.dao.JdbcTemplateOrderTableDao;
+import kitchenpos.dao.JdbcTemplateProductDao;
+import kitchenpos.dao.JdbcTemplateTableGroupDao;
+import kitchenpos.inmemorydao.InMemoryMenuDao;
+import kitchenpos.inmemorydao.InMemoryMenuGroupDao;
+import kitchenpos.inmemorydao.InMemoryMenuProductDao;
+import kitchenpos.inmemorydao.InMemoryMenuSalesDao;
+import kitchenpos.inmemorydao.InMemoryOrderDao;
+import kitchenpos.inmemorydao.InMemoryOrderLineItemDao;
+import kitchenpos.inmemorydao.InMemoryOrderTableDao;
+import kitchenpos.inmemorydao.InMemoryProductDao;
+import kitchenpos.inmemorydao.InMemoryTableGroupDao;
+
+public enum Storage {
+    IN_MEMORY {
+        @Override
+        public Daos create() {
+            return new Daos(
+                    new InMemoryProductDao(),
+                    new InMemoryMenuGroupDao(),
+                    new InMemoryMenuDao(),
+                    new InMemoryMenuProductDao(),
+                    new InMemoryOrderTableDao(),
+                    new InMemoryTableGroupDao(),
+                    new InMemoryOrderDao(),
+                    new InMemoryOrderLineItemDao(),
+                    new InMemoryMenuSalesDao()
+            );
+        }
+    },
+    H2 {
+        @Override
+        public Daos create() {
+            final DataSource dataSource = createDataSource();
+            return new Daos(
+                    new JdbcTemplateProductDao(dataSource),
+                    new JdbcTemplateMenuGroupDao(dataSource),
+                    new JdbcTemplateMenuDao(dataSource),
+                    new JdbcTemplateMenuProductDao(dataSource),
+                    new JdbcTemplateOrderTableDao(dataSource),
+                    new JdbcTemplateTableGroupDao(dataSource),
+                    new JdbcTemplateOrderDao(dataSource),
+                    new JdbcTemplateOrderLineItemDao(dataSource),
+                    new JdbcTemplateMenuSalesDao(dataSource)
+            );
+        }
+    };
+
+    public abstract Daos create();
+
+    public static DataSource createDataSource() {
+        final DataSource dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        Flyway.configure()
+                .dataSource(dataSource)
+                .load()
+                .migrate();
+        return dataSource;
+    }
+}
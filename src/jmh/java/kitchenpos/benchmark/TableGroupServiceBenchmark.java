@@ -0,0 +1,63 @@
+package kitchenpos.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import kitchenpos.application.ActiveOrderIndex;
+import kitchenpos.application.TableGroupService;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.TableGroup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TableGroupServiceBenchmark {
+    @Param({"IN_MEMORY", "H2"})
+    public Storage storage;
+
+    @Param({"2", "10", "50"})
+    public int orderTableCount;
+
+    private Daos daos;
+    private TableGroupService tableGroupService;
+    private List<OrderTable> orderTables;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        daos = storage.create();
+        tableGroupService = new TableGroupService(new ActiveOrderIndex(daos.orderDao), daos.orderTableDao,
+                daos.tableGroupDao);
+    }
+
+    @Setup(Level.Invocation)
+    public void saveEmptyOrderTables() {
+        orderTables = new ArrayList<>();
+        for (int i = 0; i < orderTableCount; i++) {
+            orderTables.add(Fixtures.saveOrderTable(daos, true));
+        }
+    }
+
+    @Benchmark
+    public TableGroup create() {
+        final TableGroup tableGroup = new TableGroup();
+        tableGroup.setOrderTables(orderTables);
+        return tableGroupService.create(tableGroup);
+    }
+}
@@ -0,0 +1,56 @@
+package kitchenpos.application;
+
+import kitchenpos.dao.OrderDao;
+import kitchenpos.domain.OrderStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 주문 테이블에 조리 중, 식사 중인 주문이 있는지 확인한다. 판단 기준은 데이터베이스이며,
+ * 이 인스턴스의 대기열에 접수했지만 아직 저장되지 않은 주문만 주문 테이블별로 세어 함께 확인한다.
+ * 다른 인스턴스에서 등록하거나 계산 완료한 주문도 데이터베이스에서 확인하므로 인스턴스마다 결과가 어긋나지 않는다.
+ */
+@Component
+public class ActiveOrderIndex {
+    private static final List<OrderStatus> ACTIVE_ORDER_STATUSES =
+            Arrays.asList(OrderStatus.COOKING, OrderStatus.MEAL);
+
+    private final OrderDao orderDao;
+    private final ConcurrentMap<Long, Long> pendingCounts = new ConcurrentHashMap<>();
+
+    public ActiveOrderIndex(final OrderDao orderDao) {
+        this.orderDao = orderDao;
+    }
+
+    public boolean hasActiveOrder(final Long orderTableId) {
+        if (pendingCounts.containsKey(orderTableId)) {
+            return true;
+        }
+        return orderDao.existsByOrderTableIdAndOrderStatusIn(orderTableId, ACTIVE_ORDER_STATUSES);
+    }
+
+    public boolean hasActiveOrderIn(final List<Long> orderTableIds) {
+        if (orderTableIds.isEmpty()) {
+            return false;
+        }
+        if (orderTableIds.stream().anyMatch(pendingCounts::containsKey)) {
+            return true;
+        }
+        return orderDao.existsByOrderTableIdInAndOrderStatusIn(orderTableIds, ACTIVE_ORDER_STATUSES);
+    }
+
+    /**
+     * 접수했지만 아직 저장되지 않은 주문을 센다. 저장이 커밋되거나 실패하면 {@link #remove(Long)}로 지운다.
+     */
+    public void add(final Long orderTableId) {
+        pendingCounts.merge(orderTableId, 1L, Long::sum);
+    }
+
+    public void remove(final Long orderTableId) {
+        pendingCounts.computeIfPresent(orderTableId, (key, count) -> count > 1 ? count - 1 : null);
+    }
+}
@@ -0,0 +1,186 @@
+package kitchenpos.application;
+
+import kitchenpos.dao.MenuDao;
+import kitchenpos.dao.MenuGroupDao;
+import kitchenpos.dao.MenuProductDao;
+import kitchenpos.dao.ProductDao;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.MenuProduct;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * 상품, 메뉴 그룹, 메뉴를 인스턴스마다 메모리에 들고 있는 캐시. 이 인스턴스에서 저장한 변경은 커밋된 뒤 바로 반영하고,
+ * 다른 인스턴스나 SQL로 바뀐 내용은 사본을 불러온 지 {@value #SNAPSHOT_TTL_SECONDS}초가 지나 다시 불러올 때 반영한다.
+ * 검증에 쓰는 메뉴와 메뉴 그룹은 사본에 없으면 데이터베이스에서 다시 찾는다.
+ */
+@Component
+public class Catalog {
+    public static final long SNAPSHOT_TTL_SECONDS = 60L;
+
+    private static final long SNAPSHOT_TTL_NANOS = TimeUnit.SECONDS.toNanos(SNAPSHOT_TTL_SECONDS);
+
+    private final ProductDao productDao;
+    private final MenuGroupDao menuGroupDao;
+    private final MenuDao menuDao;
+    private final MenuProductDao menuProductDao;
+
+    private volatile CatalogSnapshot snapshot;
+    private volatile long loadedAt;
+
+    public Catalog(
+            final ProductDao productDao,
+            final MenuGroupDao menuGroupDao,
+            final MenuDao menuDao,
+            final MenuProductDao menuProductDao
+    ) {
+        this.productDao = productDao;
+        this.menuGroupDao = menuGroupDao;
+        this.menuDao = menuDao;
+        this.menuProductDao = menuProductDao;
+    }
+
+    public CatalogSnapshot snapshot() {
+        final CatalogSnapshot current = snapshot;
+        if (Objects.nonNull(current) && !isExpired()) {
+            return current;
+        }
+        return load();
+    }
+
+    /**
+     * 메뉴 id별로 메뉴를 찾는다. 스냅샷에 없는 메뉴는 데이터베이스에서 한 번에 찾아 스냅샷에 더하므로
+     * 다른 인스턴스나 SQL로 추가된 메뉴도 찾을 수 있다. 어디에도 없는 메뉴는 결과에 담지 않는다.
+     */
+    public Map<Long, Menu> findMenus(final Collection<Long> menuIds) {
+        final CatalogSnapshot current = snapshot();
+        final Map<Long, Menu> menus = new LinkedHashMap<>();
+        final Set<Long> missingMenuIds = new LinkedHashSet<>();
+        for (final Long menuId : menuIds) {
+            if (Objects.isNull(menuId) || menus.containsKey(menuId) || missingMenuIds.contains(menuId)) {
+                continue;
+            }
+            final Optional<Menu> menu = current.findMenu(menuId);
+            if (menu.isPresent()) {
+                menus.put(menuId, menu.get());
+            } else {
+                missingMenuIds.add(menuId);
+            }
+        }
+
+        if (!missingMenuIds.isEmpty()) {
+            final List<Menu> foundMenus = withMenuProducts(menuDao.findAllByIdIn(new ArrayList<>(missingMenuIds)));
+            for (final Menu menu : foundMenus) {
+                menus.put(menu.getId(), menu);
+            }
+            if (!foundMenus.isEmpty()) {
+                update(snapshot -> snapshot.withMenus(foundMenus));
+            }
+        }
+
+        return menus;
+    }
+
+    /**
+     * 존재하는 메뉴 그룹의 id를 찾는다. 사본에 없는 메뉴 그룹은 데이터베이스에서 찾아 사본에 더한다.
+     */
+    public Set<Long> findMenuGroupIds(final Collection<Long> menuGroupIds) {
+        final CatalogSnapshot current = snapshot();
+        final Set<Long> foundMenuGroupIds = new LinkedHashSet<>();
+        final Set<Long> missingMenuGroupIds = new LinkedHashSet<>();
+        final List<MenuGroup> foundMenuGroups = new ArrayList<>();
+        for (final Long menuGroupId : menuGroupIds) {
+            if (Objects.isNull(menuGroupId) || foundMenuGroupIds.contains(menuGroupId)
+                    || missingMenuGroupIds.contains(menuGroupId)) {
+                continue;
+            }
+            if (current.containsMenuGroup(menuGroupId)) {
+                foundMenuGroupIds.add(menuGroupId);
+                continue;
+            }
+            final Optional<MenuGroup> menuGroup = menuGroupDao.findById(menuGroupId);
+            if (menuGroup.isPresent()) {
+                foundMenuGroupIds.add(menuGroupId);
+                foundMenuGroups.add(menuGroup.get());
+            } else {
+                missingMenuGroupIds.add(menuGroupId);
+            }
+        }
+
+        if (!foundMenuGroups.isEmpty()) {
+            update(snapshot -> snapshot.withMenuGroups(foundMenuGroups));
+        }
+
+        return foundMenuGroupIds;
+    }
+
+    /**
+     * 중복을 제외하고 존재하는 메뉴의 수를 센다.
+     */
+    public long countMenusByIdIn(final List<Long> menuIds) {
+        return findMenus(menuIds).size();
+    }
+
+    public void update(final UnaryOperator<CatalogSnapshot> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(change);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                apply(change);
+            }
+        });
+    }
+
+    private synchronized CatalogSnapshot load() {
+        if (Objects.isNull(snapshot) || isExpired()) {
+            final List<Menu> menus = withMenuProducts(menuDao.findAll());
+            snapshot = CatalogSnapshot.of(productDao.findAll(), menuGroupDao.findAll(), menus);
+            loadedAt = System.nanoTime();
+        }
+        return snapshot;
+    }
+
+    private boolean isExpired() {
+        return System.nanoTime() - loadedAt >= SNAPSHOT_TTL_NANOS;
+    }
+
+    private List<Menu> withMenuProducts(final List<Menu> menus) {
+        if (menus.isEmpty()) {
+            return menus;
+        }
+        final List<Long> menuIds = menus.stream()
+                .map(Menu::getId)
+                .collect(Collectors.toList());
+        final Map<Long, List<MenuProduct>> menuProductsByMenuId = menuProductDao.findAllByMenuIdIn(menuIds)
+                .stream()
+                .collect(Collectors.groupingBy(MenuProduct::getMenuId));
+        for (final Menu menu : menus) {
+            menu.setMenuProducts(menuProductsByMenuId.getOrDefault(menu.getId(), new ArrayList<>()));
+        }
+        return menus;
+    }
+
+    private synchronized void apply(final UnaryOperator<CatalogSnapshot> change) {
+        if (Objects.nonNull(snapshot)) {
+            snapshot = change.apply(snapshot);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.Product;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 상품, 메뉴 그룹, 메뉴의 불변 사본. 변경 시 버전이 하나 증가한 새 사본을 만든다.
+ * 엔티티는 넣을 때와 꺼낼 때 복사하므로 호출한 쪽에서 수정해도 사본은 바뀌지 않는다.
+ * 리비전은 데이터베이스에서 불러올 때마다 새로 정하는 epoch와 버전으로 만들어 다른 인스턴스의 같은 버전과 구분한다.
+ */
+public final class CatalogSnapshot {
+    private final String epoch;
+    private final long version;
+    private final Map<Long, Product> products;
+    private final Map<Long, MenuGroup> menuGroups;
+    private final Map<Long, Menu> menus;
+
+    private CatalogSnapshot(
+            final String epoch,
+            final long version,
+            final Map<Long, Product> products,
+            final Map<Long, MenuGroup> menuGroups,
+            final Map<Long, Menu> menus
+    ) {
+        this.epoch = epoch;
+        this.version = version;
+        this.products = Collections.unmodifiableMap(products);
+        this.menuGroups = Collections.unmodifiableMap(menuGroups);
+        this.menus = Collections.unmodifiableMap(menus);
+    }
+
+    public static CatalogSnapshot of(
+            final List<Product> products,
+            final List<MenuGroup> menuGroups,
+            final List<Menu> menus
+    ) {
+        return new CatalogSnapshot(UUID.randomUUID().toString(), 1L,
+                toMap(products, Product::getId, CatalogSnapshot::copyProduct),
+                toMap(menuGroups, MenuGroup::getId, CatalogSnapshot::copyMenuGroup),
+                toMap(menus, Menu::getId, CatalogSnapshot::copyMenu));
+    }
+
+    private static <T> Map<Long, T> toMap(
+            final List<T> entities,
+            final Function<T, Long> idExtractor,
+            final Function<T, T> copier
+    ) {
+        return entities.stream()
+                .collect(Collectors.toMap(idExtractor, copier, (first, second) -> second, LinkedHashMap::new));
+    }
+
+    private static Product copyProduct(final Product source) {
+        final Product product = new Product();
+        product.setId(source.getId());
+        product.setName(source.getName());
+        product.setPrice(source.getPrice());
+        return product;
+    }
+
+    private static MenuGroup copyMenuGroup(final MenuGroup source) {
+        final MenuGroup menuGroup = new MenuGroup();
+        menuGroup.setId(source.getId());
+        menuGroup.setName(source.getName());
+        return menuGroup;
+    }
+
+    private static Menu copyMenu(final Menu source) {
+        final Menu menu = new Menu();
+        menu.setId(source.getId());
+        menu.setName(source.getName());
+        menu.setPrice(source.getPrice());
+        menu.setMenuGroupId(source.getMenuGroupId());
+        if (Objects.nonNull(source.getMenuProducts())) {
+            menu.setMenuProducts(source.getMenuProducts()
+                    .stream()
+                    .map(CatalogSnapshot::copyMenuProduct)
+                    .collect(Collectors.toList()));
+        }
+        return menu;
+    }
+
+    private static MenuProduct copyMenuProduct(final MenuProduct source) {
+        final MenuProduct menuProduct = new MenuProduct();
+        menuProduct.setSeq(source.getSeq());
+        menuProduct.setMenuId(source.getMenuId());
+        menuProduct.setProductId(source.getProductId());
+        menuProduct.setQuantity(source.getQuantity());
+        return menuProduct;
+    }
+
+    public CatalogSnapshot withProduct(final Product product) {
+        final Map<Long, Product> products = new LinkedHashMap<>(this.products);
+        products.put(product.getId(), copyProduct(product));
+        return new CatalogSnapshot(epoch, version + 1, products, menuGroups, menus);
+    }
+
+    public CatalogSnapshot withProducts(final List<Product> products) {
+        final Map<Long, Product> merged = new LinkedHashMap<>(this.products);
+        for (final Product product : products) {
+            merged.put(product.getId(), copyProduct(product));
+        }
+        return new CatalogSnapshot(epoch, version + 1, merged, menuGroups, menus);
+    }
+
+    public CatalogSnapshot withMenuGroup(final MenuGroup menuGroup) {
+        final Map<Long, MenuGroup> menuGroups = new LinkedHashMap<>(this.menuGroups);
+        menuGroups.put(menuGroup.getId(), copyMenuGroup(menuGroup));
+        return new CatalogSnapshot(epoch, version + 1, products, menuGroups, menus);
+    }
+
+    public CatalogSnapshot withMenuGroups(final List<MenuGroup> menuGroups) {
+        final Map<Long, MenuGroup> merged = new LinkedHashMap<>(this.menuGroups);
+        for (final MenuGroup menuGroup : menuGroups) {
+            merged.put(menuGroup.getId(), copyMenuGroup(menuGroup));
+        }
+        return new CatalogSnapshot(epoch, version + 1, products, merged, menus);
+    }
+
+    public CatalogSnapshot withMenu(final Menu menu) {
+        final Map<Long, Menu> menus = new LinkedHashMap<>(this.menus);
+        menus.put(menu.getId(), copyMenu(menu));
+        return new CatalogSnapshot(epoch, version + 1, products, menuGroups, menus);
+    }
+
+    public CatalogSnapshot withMenus(final List<Menu> menus) {
+        final Map<Long, Menu> merged = new LinkedHashMap<>(this.menus);
+        for (final Menu menu : menus) {
+            merged.put(menu.getId(), copyMenu(menu));
+        }
+        return new CatalogSnapshot(epoch, version + 1, products, menuGroups, merged);
+    }
+
+    public Optional<Product> findProduct(final Long productId) {
+        return Optional.ofNullable(products.get(productId))
+                .map(CatalogSnapshot::copyProduct);
+    }
+
+    public Optional<Menu> findMenu(final Long menuId) {
+        return Optional.ofNullable(menus.get(menuId))
+                .map(CatalogSnapshot::copyMenu);
+    }
+
+    public boolean containsMenuGroup(final Long menuGroupId) {
+        return menuGroups.containsKey(menuGroupId);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public String getRevision() {
+        return epoch + "-" + version;
+    }
+
+    public List<Product> getProducts() {
+        return products.values()
+                .stream()
+                .map(CatalogSnapshot::copyProduct)
+                .collect(Collectors.toList());
+    }
+
+    public List<MenuGroup> getMenuGroups() {
+        return menuGroups.values()
+                .stream()
+                .map(CatalogSnapshot::copyMenuGroup)
+                .collect(Collectors.toList());
+    }
+
+    public List<Menu> getMenus() {
+        return menus.values()
+                .stream()
+                .map(CatalogSnapshot::copyMenu)
+                .collect(Collectors.toList());
+    }
+}
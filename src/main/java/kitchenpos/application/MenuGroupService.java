@@ -10,17 +10,26 @@ import java.util.List;
 @Service
 public class MenuGroupService {
     private final MenuGroupDao menuGroupDao;
+    private final Catalog catalog;
 
-    public MenuGroupService(final MenuGroupDao menuGroupDao) {
+    public MenuGroupService(final MenuGroupDao menuGroupDao, final Catalog catalog) {
         this.menuGroupDao = menuGroupDao;
+        this.catalog = catalog;
     }
 
     @Transactional
     public MenuGroup create(final MenuGroup menuGroup) {
-        return menuGroupDao.save(menuGroup);
+        final MenuGroup savedMenuGroup = menuGroupDao.save(menuGroup);
+        catalog.update(snapshot -> snapshot.withMenuGroup(savedMenuGroup));
+
+        return savedMenuGroup;
     }
 
     public List<MenuGroup> list() {
-        return menuGroupDao.findAll();
+        return catalog.snapshot().getMenuGroups();
+    }
+
+    public String revision() {
+        return catalog.snapshot().getRevision();
     }
 }
@@ -0,0 +1,53 @@
+package kitchenpos.application;
+
+import kitchenpos.dao.MenuDao;
+import kitchenpos.dao.MenuProductDao;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuProduct;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 검증을 마친 메뉴 묶음 하나를 한 트랜잭션에서 배치로 저장한다.
+ */
+@Component
+public class MenuImportWriter {
+    private final MenuDao menuDao;
+    private final MenuProductDao menuProductDao;
+    private final Catalog catalog;
+
+    public MenuImportWriter(final MenuDao menuDao, final MenuProductDao menuProductDao, final Catalog catalog) {
+        this.menuDao = menuDao;
+        this.menuProductDao = menuProductDao;
+        this.catalog = catalog;
+    }
+
+    @Transactional
+    public List<Menu> write(final List<Menu> menus) {
+        final List<Menu> savedMenus = menuDao.saveAll(menus);
+
+        final List<MenuProduct> menuProducts = new ArrayList<>();
+        for (int i = 0; i < menus.size(); i++) {
+            final Long menuId = savedMenus.get(i).getId();
+            for (final MenuProduct menuProduct : menus.get(i).getMenuProducts()) {
+                menuProduct.setMenuId(menuId);
+                menuProducts.add(menuProduct);
+            }
+        }
+
+        final Map<Long, List<MenuProduct>> savedMenuProductsByMenuId = menuProductDao.saveAll(menuProducts)
+                .stream()
+                .collect(Collectors.groupingBy(MenuProduct::getMenuId));
+        for (final Menu savedMenu : savedMenus) {
+            savedMenu.setMenuProducts(savedMenuProductsByMenuId.getOrDefault(savedMenu.getId(), new ArrayList<>()));
+        }
+        catalog.update(current -> current.withMenus(savedMenus));
+
+        return savedMenus;
+    }
+}
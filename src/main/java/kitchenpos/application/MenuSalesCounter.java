@@ -0,0 +1,147 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.TopSellingMenu;
+import kitchenpos.domain.TopSellingMenus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * 등록된 주문의 메뉴별 수량을 1분 단위 버킷에 나눠 센다. 버킷은 하루치만 두고 돌려 쓴다.
+ * 수량은 {@link LongAdder}에 더하므로 주문이 몰려도 서로 기다리지 않으며, 커밋된 뒤에 반영한다.
+ * 데이터베이스를 조회하지 않으므로 재시작하면 0부터 다시 센다.
+ */
+@Component
+public class MenuSalesCounter {
+    public static final int MAX_TOP_SIZE = 100;
+    public static final int LAST_FIFTEEN_MINUTES = 15;
+    public static final int LAST_HOUR = 60;
+    public static final int LAST_DAY = 24 * 60;
+
+    private final LongSupplier currentTimeMillis;
+    private final AtomicReferenceArray<Bucket> buckets = new AtomicReferenceArray<>(LAST_DAY);
+
+    public MenuSalesCounter() {
+        this(System::currentTimeMillis);
+    }
+
+    MenuSalesCounter(final LongSupplier currentTimeMillis) {
+        this.currentTimeMillis = currentTimeMillis;
+    }
+
+    public void add(final List<OrderLineItem> orderLineItems) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increment(orderLineItems);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                increment(orderLineItems);
+            }
+        });
+    }
+
+    /**
+     * 최근 15분, 1시간, 하루 동안 가장 많이 팔린 메뉴를 수량이 많은 순서로 {@code size}개씩 돌려준다.
+     * 현재 분의 버킷부터 과거로 한 번만 훑으며 세 구간을 차례로 모은다.
+     */
+    public TopSellingMenus top(final int size) {
+        if (size <= 0 || size > MAX_TOP_SIZE) {
+            throw new IllegalArgumentException();
+        }
+
+        final long currentMinute = currentMinute();
+        final Map<Long, Long> quantities = new HashMap<>();
+        final TopSellingMenus topSellingMenus = new TopSellingMenus();
+
+        for (int elapsedMinutes = 0; elapsedMinutes < LAST_DAY; elapsedMinutes++) {
+            final long minute = currentMinute - elapsedMinutes;
+            final Bucket bucket = buckets.get(indexOf(minute));
+            if (Objects.nonNull(bucket) && bucket.minute == minute) {
+                bucket.quantities.forEach((menuId, quantity) -> quantities.merge(menuId, quantity.sum(), Long::sum));
+            }
+
+            if (elapsedMinutes + 1 == LAST_FIFTEEN_MINUTES) {
+                topSellingMenus.setLastFifteenMinutes(top(quantities, size));
+            } else if (elapsedMinutes + 1 == LAST_HOUR) {
+                topSellingMenus.setLastHour(top(quantities, size));
+            }
+        }
+        topSellingMenus.setLastDay(top(quantities, size));
+
+        return topSellingMenus;
+    }
+
+    private void increment(final List<OrderLineItem> orderLineItems) {
+        final Bucket bucket = currentBucket();
+        for (final OrderLineItem orderLineItem : orderLineItems) {
+            bucket.quantities.computeIfAbsent(orderLineItem.getMenuId(), menuId -> new LongAdder())
+                    .add(orderLineItem.getQuantity());
+        }
+    }
+
+    /**
+     * 현재 분의 버킷을 돌려준다. 자리에 하루 전의 버킷이 남아 있으면 새 버킷으로 바꾼다.
+     */
+    private Bucket currentBucket() {
+        final long minute = currentMinute();
+        final int index = indexOf(minute);
+        while (true) {
+            final Bucket bucket = buckets.get(index);
+            if (Objects.nonNull(bucket) && bucket.minute >= minute) {
+                return bucket;
+            }
+            final Bucket newBucket = new Bucket(minute);
+            if (buckets.compareAndSet(index, bucket, newBucket)) {
+                return newBucket;
+            }
+        }
+    }
+
+    private long currentMinute() {
+        return TimeUnit.MILLISECONDS.toMinutes(currentTimeMillis.getAsLong());
+    }
+
+    private int indexOf(final long minute) {
+        return (int)Math.floorMod(minute, (long)LAST_DAY);
+    }
+
+    private List<TopSellingMenu> top(final Map<Long, Long> quantities, final int size) {
+        return quantities.entrySet()
+                .stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(size)
+                .map(entry -> {
+                    final TopSellingMenu topSellingMenu = new TopSellingMenu();
+                    topSellingMenu.setMenuId(entry.getKey());
+                    topSellingMenu.setQuantity(entry.getValue());
+                    return topSellingMenu;
+                })
+                .collect(Collectors.toList());
+    }
+
+    private static class Bucket {
+        private final long minute;
+        private final ConcurrentMap<Long, LongAdder> quantities = new ConcurrentHashMap<>();
+
+        private Bucket(final long minute) {
+            this.minute = minute;
+        }
+    }
+}
@@ -1,84 +1,245 @@
 package kitchenpos.application;
 
 import kitchenpos.dao.MenuDao;
-import kitchenpos.dao.MenuGroupDao;
 import kitchenpos.dao.MenuProductDao;
 import kitchenpos.dao.ProductDao;
 import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuImportError;
+import kitchenpos.domain.MenuImportErrorReason;
+import kitchenpos.domain.MenuImportResult;
 import kitchenpos.domain.MenuProduct;
 import kitchenpos.domain.Product;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.CollectionUtils;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class MenuService {
+    public static final int MAX_IMPORT_SIZE = 10_000;
+    public static final int IMPORT_CHUNK_SIZE = 500;
+
+    private static final int MAX_NAME_LENGTH = 255;
+    private static final int MAX_PRICE_PRECISION = 19;
+    private static final int MAX_PRICE_SCALE = 2;
+
     private final MenuDao menuDao;
-    private final MenuGroupDao menuGroupDao;
     private final MenuProductDao menuProductDao;
     private final ProductDao productDao;
+    private final Catalog catalog;
+    private final MenuImportWriter menuImportWriter;
 
     public MenuService(
             final MenuDao menuDao,
-            final MenuGroupDao menuGroupDao,
             final MenuProductDao menuProductDao,
-            final ProductDao productDao
+            final ProductDao productDao,
+            final Catalog catalog,
+            final MenuImportWriter menuImportWriter
     ) {
         this.menuDao = menuDao;
-        this.menuGroupDao = menuGroupDao;
         this.menuProductDao = menuProductDao;
         this.productDao = productDao;
+        this.catalog = catalog;
+        this.menuImportWriter = menuImportWriter;
     }
 
     @Transactional
     public Menu create(final Menu menu) {
-        final BigDecimal price = menu.getPrice();
+        final List<Menu> menus = Collections.singletonList(menu);
+        final Map<Long, BigDecimal> prices = findPrices(catalog.snapshot(), collectMenuProducts(menus));
+        final Set<Long> menuGroupIds = catalog.findMenuGroupIds(collectMenuGroupIds(menus));
 
-        if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
+        if (validate(menu, menuGroupIds, prices).isPresent()) {
             throw new IllegalArgumentException();
         }
 
-        if (!menuGroupDao.existsById(menu.getMenuGroupId())) {
+        final List<MenuProduct> menuProducts = menu.getMenuProducts();
+        final Menu savedMenu = menuDao.save(menu);
+
+        final Long menuId = savedMenu.getId();
+        for (final MenuProduct menuProduct : menuProducts) {
+            menuProduct.setMenuId(menuId);
+        }
+        savedMenu.setMenuProducts(menuProductDao.saveAll(menuProducts));
+        catalog.update(current -> current.withMenu(savedMenu));
+
+        return savedMenu;
+    }
+
+    public MenuImportResult importMenus(final List<Menu> menus) {
+        if (CollectionUtils.isEmpty(menus) || menus.size() > MAX_IMPORT_SIZE) {
             throw new IllegalArgumentException();
         }
 
+        final Map<Long, BigDecimal> prices = findPrices(catalog.snapshot(), collectMenuProducts(menus));
+        final Set<Long> menuGroupIds = catalog.findMenuGroupIds(collectMenuGroupIds(menus));
+
+        final List<MenuImportError> errors = new ArrayList<>();
+        final List<Integer> validIndexes = new ArrayList<>();
+        for (int index = 0; index < menus.size(); index++) {
+            final Optional<MenuImportErrorReason> reason = validate(menus.get(index), menuGroupIds, prices);
+            if (reason.isPresent()) {
+                errors.add(importError(index, reason.get()));
+            } else {
+                validIndexes.add(index);
+            }
+        }
+
+        final List<Long> menuIds = new ArrayList<>();
+        for (int from = 0; from < validIndexes.size(); from += IMPORT_CHUNK_SIZE) {
+            final List<Integer> chunkIndexes =
+                    validIndexes.subList(from, Math.min(from + IMPORT_CHUNK_SIZE, validIndexes.size()));
+            final List<Menu> chunk = chunkIndexes.stream()
+                    .map(menus::get)
+                    .collect(Collectors.toList());
+            try {
+                for (final Menu savedMenu : menuImportWriter.write(chunk)) {
+                    menuIds.add(savedMenu.getId());
+                }
+            } catch (final DataAccessException e) {
+                for (final Integer index : chunkIndexes) {
+                    errors.add(importError(index, MenuImportErrorReason.SAVE_FAILED));
+                }
+            }
+        }
+        errors.sort(Comparator.comparingInt(MenuImportError::getIndex));
+
+        final MenuImportResult result = new MenuImportResult();
+        result.setMenuIds(menuIds);
+        result.setErrors(errors);
+
+        return result;
+    }
+
+    public List<Menu> list() {
+        return catalog.snapshot().getMenus();
+    }
+
+    public String revision() {
+        return catalog.snapshot().getRevision();
+    }
+
+    private Optional<MenuImportErrorReason> validate(
+            final Menu menu,
+            final Set<Long> menuGroupIds,
+            final Map<Long, BigDecimal> prices
+    ) {
+        if (Objects.isNull(menu)) {
+            return Optional.of(MenuImportErrorReason.INVALID_MENU);
+        }
+
+        final BigDecimal price = menu.getPrice();
+
+        if (!isValidPrice(price)) {
+            return Optional.of(MenuImportErrorReason.INVALID_PRICE);
+        }
+
+        if (!menuGroupIds.contains(menu.getMenuGroupId())) {
+            return Optional.of(MenuImportErrorReason.MENU_GROUP_NOT_FOUND);
+        }
+
         final List<MenuProduct> menuProducts = menu.getMenuProducts();
 
+        if (Objects.isNull(menuProducts) || menuProducts.contains(null)
+                || menuProducts.stream().anyMatch(menuProduct -> menuProduct.getQuantity() <= 0)) {
+            return Optional.of(MenuImportErrorReason.INVALID_MENU_PRODUCTS);
+        }
+
         BigDecimal sum = BigDecimal.ZERO;
         for (final MenuProduct menuProduct : menuProducts) {
-            final Product product = productDao.findById(menuProduct.getProductId())
-                    .orElseThrow(IllegalArgumentException::new);
-            sum = sum.add(product.getPrice().multiply(BigDecimal.valueOf(menuProduct.getQuantity())));
+            final BigDecimal productPrice = prices.get(menuProduct.getProductId());
+            if (Objects.isNull(productPrice)) {
+                return Optional.of(MenuImportErrorReason.PRODUCT_NOT_FOUND);
+            }
+            sum = sum.add(productPrice.multiply(BigDecimal.valueOf(menuProduct.getQuantity())));
         }
 
         if (price.compareTo(sum) > 0) {
-            throw new IllegalArgumentException();
+            return Optional.of(MenuImportErrorReason.PRICE_EXCEEDS_PRODUCTS_SUM);
         }
 
-        final Menu savedMenu = menuDao.save(menu);
+        if (Objects.isNull(menu.getName()) || menu.getName().length() > MAX_NAME_LENGTH) {
+            return Optional.of(MenuImportErrorReason.INVALID_NAME);
+        }
 
-        final Long menuId = savedMenu.getId();
-        final List<MenuProduct> savedMenuProducts = new ArrayList<>();
-        for (final MenuProduct menuProduct : menuProducts) {
-            menuProduct.setMenuId(menuId);
-            savedMenuProducts.add(menuProductDao.save(menuProduct));
+        return Optional.empty();
+    }
+
+    /**
+     * 0 이상이고 DECIMAL(19, 2) 컬럼에 잘리지 않고 들어가는 가격인지 확인한다.
+     */
+    private boolean isValidPrice(final BigDecimal price) {
+        if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
+            return false;
         }
-        savedMenu.setMenuProducts(savedMenuProducts);
+        final BigDecimal stripped = price.stripTrailingZeros();
+        return stripped.scale() <= MAX_PRICE_SCALE
+                && stripped.precision() - stripped.scale() <= MAX_PRICE_PRECISION - MAX_PRICE_SCALE;
+    }
 
-        return savedMenu;
+    private List<Long> collectMenuGroupIds(final List<Menu> menus) {
+        return menus.stream()
+                .filter(Objects::nonNull)
+                .map(Menu::getMenuGroupId)
+                .collect(Collectors.toList());
     }
 
-    public List<Menu> list() {
-        final List<Menu> menus = menuDao.findAll();
+    private List<MenuProduct> collectMenuProducts(final List<Menu> menus) {
+        return menus.stream()
+                .filter(Objects::nonNull)
+                .map(Menu::getMenuProducts)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
 
-        for (final Menu menu : menus) {
-            menu.setMenuProducts(menuProductDao.findAllByMenuId(menu.getId()));
+    private Map<Long, BigDecimal> findPrices(final CatalogSnapshot snapshot, final List<MenuProduct> menuProducts) {
+        final Map<Long, BigDecimal> prices = new HashMap<>();
+        final Set<Long> missingProductIds = new LinkedHashSet<>();
+        for (final MenuProduct menuProduct : menuProducts) {
+            final Long productId = menuProduct.getProductId();
+            if (Objects.isNull(productId) || prices.containsKey(productId) || missingProductIds.contains(productId)) {
+                continue;
+            }
+            final Optional<Product> product = snapshot.findProduct(productId);
+            if (product.isPresent()) {
+                prices.put(productId, product.get().getPrice());
+            } else {
+                missingProductIds.add(productId);
+            }
         }
 
-        return menus;
+        if (!missingProductIds.isEmpty()) {
+            final List<Product> products = productDao.findAllByIdIn(new ArrayList<>(missingProductIds));
+            for (final Product product : products) {
+                prices.put(product.getId(), product.getPrice());
+            }
+            if (!products.isEmpty()) {
+                catalog.update(current -> current.withProducts(products));
+            }
+        }
+
+        return prices;
+    }
+
+    private MenuImportError importError(final int index, final MenuImportErrorReason reason) {
+        final MenuImportError error = new MenuImportError();
+        error.setIndex(index);
+        error.setReason(reason);
+        return error;
     }
 }
@@ -0,0 +1,93 @@
+package kitchenpos.application;
+
+import kitchenpos.dao.OrderArchiveDao;
+import kitchenpos.dao.OrderDao;
+import kitchenpos.dao.OrderLineItemDao;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 계산 완료된 주문을 주문 항목과 함께 보관 테이블로 옮기고, 옮긴 주문을 조회한다.
+ */
+@Service
+public class OrderArchiveService {
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private final OrderDao orderDao;
+    private final OrderLineItemDao orderLineItemDao;
+    private final OrderArchiveDao orderArchiveDao;
+
+    public OrderArchiveService(
+            final OrderDao orderDao,
+            final OrderLineItemDao orderLineItemDao,
+            final OrderArchiveDao orderArchiveDao
+    ) {
+        this.orderDao = orderDao;
+        this.orderLineItemDao = orderLineItemDao;
+        this.orderArchiveDao = orderArchiveDao;
+    }
+
+    /**
+     * 지정한 주문 중 계산 완료된 주문만 한 트랜잭션에서 옮기고, 옮긴 주문의 수를 돌려준다.
+     * 주문을 잠근 뒤 옮기므로 다른 인스턴스가 같은 주문을 옮기고 있으면 끝날 때까지 기다렸다가 남은 주문만 옮긴다.
+     */
+    @Transactional
+    public int archive(final List<Long> orderIds) {
+        final List<Order> completedOrders = orderDao.findAllByIdInForUpdate(orderIds)
+                .stream()
+                .filter(order -> order.getOrderStatus() == OrderStatus.COMPLETION)
+                .collect(Collectors.toList());
+
+        final List<Long> completedOrderIds = completedOrders.stream()
+                .map(Order::getId)
+                .collect(Collectors.toList());
+
+        final Map<Long, List<OrderLineItem>> orderLineItemsByOrderId =
+                orderLineItemDao.findAllByOrderIdIn(completedOrderIds)
+                        .stream()
+                        .collect(Collectors.groupingBy(OrderLineItem::getOrderId));
+
+        for (final Order order : completedOrders) {
+            order.setOrderLineItems(orderLineItemsByOrderId.getOrDefault(order.getId(), new ArrayList<>()));
+        }
+
+        orderArchiveDao.saveAll(completedOrders, LocalDateTime.now());
+        orderLineItemDao.deleteAllByOrderIdIn(completedOrderIds);
+        orderDao.deleteAllByIdIn(completedOrderIds);
+
+        return completedOrders.size();
+    }
+
+    @Transactional(readOnly = true)
+    public List<Order> listHistory(final Long cursor, final int size) {
+        if (Objects.isNull(cursor) || cursor < 0 || size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException();
+        }
+
+        final List<Order> orders = orderArchiveDao.findAllByIdGreaterThan(cursor, size);
+        final List<Long> orderIds = orders.stream()
+                .map(Order::getId)
+                .collect(Collectors.toList());
+
+        final Map<Long, List<OrderLineItem>> orderLineItemsByOrderId =
+                orderArchiveDao.findAllOrderLineItemsByOrderIdIn(orderIds)
+                        .stream()
+                        .collect(Collectors.groupingBy(OrderLineItem::getOrderId));
+
+        for (final Order order : orders) {
+            order.setOrderLineItems(orderLineItemsByOrderId.getOrDefault(order.getId(), new ArrayList<>()));
+        }
+
+        return orders;
+    }
+}
@@ -0,0 +1,66 @@
+package kitchenpos.application;
+
+import kitchenpos.dao.OrderDao;
+import kitchenpos.domain.OrderStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 시각이 {@code kitchenpos.order-archive.age-days}일보다 오래된 계산 완료 주문을 주기적으로 보관 테이블로 옮긴다.
+ * 한 트랜잭션에서 최대 {@value #CHUNK_SIZE}개씩 옮겨 주문을 처리하는 요청이 오래 기다리지 않게 한다.
+ * 옮기지 못한 묶음은 기록하고 건너뛰어 다음 묶음을 옮기며, 건너뛴 주문은 다음 실행에서 다시 옮긴다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "kitchenpos.order-archive", name = "enabled", havingValue = "true")
+public class OrderArchiver {
+    public static final int CHUNK_SIZE = 100;
+
+    private static final Logger log = LoggerFactory.getLogger(OrderArchiver.class);
+
+    private final OrderDao orderDao;
+    private final OrderArchiveService orderArchiveService;
+    private final long ageDays;
+
+    public OrderArchiver(
+            final OrderDao orderDao,
+            final OrderArchiveService orderArchiveService,
+            @Value("${kitchenpos.order-archive.age-days:30}") final long ageDays
+    ) {
+        this.orderDao = orderDao;
+        this.orderArchiveService = orderArchiveService;
+        this.ageDays = ageDays;
+    }
+
+    /**
+     * 옮길 주문이 남지 않을 때까지 id 순서로 나누어 옮기고, 옮긴 주문의 수를 돌려준다.
+     */
+    @Scheduled(fixedDelayString = "${kitchenpos.order-archive.interval-millis:600000}")
+    public int archive() {
+        final LocalDateTime orderedTime = LocalDateTime.now().minusDays(ageDays);
+        int archivedCount = 0;
+        long cursor = 0L;
+        List<Long> orderIds;
+        do {
+            orderIds = orderDao.findIdsByOrderStatusAndOrderedTimeBeforeAndIdGreaterThan(OrderStatus.COMPLETION,
+                    orderedTime, cursor, CHUNK_SIZE);
+            if (orderIds.isEmpty()) {
+                break;
+            }
+            try {
+                archivedCount += orderArchiveService.archive(orderIds);
+            } catch (final DataAccessException e) {
+                log.warn("Failed to archive orders {} to {}", orderIds.get(0), orderIds.get(orderIds.size() - 1), e);
+            }
+            cursor = orderIds.get(orderIds.size() - 1);
+        } while (orderIds.size() == CHUNK_SIZE);
+        return archivedCount;
+    }
+}
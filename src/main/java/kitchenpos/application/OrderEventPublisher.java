@@ -0,0 +1,194 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderEvent;
+import kitchenpos.domain.OrderEventType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * 주문 등록과 상태 변경을 커밋된 뒤에 구독자에게 알린다.
+ * 알림은 구독자마다 따로 대기열에 쌓고 구독자마다 한 번에 한 스레드가 보내므로, 느린 구독자가 다른 구독자의 알림을 늦추지 않는다.
+ * 밀린 알림이 {@value #QUEUE_CAPACITY}개를 넘거나 알림을 보내지 못한 구독자는 구독을 해지하고 그 원인을 알린다.
+ */
+@Component
+public class OrderEventPublisher {
+    public static final int QUEUE_CAPACITY = 1_000;
+
+    private static final String THREAD_NAME_PREFIX = "order-event-publisher-";
+
+    private final Executor executor;
+    private final int queueCapacity;
+    private final Map<Long, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong subscriberSequence = new AtomicLong();
+
+    public OrderEventPublisher() {
+        this(newExecutorService(), QUEUE_CAPACITY);
+    }
+
+    OrderEventPublisher(final Executor executor) {
+        this(executor, QUEUE_CAPACITY);
+    }
+
+    OrderEventPublisher(final Executor executor, final int queueCapacity) {
+        this.executor = executor;
+        this.queueCapacity = queueCapacity;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ExecutorService) {
+            ((ExecutorService)executor).shutdown();
+        }
+    }
+
+    public void publishCreated(final Order order) {
+        final OrderEvent event = toEvent(OrderEventType.CREATED, order);
+        event.setOrderLineItems(order.getOrderLineItems());
+        publish(event);
+    }
+
+    public void publishStatusChanged(final Order order) {
+        publish(toEvent(OrderEventType.STATUS_CHANGED, order));
+    }
+
+    public void publishStatusChanged(final List<Order> orders) {
+        for (final Order order : orders) {
+            publishStatusChanged(order);
+        }
+    }
+
+    /**
+     * 조건에 맞는 알림을 받을 구독자를 등록하고, 구독을 해지하는 동작을 돌려준다.
+     * 알림이 밀리거나 보내지 못해 구독을 해지하면 그 원인을 {@code errorHandler}에 넘긴다.
+     */
+    public Runnable subscribe(
+            final Predicate<OrderEvent> filter,
+            final Consumer<OrderEvent> listener,
+            final Consumer<Throwable> errorHandler
+    ) {
+        final Long subscriberId = subscriberSequence.incrementAndGet();
+        subscribers.put(subscriberId, new Subscriber(filter, listener, errorHandler, queueCapacity));
+        return () -> subscribers.remove(subscriberId);
+    }
+
+    public int countSubscribers() {
+        return subscribers.size();
+    }
+
+    private void publish(final OrderEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                dispatch(event);
+            }
+        });
+    }
+
+    private void dispatch(final OrderEvent event) {
+        subscribers.forEach((subscriberId, subscriber) -> {
+            try {
+                if (!subscriber.filter.test(event)) {
+                    return;
+                }
+            } catch (final RuntimeException e) {
+                remove(subscriberId, e);
+                return;
+            }
+            if (!subscriber.events.offer(event)) {
+                remove(subscriberId, new IllegalStateException("Subscriber fell " + queueCapacity + " events behind"));
+                return;
+            }
+            schedule(subscriberId, subscriber);
+        });
+    }
+
+    private void schedule(final Long subscriberId, final Subscriber subscriber) {
+        if (subscriber.sending.compareAndSet(false, true)) {
+            executor.execute(() -> send(subscriberId, subscriber));
+        }
+    }
+
+    private void send(final Long subscriberId, final Subscriber subscriber) {
+        try {
+            for (OrderEvent event = subscriber.events.poll(); Objects.nonNull(event);
+                    event = subscriber.events.poll()) {
+                subscriber.listener.accept(event);
+            }
+        } catch (final RuntimeException e) {
+            remove(subscriberId, e);
+            return;
+        }
+        subscriber.sending.set(false);
+        if (!subscriber.events.isEmpty()) {
+            schedule(subscriberId, subscriber);
+        }
+    }
+
+    private void remove(final Long subscriberId, final RuntimeException cause) {
+        final Subscriber subscriber = subscribers.remove(subscriberId);
+        if (Objects.nonNull(subscriber)) {
+            subscriber.errorHandler.accept(cause);
+        }
+    }
+
+    private OrderEvent toEvent(final OrderEventType type, final Order order) {
+        final OrderEvent event = new OrderEvent();
+        event.setType(type);
+        event.setOrderId(order.getId());
+        event.setOrderTableId(order.getOrderTableId());
+        event.setOrderStatus(order.getOrderStatus());
+        event.setOrderedTime(order.getOrderedTime());
+        return event;
+    }
+
+    private static ExecutorService newExecutorService() {
+        final AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static class Subscriber {
+        private final Predicate<OrderEvent> filter;
+        private final Consumer<OrderEvent> listener;
+        private final Consumer<Throwable> errorHandler;
+        private final Queue<OrderEvent> events;
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        private Subscriber(
+                final Predicate<OrderEvent> filter,
+                final Consumer<OrderEvent> listener,
+                final Consumer<Throwable> errorHandler,
+                final int queueCapacity
+        ) {
+            this.filter = filter;
+            this.listener = listener;
+            this.errorHandler = errorHandler;
+            this.events = new ArrayBlockingQueue<>(queueCapacity);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package kitchenpos.application;
+
+import kitchenpos.dao.OrderDao;
+import kitchenpos.dao.OrderTableDao;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderIntakeStatus;
+import kitchenpos.domain.OrderIntakeTicket;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 주문을 검증한 뒤 id를 부여해 대기열에 넣고 바로 돌려준다. 저장은 별도 스레드가 대기열을 비우며
+ * 최대 {@value #MAX_WRITE_SIZE}개씩 한 트랜잭션으로 처리한다.
+ * 대기열이 가득 차 {@value #OFFER_TIMEOUT_MILLIS}ms 안에 넣지 못하면 접수하지 않는다.
+ * 주문 id는 주문을 하나씩 저장할 때와 같은 데이터베이스 시퀀스에서 받으므로 인스턴스가 여럿이어도 겹치지 않는다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "kitchenpos.order-intake", name = "enabled", havingValue = "true")
+public class OrderIntake {
+    public static final int QUEUE_CAPACITY = 10_000;
+    public static final int MAX_WRITE_SIZE = 500;
+    public static final long OFFER_TIMEOUT_MILLIS = 100L;
+
+    private static final long POLL_TIMEOUT_MILLIS = 100L;
+    private static final int MAX_FAILED_ORDERS = 10_000;
+
+    private static final Logger log = LoggerFactory.getLogger(OrderIntake.class);
+
+    private final Catalog catalog;
+    private final ActiveOrderIndex activeOrderIndex;
+    private final OrderDao orderDao;
+    private final OrderTableDao orderTableDao;
+    private final OrderIntakeWriter orderIntakeWriter;
+    private final BlockingQueue<Order> queue;
+    private final ConcurrentMap<Long, OrderIntakeStatus> statuses = new ConcurrentHashMap<>();
+    private final Queue<Long> failedOrderIds = new ConcurrentLinkedQueue<>();
+
+    private volatile Thread writerThread;
+
+    public OrderIntake(
+            final Catalog catalog,
+            final ActiveOrderIndex activeOrderIndex,
+            final OrderDao orderDao,
+            final OrderTableDao orderTableDao,
+            final OrderIntakeWriter orderIntakeWriter
+    ) {
+        this(catalog, activeOrderIndex, orderDao, orderTableDao, orderIntakeWriter, QUEUE_CAPACITY);
+    }
+
+    OrderIntake(
+            final Catalog catalog,
+            final ActiveOrderIndex activeOrderIndex,
+            final OrderDao orderDao,
+            final OrderTableDao orderTableDao,
+            final OrderIntakeWriter orderIntakeWriter,
+            final int queueCapacity
+    ) {
+        this.catalog = catalog;
+        this.activeOrderIndex = activeOrderIndex;
+        this.orderDao = orderDao;
+        this.orderTableDao = orderTableDao;
+        this.orderIntakeWriter = orderIntakeWriter;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        final Thread thread = new Thread(this::drain, "order-intake-writer");
+        thread.setDaemon(true);
+        writerThread = thread;
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        final Thread thread = writerThread;
+        writerThread = null;
+        if (Objects.nonNull(thread)) {
+            thread.interrupt();
+            thread.join();
+        }
+        flush();
+    }
+
+    /**
+     * 접수한 주문을 돌려준다. 대기열이 가득 차 접수하지 못하면 빈 값을 돌려준다.
+     */
+    public Optional<Order> submit(final Order order) throws InterruptedException {
+        final List<OrderLineItem> orderLineItems = order.getOrderLineItems();
+
+        if (CollectionUtils.isEmpty(orderLineItems)) {
+            throw new IllegalArgumentException();
+        }
+
+        final List<Long> menuIds = orderLineItems.stream()
+                .map(OrderLineItem::getMenuId)
+                .collect(Collectors.toList());
+
+        if (orderLineItems.size() != catalog.countMenusByIdIn(menuIds)) {
+            throw new IllegalArgumentException();
+        }
+
+        if (orderLineItems.stream().anyMatch(orderLineItem -> orderLineItem.getQuantity() <= 0)) {
+            throw new IllegalArgumentException();
+        }
+
+        final OrderTable orderTable = orderTableDao.findById(order.getOrderTableId())
+                .orElseThrow(IllegalArgumentException::new);
+
+        if (orderTable.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+
+        final Long orderId = orderDao.nextId();
+        order.setId(orderId);
+        order.setOrderTableId(orderTable.getId());
+        order.setOrderStatus(OrderStatus.COOKING);
+        order.setOrderedTime(LocalDateTime.now());
+        for (final OrderLineItem orderLineItem : orderLineItems) {
+            orderLineItem.setOrderId(orderId);
+        }
+
+        activeOrderIndex.add(orderTable.getId());
+        statuses.put(orderId, OrderIntakeStatus.QUEUED);
+        if (!queue.offer(order, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+            statuses.remove(orderId);
+            activeOrderIndex.remove(orderTable.getId());
+            return Optional.empty();
+        }
+
+        return Optional.of(order);
+    }
+
+    /**
+     * 접수한 주문의 저장 상태를 돌려준다. 대기열에도 실패 기록에도 없으면 저장된 주문에서 찾는다.
+     */
+    public Optional<OrderIntakeTicket> findTicket(final Long orderId) {
+        final OrderIntakeStatus status = statuses.get(orderId);
+        if (Objects.nonNull(status)) {
+            return Optional.of(ticket(orderId, status));
+        }
+        return orderDao.findById(orderId)
+                .map(order -> ticket(orderId, OrderIntakeStatus.COMMITTED));
+    }
+
+    /**
+     * 대기열에 남은 주문을 모두 저장한다.
+     */
+    public void flush() {
+        final List<Order> orders = new ArrayList<>(MAX_WRITE_SIZE);
+        while (queue.drainTo(orders, MAX_WRITE_SIZE) > 0) {
+            write(orders);
+            orders.clear();
+        }
+    }
+
+    private void drain() {
+        final List<Order> orders = new ArrayList<>(MAX_WRITE_SIZE);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                final Order first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (Objects.isNull(first)) {
+                    continue;
+                }
+                orders.add(first);
+                queue.drainTo(orders, MAX_WRITE_SIZE - 1);
+                write(orders);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (final Throwable e) {
+                log.error("Failed to save {} queued orders", orders.size(), e);
+                fail(orders);
+            } finally {
+                orders.clear();
+            }
+        }
+    }
+
+    /**
+     * 묶음을 저장하지 못하면 주문을 하나씩 다시 저장해 저장할 수 없는 주문만 실패로 남긴다.
+     */
+    private void write(final List<Order> orders) {
+        try {
+            orderIntakeWriter.write(orders);
+            for (final Order order : orders) {
+                statuses.remove(order.getId());
+                activeOrderIndex.remove(order.getOrderTableId());
+            }
+        } catch (final RuntimeException e) {
+            if (orders.size() > 1) {
+                for (final Order order : orders) {
+                    write(Collections.singletonList(order));
+                }
+                return;
+            }
+            log.warn("Failed to save order {}", orders.get(0).getId(), e);
+            fail(orders);
+        }
+    }
+
+    private void fail(final List<Order> orders) {
+        for (final Order order : orders) {
+            if (statuses.replace(order.getId(), OrderIntakeStatus.QUEUED, OrderIntakeStatus.FAILED)) {
+                failedOrderIds.add(order.getId());
+                activeOrderIndex.remove(order.getOrderTableId());
+            }
+        }
+        while (failedOrderIds.size() > MAX_FAILED_ORDERS) {
+            statuses.remove(failedOrderIds.poll());
+        }
+    }
+
+    private OrderIntakeTicket ticket(final Long orderId, final OrderIntakeStatus status) {
+        final OrderIntakeTicket ticket = new OrderIntakeTicket();
+        ticket.setOrderId(orderId);
+        ticket.setStatus(status);
+        return ticket;
+    }
+}
@@ -0,0 +1,50 @@
+package kitchenpos.application;
+
+import kitchenpos.dao.OrderDao;
+import kitchenpos.dao.OrderLineItemDao;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 접수된 주문 묶음을 한 트랜잭션에서 배치로 저장한다.
+ */
+@Component
+public class OrderIntakeWriter {
+    private final OrderDao orderDao;
+    private final OrderLineItemDao orderLineItemDao;
+    private final OrderEventPublisher orderEventPublisher;
+    private final MenuSalesCounter menuSalesCounter;
+
+    public OrderIntakeWriter(
+            final OrderDao orderDao,
+            final OrderLineItemDao orderLineItemDao,
+            final OrderEventPublisher orderEventPublisher,
+            final MenuSalesCounter menuSalesCounter
+    ) {
+        this.orderDao = orderDao;
+        this.orderLineItemDao = orderLineItemDao;
+        this.orderEventPublisher = orderEventPublisher;
+        this.menuSalesCounter = menuSalesCounter;
+    }
+
+    @Transactional
+    public void write(final List<Order> orders) {
+        orderDao.insertAll(orders);
+
+        final List<OrderLineItem> orderLineItems = new ArrayList<>();
+        for (final Order order : orders) {
+            orderLineItems.addAll(order.getOrderLineItems());
+        }
+        orderLineItemDao.saveAll(orderLineItems);
+        menuSalesCounter.add(orderLineItems);
+
+        for (final Order order : orders) {
+            orderEventPublisher.publishCreated(order);
+        }
+    }
+}
@@ -1,12 +1,14 @@
 package kitchenpos.application;
 
-import kitchenpos.dao.MenuDao;
 import kitchenpos.dao.OrderDao;
 import kitchenpos.dao.OrderLineItemDao;
 import kitchenpos.dao.OrderTableDao;
 import kitchenpos.domain.Order;
 import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderSearchCondition;
 import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderStatusBatch;
+import kitchenpos.domain.OrderStatusBatchResult;
 import kitchenpos.domain.OrderTable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,27 +16,44 @@ import org.springframework.util.CollectionUtils;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 public class OrderService {
-    private final MenuDao menuDao;
+    public static final int MAX_PAGE_SIZE = 1000;
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    private final Catalog catalog;
     private final OrderDao orderDao;
     private final OrderLineItemDao orderLineItemDao;
     private final OrderTableDao orderTableDao;
+    private final OrderEventPublisher orderEventPublisher;
+    private final SalesRollupService salesRollupService;
+    private final MenuSalesCounter menuSalesCounter;
 
     public OrderService(
-            final MenuDao menuDao,
+            final Catalog catalog,
             final OrderDao orderDao,
             final OrderLineItemDao orderLineItemDao,
-            final OrderTableDao orderTableDao
+            final OrderTableDao orderTableDao,
+            final OrderEventPublisher orderEventPublisher,
+            final SalesRollupService salesRollupService,
+            final MenuSalesCounter menuSalesCounter
     ) {
-        this.menuDao = menuDao;
+        this.catalog = catalog;
         this.orderDao = orderDao;
         this.orderLineItemDao = orderLineItemDao;
         this.orderTableDao = orderTableDao;
+        this.orderEventPublisher = orderEventPublisher;
+        this.salesRollupService = salesRollupService;
+        this.menuSalesCounter = menuSalesCounter;
     }
 
     @Transactional
@@ -49,7 +68,7 @@ public class OrderService {
                 .map(OrderLineItem::getMenuId)
                 .collect(Collectors.toList());
 
-        if (orderLineItems.size() != menuDao.countByIdIn(menuIds)) {
+        if (orderLineItems.size() != catalog.countMenusByIdIn(menuIds)) {
             throw new IllegalArgumentException();
         }
 
@@ -63,48 +82,149 @@ public class OrderService {
         }
 
         order.setOrderTableId(orderTable.getId());
-        order.setOrderStatus(OrderStatus.COOKING.name());
+        order.setOrderStatus(OrderStatus.COOKING);
         order.setOrderedTime(LocalDateTime.now());
 
         final Order savedOrder = orderDao.save(order);
 
         final Long orderId = savedOrder.getId();
-        final List<OrderLineItem> savedOrderLineItems = new ArrayList<>();
         for (final OrderLineItem orderLineItem : orderLineItems) {
             orderLineItem.setOrderId(orderId);
-            savedOrderLineItems.add(orderLineItemDao.save(orderLineItem));
         }
-        savedOrder.setOrderLineItems(savedOrderLineItems);
+        savedOrder.setOrderLineItems(orderLineItemDao.saveAll(orderLineItems));
+        menuSalesCounter.add(savedOrder.getOrderLineItems());
+        orderEventPublisher.publishCreated(savedOrder);
 
         return savedOrder;
     }
 
+    @Transactional(readOnly = true)
     public List<Order> list() {
-        final List<Order> orders = orderDao.findAll();
+        return withOrderLineItems(orderDao.findAll());
+    }
 
-        for (final Order order : orders) {
-            order.setOrderLineItems(orderLineItemDao.findAllByOrderId(order.getId()));
+    @Transactional(readOnly = true)
+    public List<Order> list(final Long cursor, final int size) {
+        if (Objects.isNull(cursor) || cursor < 0 || size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException();
         }
 
-        return orders;
+        return withOrderLineItems(orderDao.findAllByIdGreaterThan(cursor, size));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Order> search(final OrderSearchCondition condition, final Long cursor, final int size) {
+        if (Objects.isNull(cursor) || cursor < 0 || size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException();
+        }
+
+        final LocalDateTime orderedTimeFrom = condition.getOrderedTimeFrom();
+        final LocalDateTime orderedTimeTo = condition.getOrderedTimeTo();
+
+        if (Objects.nonNull(orderedTimeFrom) && Objects.nonNull(orderedTimeTo)
+                && orderedTimeFrom.isAfter(orderedTimeTo)) {
+            throw new IllegalArgumentException();
+        }
+
+        return withOrderLineItems(orderDao.findAllByConditionAndIdGreaterThan(condition, cursor, size));
+    }
+
+    @Transactional(readOnly = true)
+    public void export(final Consumer<Order> action) {
+        orderDao.forEachWithOrderLineItems(action);
     }
 
     @Transactional
     public Order changeOrderStatus(final Long orderId, final Order order) {
-        final Order savedOrder = orderDao.findById(orderId)
+        final Order savedOrder = orderDao.findByIdForUpdate(orderId)
                 .orElseThrow(IllegalArgumentException::new);
 
-        if (Objects.equals(OrderStatus.COMPLETION.name(), savedOrder.getOrderStatus())) {
+        if (savedOrder.getOrderStatus() == OrderStatus.COMPLETION) {
             throw new IllegalArgumentException();
         }
 
-        final OrderStatus orderStatus = OrderStatus.valueOf(order.getOrderStatus());
-        savedOrder.setOrderStatus(orderStatus.name());
+        final OrderStatus orderStatus = order.getOrderStatus();
 
-        orderDao.save(savedOrder);
+        if (Objects.isNull(orderStatus)) {
+            throw new IllegalArgumentException();
+        }
+
+        savedOrder.setOrderStatus(orderStatus);
 
+        orderDao.save(savedOrder);
         savedOrder.setOrderLineItems(orderLineItemDao.findAllByOrderId(orderId));
 
+        if (orderStatus == OrderStatus.COMPLETION) {
+            salesRollupService.record(Collections.singletonList(savedOrder));
+        }
+
+        orderEventPublisher.publishStatusChanged(savedOrder);
+
         return savedOrder;
     }
+
+    @Transactional
+    public OrderStatusBatchResult changeOrderStatuses(final OrderStatusBatch orderStatusBatch) {
+        final List<Long> orderIds = orderStatusBatch.getOrderIds();
+        final OrderStatus orderStatus = orderStatusBatch.getOrderStatus();
+
+        if (CollectionUtils.isEmpty(orderIds) || orderIds.size() > MAX_BATCH_SIZE || Objects.isNull(orderStatus)) {
+            throw new IllegalArgumentException();
+        }
+
+        final List<Long> distinctOrderIds = orderIds.stream()
+                .distinct()
+                .collect(Collectors.toList());
+
+        final List<Order> changeableOrders = orderDao.findAllByIdInForUpdate(distinctOrderIds)
+                .stream()
+                .filter(savedOrder -> savedOrder.getOrderStatus() != OrderStatus.COMPLETION)
+                .collect(Collectors.toList());
+
+        final List<Long> changedOrderIds = changeableOrders.stream()
+                .map(Order::getId)
+                .collect(Collectors.toList());
+
+        final int updatedCount = orderDao.updateOrderStatusByIdIn(changedOrderIds, orderStatus);
+        if (updatedCount != changedOrderIds.size()) {
+            throw new IllegalStateException("Updated " + updatedCount + " of " + changedOrderIds.size() + " orders");
+        }
+        for (final Order changeableOrder : changeableOrders) {
+            changeableOrder.setOrderStatus(orderStatus);
+        }
+        orderEventPublisher.publishStatusChanged(changeableOrders);
+
+        if (orderStatus == OrderStatus.COMPLETION) {
+            salesRollupService.record(withOrderLineItems(changeableOrders));
+        }
+
+        final Set<Long> changedOrderIdSet = new HashSet<>(changedOrderIds);
+        final List<Long> rejectedOrderIds = distinctOrderIds.stream()
+                .filter(orderId -> !changedOrderIdSet.contains(orderId))
+                .collect(Collectors.toList());
+
+        final OrderStatusBatchResult result = new OrderStatusBatchResult();
+        result.setChangedOrderIds(changedOrderIds);
+        result.setRejectedOrderIds(rejectedOrderIds);
+
+        return result;
+    }
+
+    private List<Order> withOrderLineItems(final List<Order> orders) {
+        final List<Long> orderIds = orders.stream()
+                .map(Order::getId)
+                .collect(Collectors.toList());
+
+        final Map<Long, List<OrderLineItem>> orderLineItemsByOrderId =
+                orderLineItemDao.findAllByOrderIdIn(orderIds)
+                        .stream()
+                        .collect(Collectors.groupingBy(OrderLineItem::getOrderId));
+
+        for (final Order order : orders) {
+            order.setOrderLineItems(
+                    orderLineItemsByOrderId.getOrDefault(order.getId(), new ArrayList<>()));
+        }
+
+        return orders;
+    }
 }
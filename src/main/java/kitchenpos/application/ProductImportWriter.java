@@ -0,0 +1,30 @@
+package kitchenpos.application;
+
+import kitchenpos.dao.ProductDao;
+import kitchenpos.domain.Product;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 검증을 마친 상품 묶음 하나를 한 트랜잭션에서 배치로 저장한다.
+ */
+@Component
+public class ProductImportWriter {
+    private final ProductDao productDao;
+    private final Catalog catalog;
+
+    public ProductImportWriter(final ProductDao productDao, final Catalog catalog) {
+        this.productDao = productDao;
+        this.catalog = catalog;
+    }
+
+    @Transactional
+    public List<Product> write(final List<Product> products) {
+        final List<Product> savedProducts = productDao.saveAll(products);
+        catalog.update(current -> current.withProducts(savedProducts));
+
+        return savedProducts;
+    }
+}
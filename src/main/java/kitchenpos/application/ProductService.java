@@ -2,33 +2,195 @@ package kitchenpos.application;
 
 import kitchenpos.dao.ProductDao;
 import kitchenpos.domain.Product;
+import kitchenpos.domain.ProductImportResult;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class ProductService {
+    public static final int IMPORT_BATCH_SIZE = 1000;
+
+    private static final String CSV_HEADER = "name,price";
+    private static final char CSV_DELIMITER = ',';
+    private static final char CSV_QUOTE = '"';
+    private static final int CSV_FIELD_COUNT = 2;
+    private static final int MAX_NAME_LENGTH = 255;
+    private static final int MAX_PRICE_PRECISION = 19;
+    private static final int MAX_PRICE_SCALE = 2;
+
     private final ProductDao productDao;
+    private final Catalog catalog;
+    private final ProductImportWriter productImportWriter;
 
-    public ProductService(final ProductDao productDao) {
+    public ProductService(
+            final ProductDao productDao,
+            final Catalog catalog,
+            final ProductImportWriter productImportWriter
+    ) {
         this.productDao = productDao;
+        this.catalog = catalog;
+        this.productImportWriter = productImportWriter;
     }
 
     @Transactional
     public Product create(final Product product) {
-        final BigDecimal price = product.getPrice();
-
-        if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
+        if (!isValidPrice(product.getPrice())) {
             throw new IllegalArgumentException();
         }
 
-        return productDao.save(product);
+        final Product savedProduct = productDao.save(product);
+        catalog.update(snapshot -> snapshot.withProduct(savedProduct));
+
+        return savedProduct;
+    }
+
+    /**
+     * {@code name,price} 형식의 CSV를 한 줄씩 읽어 {@value #IMPORT_BATCH_SIZE}개씩 저장한다.
+     * 첫 줄이 헤더라면 건너뛰고, 값이 두 개가 아니거나 이름과 가격이 올바르지 않은 줄은 저장하지 않고 센다.
+     * 이름에 쉼표가 있다면 따옴표로 감싸야 한다.
+     */
+    public ProductImportResult importProducts(final Reader csv) throws IOException {
+        final long startedAt = System.nanoTime();
+        final ProductImportResult result = new ProductImportResult();
+
+        final BufferedReader reader = new BufferedReader(csv);
+        final List<Product> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+        String line = reader.readLine();
+        if (Objects.nonNull(line) && CSV_HEADER.equalsIgnoreCase(line.trim())) {
+            line = reader.readLine();
+        }
+        for (; Objects.nonNull(line); line = reader.readLine()) {
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+            final Optional<Product> product = parse(line);
+            if (!product.isPresent()) {
+                result.setRejectedCount(result.getRejectedCount() + 1);
+                continue;
+            }
+            batch.add(product.get());
+            if (batch.size() == IMPORT_BATCH_SIZE) {
+                write(batch, result);
+            }
+        }
+        write(batch, result);
+
+        final long elapsedNanos = System.nanoTime() - startedAt;
+        result.setElapsedMillis(TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        result.setProductsPerSecond(
+                result.getImportedCount() * TimeUnit.SECONDS.toNanos(1) / Math.max(elapsedNanos, 1L));
+
+        return result;
     }
 
     public List<Product> list() {
-        return productDao.findAll();
+        return catalog.snapshot().getProducts();
+    }
+
+    public String revision() {
+        return catalog.snapshot().getRevision();
+    }
+
+    /**
+     * 0 이상이고 DECIMAL(19, 2) 컬럼에 잘리지 않고 들어가는 가격인지 확인한다.
+     */
+    private boolean isValidPrice(final BigDecimal price) {
+        if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
+            return false;
+        }
+        final BigDecimal stripped = price.stripTrailingZeros();
+        return stripped.scale() <= MAX_PRICE_SCALE
+                && stripped.precision() - stripped.scale() <= MAX_PRICE_PRECISION - MAX_PRICE_SCALE;
+    }
+
+    private Optional<Product> parse(final String line) {
+        final Optional<List<String>> fields = split(line);
+        if (!fields.isPresent() || fields.get().size() != CSV_FIELD_COUNT) {
+            return Optional.empty();
+        }
+
+        final String name = fields.get().get(0);
+        final BigDecimal price;
+        try {
+            price = new BigDecimal(fields.get().get(1));
+        } catch (final NumberFormatException e) {
+            return Optional.empty();
+        }
+
+        if (name.isEmpty() || name.length() > MAX_NAME_LENGTH || !isValidPrice(price)) {
+            return Optional.empty();
+        }
+
+        final Product product = new Product();
+        product.setName(name);
+        product.setPrice(price);
+        return Optional.of(product);
+    }
+
+    /**
+     * 한 줄을 RFC 4180 규칙대로 나눈다. 따옴표로 감싼 값은 구분자를 포함할 수 있고 {@code ""}는 따옴표 하나로 읽으며,
+     * 감싸지 않은 값은 앞뒤 공백을 지운다. 따옴표가 닫히지 않았거나 닫힌 따옴표 뒤에 다른 문자가 있으면 비어 있는 값을 돌려준다.
+     */
+    private Optional<List<String>> split(final String line) {
+        final List<String> fields = new ArrayList<>();
+        final StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean inQuotes = false;
+        for (int index = 0; index < line.length(); index++) {
+            final char character = line.charAt(index);
+            if (inQuotes) {
+                if (character != CSV_QUOTE) {
+                    field.append(character);
+                } else if (index + 1 < line.length() && line.charAt(index + 1) == CSV_QUOTE) {
+                    field.append(CSV_QUOTE);
+                    index++;
+                } else {
+                    inQuotes = false;
+                }
+            } else if (character == CSV_DELIMITER) {
+                fields.add(quoted ? field.toString() : field.toString().trim());
+                field.setLength(0);
+                quoted = false;
+            } else if (quoted) {
+                if (!Character.isWhitespace(character)) {
+                    return Optional.empty();
+                }
+            } else if (character == CSV_QUOTE && field.toString().trim().isEmpty()) {
+                field.setLength(0);
+                quoted = true;
+                inQuotes = true;
+            } else {
+                field.append(character);
+            }
+        }
+        if (inQuotes) {
+            return Optional.empty();
+        }
+        fields.add(quoted ? field.toString() : field.toString().trim());
+        return Optional.of(fields);
+    }
+
+    private void write(final List<Product> batch, final ProductImportResult result) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            productImportWriter.write(batch);
+            result.setImportedCount(result.getImportedCount() + batch.size());
+        } catch (final DataAccessException e) {
+            result.setFailedCount(result.getFailedCount() + batch.size());
+        }
+        batch.clear();
     }
 }
@@ -0,0 +1,109 @@
+package kitchenpos.application;
+
+import kitchenpos.dao.MenuSalesDao;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroupSales;
+import kitchenpos.domain.MenuSales;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 계산 완료된 주문의 판매 수량과 매출액을 주문 시각의 시간 단위와 메뉴별로 누적하고, 누적한 값만 읽어 매출을 조회한다.
+ * 매출액은 계산 완료 시점의 메뉴 가격으로 계산한다.
+ */
+@Service
+public class SalesRollupService {
+    private final Catalog catalog;
+    private final MenuSalesDao menuSalesDao;
+
+    public SalesRollupService(final Catalog catalog, final MenuSalesDao menuSalesDao) {
+        this.catalog = catalog;
+        this.menuSalesDao = menuSalesDao;
+    }
+
+    /**
+     * 주문 항목이 채워진 계산 완료 주문을 호출한 트랜잭션 안에서 누적한다.
+     * 여러 트랜잭션이 같은 행을 서로 다른 순서로 잠그지 않도록 시간과 메뉴 id 순서로 누적한다.
+     */
+    @Transactional
+    public void record(final List<Order> completedOrders) {
+        final List<Long> menuIds = completedOrders.stream()
+                .flatMap(order -> order.getOrderLineItems().stream())
+                .map(OrderLineItem::getMenuId)
+                .distinct()
+                .collect(Collectors.toList());
+        final Map<Long, Menu> menus = catalog.findMenus(menuIds);
+        final Map<LocalDateTime, Map<Long, MenuSales>> menuSalesByHour = new TreeMap<>();
+
+        for (final Order order : completedOrders) {
+            final LocalDateTime salesHour = order.getOrderedTime().truncatedTo(ChronoUnit.HOURS);
+            final Map<Long, MenuSales> menuSales = menuSalesByHour.computeIfAbsent(salesHour, hour -> new TreeMap<>());
+
+            for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
+                final Menu menu = menus.get(orderLineItem.getMenuId());
+                if (Objects.isNull(menu)) {
+                    throw new IllegalArgumentException();
+                }
+                final MenuSales sales = menuSales.computeIfAbsent(menu.getId(),
+                        menuId -> emptyMenuSales(salesHour, menu));
+                sales.setQuantity(sales.getQuantity() + orderLineItem.getQuantity());
+                sales.setRevenue(sales.getRevenue()
+                        .add(menu.getPrice().multiply(BigDecimal.valueOf(orderLineItem.getQuantity()))));
+            }
+        }
+
+        final List<MenuSales> rollups = new ArrayList<>();
+        for (final Map<Long, MenuSales> menuSales : menuSalesByHour.values()) {
+            rollups.addAll(menuSales.values());
+        }
+        menuSalesDao.addAll(rollups);
+    }
+
+    /**
+     * {@code from} 이상 {@code to} 미만인 시간의 메뉴별 매출을 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public List<MenuSales> listMenuSales(final LocalDateTime from, final LocalDateTime to) {
+        validateRange(from, to);
+
+        return menuSalesDao.findAllBySalesHourBetween(from, to);
+    }
+
+    /**
+     * {@code from} 이상 {@code to} 미만인 시간의 메뉴 그룹별 매출을 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public List<MenuGroupSales> listMenuGroupSales(final LocalDateTime from, final LocalDateTime to) {
+        validateRange(from, to);
+
+        return menuSalesDao.findAllMenuGroupSalesBySalesHourBetween(from, to);
+    }
+
+    private void validateRange(final LocalDateTime from, final LocalDateTime to) {
+        if (Objects.isNull(from) || Objects.isNull(to) || from.isAfter(to)) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    private MenuSales emptyMenuSales(final LocalDateTime salesHour, final Menu menu) {
+        final MenuSales menuSales = new MenuSales();
+        menuSales.setSalesHour(salesHour);
+        menuSales.setMenuId(menu.getId());
+        menuSales.setMenuGroupId(menu.getMenuGroupId());
+        menuSales.setQuantity(0L);
+        menuSales.setRevenue(BigDecimal.ZERO);
+        return menuSales;
+    }
+}
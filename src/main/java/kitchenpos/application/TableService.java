@@ -1,23 +1,20 @@
 package kitchenpos.application;
 
-import kitchenpos.dao.OrderDao;
 import kitchenpos.dao.OrderTableDao;
-import kitchenpos.domain.OrderStatus;
 import kitchenpos.domain.OrderTable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
 @Service
 public class TableService {
-    private final OrderDao orderDao;
+    private final ActiveOrderIndex activeOrderIndex;
     private final OrderTableDao orderTableDao;
 
-    public TableService(final OrderDao orderDao, final OrderTableDao orderTableDao) {
-        this.orderDao = orderDao;
+    public TableService(final ActiveOrderIndex activeOrderIndex, final OrderTableDao orderTableDao) {
+        this.activeOrderIndex = activeOrderIndex;
         this.orderTableDao = orderTableDao;
     }
 
@@ -29,6 +26,7 @@ public class TableService {
         return orderTableDao.save(orderTable);
     }
 
+    @Transactional(readOnly = true)
     public List<OrderTable> list() {
         return orderTableDao.findAll();
     }
@@ -42,8 +40,7 @@ public class TableService {
             throw new IllegalArgumentException();
         }
 
-        if (orderDao.existsByOrderTableIdAndOrderStatusIn(
-                orderTableId, Arrays.asList(OrderStatus.COOKING.name(), OrderStatus.MEAL.name()))) {
+        if (activeOrderIndex.hasActiveOrder(orderTableId)) {
             throw new IllegalArgumentException();
         }
 
@@ -0,0 +1,111 @@
+package kitchenpos.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import javax.annotation.PreDestroy;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 요청을 비동기 서블릿 요청으로 바꿔 톰캣 스레드를 바로 돌려주고, JDBC 작업은 커넥션 풀 크기만큼의 작업 스레드에서 실행한다.
+ * 작업 스레드가 커넥션보다 많지 않으므로 커넥션을 기다리며 스레드를 붙잡지 않고, 나머지 요청은 스레드 없이 대기열에서 기다린다.
+ * 실행 중이거나 기다리는 요청이 작업 스레드와 대기열 크기를 합친 만큼 차 있으면 받지 않는다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "kitchenpos.request-execution", name = "mode", havingValue = "async")
+public class AsyncRequestExecutor {
+    private static final String THREAD_NAME_PREFIX = "request-execution-";
+
+    private final ExecutorService executorService;
+    private final Semaphore permits;
+    private final long timeoutMillis;
+
+    public AsyncRequestExecutor(
+            @Value("${kitchenpos.request-execution.pool-size:${spring.datasource.hikari.maximum-pool-size:10}}")
+            final int poolSize,
+            @Value("${kitchenpos.request-execution.queue-capacity:1000}") final int queueCapacity,
+            @Value("${kitchenpos.request-execution.timeout-millis:10000}") final long timeoutMillis
+    ) {
+        this(newExecutorService(poolSize), poolSize + queueCapacity, timeoutMillis);
+    }
+
+    AsyncRequestExecutor(final ExecutorService executorService, final int permits, final long timeoutMillis) {
+        this.executorService = executorService;
+        this.permits = new Semaphore(permits);
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * {@code callable}을 작업 스레드에서 실행하고 그 결과로 응답할 비동기 결과를 돌려준다. 컨트롤러가 이 결과를 반환하면 Spring MVC가 응답한다.
+     * 받을 수 있는 요청 수를 넘었다면 빈 값을 돌려준다.
+     * 시간 안에 시작하지 못한 작업은 실행하지 않고 {@code notStartedResult}로 응답한다.
+     * 이미 실행 중인 작업은 중단하거나 실패로 응답하면 다시 보낸 요청이 같은 작업을 두 번 하게 되므로, 끝날 때까지 기다려 그 결과로 응답한다.
+     */
+    public <T> Optional<DeferredResult<T>> execute(final Callable<T> callable, final Supplier<T> notStartedResult) {
+        if (!permits.tryAcquire()) {
+            return Optional.empty();
+        }
+        final DeferredResult<T> result = new DeferredResult<>(timeoutMillis);
+        final AtomicBoolean claimed = new AtomicBoolean();
+        final CountDownLatch finished = new CountDownLatch(1);
+        result.onCompletion(permits::release);
+        result.onTimeout(() -> {
+            if (claimed.compareAndSet(false, true)) {
+                result.setResult(notStartedResult.get());
+                return;
+            }
+            awaitUninterruptibly(finished);
+        });
+        executorService.execute(() -> {
+            if (!claimed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                result.setResult(callable.call());
+            } catch (final Exception e) {
+                result.setErrorResult(e);
+            } finally {
+                finished.countDown();
+            }
+        });
+        return Optional.of(result);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        executorService.shutdown();
+    }
+
+    private static void awaitUninterruptibly(final CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (final InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ExecutorService newExecutorService(final int poolSize) {
+        final AtomicInteger threadNumber = new AtomicInteger();
+        return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                runnable -> new Thread(runnable, THREAD_NAME_PREFIX + threadNumber.incrementAndGet()));
+    }
+}
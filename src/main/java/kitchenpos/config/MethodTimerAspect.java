@@ -0,0 +1,89 @@
+package kitchenpos.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서비스와 DAO의 모든 public 메서드 실행 시간을 기록한다.
+ * 타이머는 entity, operation 태그를 가지며 p50/p95/p99와 히스토그램을 함께 발행한다.
+ */
+@Aspect
+@Component
+public class MethodTimerAspect {
+    public static final String SERVICE_TIMER_NAME = "kitchenpos.service";
+    public static final String DAO_TIMER_NAME = "kitchenpos.dao";
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+    private static final String[] ENTITY_SUFFIXES = {"Service", "Dao"};
+    private static final String JDBC_TEMPLATE_PREFIX = "JdbcTemplate";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public MethodTimerAspect(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Pointcut("within(kitchenpos.application..*) && @within(org.springframework.stereotype.Service)")
+    public void serviceMethod() {
+    }
+
+    @Pointcut("within(kitchenpos.dao..*) && @within(org.springframework.stereotype.Repository)")
+    public void daoMethod() {
+    }
+
+    @Around("serviceMethod()")
+    public Object timeService(final ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(SERVICE_TIMER_NAME, joinPoint);
+    }
+
+    @Around("daoMethod()")
+    public Object timeDao(final ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(DAO_TIMER_NAME, joinPoint);
+    }
+
+    private Object record(final String name, final ProceedingJoinPoint joinPoint) throws Throwable {
+        final Class<?> targetClass = AopUtils.getTargetClass(joinPoint.getTarget());
+        final String operation = joinPoint.getSignature().getName();
+        final Timer timer = timers.computeIfAbsent(name + '.' + targetClass.getName() + '.' + operation,
+                key -> register(name, toEntity(targetClass), operation));
+
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            sample.stop(timer);
+        }
+    }
+
+    private Timer register(final String name, final String entity, final String operation) {
+        return Timer.builder(name)
+                .tag("entity", entity)
+                .tag("operation", operation)
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    static String toEntity(final Class<?> targetClass) {
+        String name = targetClass.getSimpleName();
+        if (name.startsWith(JDBC_TEMPLATE_PREFIX)) {
+            name = name.substring(JDBC_TEMPLATE_PREFIX.length());
+        }
+        for (final String suffix : ENTITY_SUFFIXES) {
+            if (name.endsWith(suffix)) {
+                name = name.substring(0, name.length() - suffix.length());
+            }
+        }
+        return name.replaceAll("([a-z])([A-Z])", "$1_$2").toLowerCase();
+    }
+}
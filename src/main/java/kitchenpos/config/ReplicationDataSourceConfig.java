@@ -0,0 +1,59 @@
+package kitchenpos.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@code kitchenpos.datasource.replica.jdbc-url}이 설정되어 있으면 프라이머리와 레플리카 커넥션 풀을 따로 만들고,
+ * 읽기 전용 트랜잭션을 레플리카로 보내는 DataSource를 기본 DataSource로 등록한다.
+ * 프라이머리는 {@code spring.datasource}, 레플리카는 {@code kitchenpos.datasource.replica} 설정을 사용한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "kitchenpos.datasource.replica", name = "jdbc-url")
+public class ReplicationDataSourceConfig {
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build()
+                ;
+    }
+
+    @Bean
+    @ConfigurationProperties("kitchenpos.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        final HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") final DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") final DataSource replicaDataSource
+    ) {
+        final Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(ReplicationRoutingDataSource.PRIMARY, primaryDataSource);
+        targetDataSources.put(ReplicationRoutingDataSource.REPLICA, replicaDataSource);
+
+        final ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource();
+        routingDataSource.setTargetDataSources(targetDataSources);
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
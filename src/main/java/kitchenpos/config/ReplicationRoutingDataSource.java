@@ -0,0 +1,23 @@
+package kitchenpos.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션은 레플리카로, 그 밖의 모든 요청은 프라이머리로 보낸다.
+ * 쓰기 트랜잭션 안에서 호출된 읽기 전용 메서드는 바깥 트랜잭션을 따르므로 자신이 쓴 데이터를 프라이머리에서 읽는다.
+ * 트랜잭션이 시작된 뒤에 커넥션을 얻어야 하므로 {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}로
+ * 감싸서 사용한다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return REPLICA;
+        }
+        return PRIMARY;
+    }
+}
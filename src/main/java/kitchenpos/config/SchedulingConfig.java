@@ -0,0 +1,14 @@
+package kitchenpos.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주문 보관 작업을 켰을 때만 스케줄링을 활성화한다.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "kitchenpos.order-archive", name = "enabled", havingValue = "true")
+public class SchedulingConfig {
+}
@@ -0,0 +1,57 @@
+package kitchenpos.dao;
+
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * 여러 행을 JDBC 배치 하나로 추가하고, 생성된 키를 추가한 순서대로 붙여 저장된 엔티티를 만든다.
+ * 드라이버가 추가한 행보다 적은 키를 돌려주면 id가 빈 엔티티를 돌려주지 않고 예외를 던진다.
+ */
+final class BatchInsert {
+    private BatchInsert() {
+    }
+
+    static <T> List<T> saveAll(
+            final JdbcOperations jdbcOperations,
+            final String sql,
+            final String keyColumnName,
+            final List<T> entities,
+            final ParameterizedPreparedStatementSetter<T> parameterSetter,
+            final BiFunction<Long, T, T> toEntity
+    ) {
+        if (entities.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final PreparedStatementCreator statementCreator =
+                connection -> connection.prepareStatement(sql, new String[]{keyColumnName});
+        final PreparedStatementCallback<List<T>> batchInsert = statement -> {
+            for (final T entity : entities) {
+                parameterSetter.setValues(statement, entity);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+
+            final List<T> savedEntities = new ArrayList<>(entities.size());
+            try (final ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                for (final T entity : entities) {
+                    if (!generatedKeys.next()) {
+                        throw new DataRetrievalFailureException("Expected " + entities.size()
+                                + " generated keys but got " + savedEntities.size());
+                    }
+                    savedEntities.add(toEntity.apply(generatedKeys.getLong(1), entity));
+                }
+            }
+            return savedEntities;
+        };
+        return jdbcOperations.execute(statementCreator, batchInsert);
+    }
+}
@@ -12,6 +12,7 @@ import org.springframework.stereotype.Repository;
 import javax.sql.DataSource;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +20,7 @@ import java.util.Optional;
 public class JdbcTemplateMenuDao implements MenuDao {
     private static final String TABLE_NAME = "menu";
     private static final String KEY_COLUMN_NAME = "id";
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
 
     private final NamedParameterJdbcTemplate jdbcTemplate;
     private final SimpleJdbcInsert jdbcInsert;
@@ -35,7 +37,18 @@ public class JdbcTemplateMenuDao implements MenuDao {
     public Menu save(final Menu entity) {
         final SqlParameterSource parameters = new BeanPropertySqlParameterSource(entity);
         final Number key = jdbcInsert.executeAndReturnKey(parameters);
-        return select(key.longValue());
+        return toEntity(key.longValue(), entity);
+    }
+
+    @Override
+    public List<Menu> saveAll(final List<Menu> entities) {
+        final String sql = "INSERT INTO menu (name, price, menu_group_id) VALUES (?, ?, ?)";
+        return BatchInsert.saveAll(jdbcTemplate.getJdbcOperations(), sql, KEY_COLUMN_NAME, entities,
+                (statement, entity) -> {
+                    statement.setString(1, entity.getName());
+                    statement.setBigDecimal(2, entity.getPrice());
+                    statement.setLong(3, entity.getMenuGroupId());
+                }, this::toEntity);
     }
 
     @Override
@@ -53,6 +66,19 @@ public class JdbcTemplateMenuDao implements MenuDao {
         return jdbcTemplate.query(sql, (resultSet, rowNumber) -> toEntity(resultSet));
     }
 
+    @Override
+    public List<Menu> findAllByIdIn(final List<Long> ids) {
+        final String sql = "SELECT id, name, price, menu_group_id FROM menu WHERE id IN (:ids)";
+        final List<Menu> menus = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            final int to = Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size());
+            final SqlParameterSource parameters = new MapSqlParameterSource()
+                    .addValue("ids", ids.subList(from, to));
+            menus.addAll(jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet)));
+        }
+        return menus;
+    }
+
     @Override
     public long countByIdIn(final List<Long> ids) {
         final String sql = "SELECT COUNT(*) FROM menu WHERE id IN (:ids)";
@@ -68,6 +94,15 @@ public class JdbcTemplateMenuDao implements MenuDao {
         return jdbcTemplate.queryForObject(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
     }
 
+    private Menu toEntity(final Long id, final Menu source) {
+        final Menu entity = new Menu();
+        entity.setId(id);
+        entity.setName(source.getName());
+        entity.setPrice(source.getPrice());
+        entity.setMenuGroupId(source.getMenuGroupId());
+        return entity;
+    }
+
     private Menu toEntity(final ResultSet resultSet) throws SQLException {
         final Menu entity = new Menu();
         entity.setId(resultSet.getLong("id"));
@@ -35,7 +35,7 @@ public class JdbcTemplateMenuGroupDao implements MenuGroupDao {
     public MenuGroup save(final MenuGroup entity) {
         final SqlParameterSource parameters = new BeanPropertySqlParameterSource(entity);
         final Number key = jdbcInsert.executeAndReturnKey(parameters);
-        return select(key.longValue());
+        return toEntity(key.longValue(), entity);
     }
 
     @Override
@@ -68,6 +68,13 @@ public class JdbcTemplateMenuGroupDao implements MenuGroupDao {
         return jdbcTemplate.queryForObject(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
     }
 
+    private MenuGroup toEntity(final Long id, final MenuGroup source) {
+        final MenuGroup entity = new MenuGroup();
+        entity.setId(id);
+        entity.setName(source.getName());
+        return entity;
+    }
+
     private MenuGroup toEntity(final ResultSet resultSet) throws SQLException {
         final MenuGroup entity = new MenuGroup();
         entity.setId(resultSet.getLong("id"));
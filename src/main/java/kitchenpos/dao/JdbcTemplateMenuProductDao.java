@@ -12,6 +12,7 @@ import org.springframework.stereotype.Repository;
 import javax.sql.DataSource;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +20,7 @@ import java.util.Optional;
 public class JdbcTemplateMenuProductDao implements MenuProductDao {
     private static final String TABLE_NAME = "menu_product";
     private static final String KEY_COLUMN_NAME = "seq";
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
 
     private final NamedParameterJdbcTemplate jdbcTemplate;
     private final SimpleJdbcInsert jdbcInsert;
@@ -35,7 +37,18 @@ public class JdbcTemplateMenuProductDao implements MenuProductDao {
     public MenuProduct save(final MenuProduct entity) {
         final SqlParameterSource parameters = new BeanPropertySqlParameterSource(entity);
         final Number key = jdbcInsert.executeAndReturnKey(parameters);
-        return select(key.longValue());
+        return toEntity(key.longValue(), entity);
+    }
+
+    @Override
+    public List<MenuProduct> saveAll(final List<MenuProduct> entities) {
+        final String sql = "INSERT INTO menu_product (menu_id, product_id, quantity) VALUES (?, ?, ?)";
+        return BatchInsert.saveAll(jdbcTemplate.getJdbcOperations(), sql, KEY_COLUMN_NAME, entities,
+                (statement, entity) -> {
+                    statement.setLong(1, entity.getMenuId());
+                    statement.setLong(2, entity.getProductId());
+                    statement.setLong(3, entity.getQuantity());
+                }, this::toEntity);
     }
 
     @Override
@@ -61,6 +74,19 @@ public class JdbcTemplateMenuProductDao implements MenuProductDao {
         return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
     }
 
+    @Override
+    public List<MenuProduct> findAllByMenuIdIn(final List<Long> menuIds) {
+        final String sql = "SELECT seq, menu_id, product_id, quantity FROM menu_product WHERE menu_id IN (:menuIds)";
+        final List<MenuProduct> menuProducts = new ArrayList<>();
+        for (int from = 0; from < menuIds.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            final int to = Math.min(from + IN_CLAUSE_CHUNK_SIZE, menuIds.size());
+            final SqlParameterSource parameters = new MapSqlParameterSource()
+                    .addValue("menuIds", menuIds.subList(from, to));
+            menuProducts.addAll(jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet)));
+        }
+        return menuProducts;
+    }
+
     private MenuProduct select(final Long id) {
         final String sql = "SELECT seq, menu_id, product_id, quantity FROM menu_product WHERE seq = (:seq)";
         final SqlParameterSource parameters = new MapSqlParameterSource()
@@ -68,6 +94,15 @@ public class JdbcTemplateMenuProductDao implements MenuProductDao {
         return jdbcTemplate.queryForObject(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
     }
 
+    private MenuProduct toEntity(final Long seq, final MenuProduct source) {
+        final MenuProduct entity = new MenuProduct();
+        entity.setSeq(seq);
+        entity.setMenuId(source.getMenuId());
+        entity.setProductId(source.getProductId());
+        entity.setQuantity(source.getQuantity());
+        return entity;
+    }
+
     private MenuProduct toEntity(final ResultSet resultSet) throws SQLException {
         final MenuProduct entity = new MenuProduct();
         entity.setSeq(resultSet.getLong(KEY_COLUMN_NAME));
@@ -0,0 +1,128 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.MenuGroupSales;
+import kitchenpos.domain.MenuSales;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public class JdbcTemplateMenuSalesDao implements MenuSalesDao {
+    private static final String INCREMENT_SQL = "UPDATE menu_sales" +
+            " SET quantity = quantity + (:quantity), revenue = revenue + (:revenue)" +
+            " WHERE sales_hour = (:salesHour) AND menu_id = (:menuId)";
+    private static final String INSERT_SQL = "INSERT INTO menu_sales" +
+            " (sales_hour, menu_id, menu_group_id, quantity, revenue)" +
+            " VALUES (:salesHour, :menuId, :menuGroupId, :quantity, :revenue)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcTemplateMenuSalesDao(final DataSource dataSource) {
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void addAll(final List<MenuSales> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        final SqlParameterSource[] parameters = entities.stream()
+                .map(entity -> new MapSqlParameterSource()
+                        .addValue("salesHour", entity.getSalesHour())
+                        .addValue("menuId", entity.getMenuId())
+                        .addValue("menuGroupId", entity.getMenuGroupId())
+                        .addValue("quantity", entity.getQuantity())
+                        .addValue("revenue", entity.getRevenue()))
+                .toArray(SqlParameterSource[]::new);
+        final int[] updatedCounts = jdbcTemplate.batchUpdate(INCREMENT_SQL, parameters);
+        for (int i = 0; i < updatedCounts.length; i++) {
+            if (updatedCounts[i] == 0) {
+                insert(parameters[i]);
+            }
+        }
+    }
+
+    @Override
+    public List<MenuSales> findAllBySalesHourBetween(final LocalDateTime from, final LocalDateTime to) {
+        final String sql = "SELECT sales_hour, menu_id, menu_group_id, quantity, revenue FROM menu_sales" +
+                " WHERE sales_hour >= (:from) AND sales_hour < (:to) ORDER BY sales_hour, menu_id";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("from", from)
+                .addValue("to", to);
+        return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
+    }
+
+    @Override
+    public List<MenuGroupSales> findAllMenuGroupSalesBySalesHourBetween(
+            final LocalDateTime from,
+            final LocalDateTime to
+    ) {
+        final String sql = "SELECT sales_hour, menu_group_id, SUM(quantity) AS quantity, SUM(revenue) AS revenue" +
+                " FROM menu_sales WHERE sales_hour >= (:from) AND sales_hour < (:to)" +
+                " GROUP BY sales_hour, menu_group_id ORDER BY sales_hour, menu_group_id";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("from", from)
+                .addValue("to", to);
+        return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toMenuGroupSales(resultSet));
+    }
+
+    /**
+     * 같은 시간과 메뉴의 행을 다른 트랜잭션이 먼저 추가했다면 그 행에 더한다.
+     * 트랜잭션 안에서는 추가에 실패해도 트랜잭션이 중단되지 않도록 세이브포인트까지만 되돌린 뒤 더한다.
+     */
+    private void insert(final SqlParameterSource parameters) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            insertOrIncrement(parameters);
+            return;
+        }
+        jdbcTemplate.getJdbcOperations().execute((ConnectionCallback<Void>)connection -> {
+            final Savepoint savepoint = connection.setSavepoint();
+            try {
+                jdbcTemplate.update(INSERT_SQL, parameters);
+                connection.releaseSavepoint(savepoint);
+            } catch (final DuplicateKeyException e) {
+                connection.rollback(savepoint);
+                jdbcTemplate.update(INCREMENT_SQL, parameters);
+            }
+            return null;
+        });
+    }
+
+    private void insertOrIncrement(final SqlParameterSource parameters) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, parameters);
+        } catch (final DuplicateKeyException e) {
+            jdbcTemplate.update(INCREMENT_SQL, parameters);
+        }
+    }
+
+    private MenuSales toEntity(final ResultSet resultSet) throws SQLException {
+        final MenuSales entity = new MenuSales();
+        entity.setSalesHour(resultSet.getObject("sales_hour", LocalDateTime.class));
+        entity.setMenuId(resultSet.getLong("menu_id"));
+        entity.setMenuGroupId(resultSet.getLong("menu_group_id"));
+        entity.setQuantity(resultSet.getLong("quantity"));
+        entity.setRevenue(resultSet.getBigDecimal("revenue"));
+        return entity;
+    }
+
+    private MenuGroupSales toMenuGroupSales(final ResultSet resultSet) throws SQLException {
+        final MenuGroupSales entity = new MenuGroupSales();
+        entity.setSalesHour(resultSet.getObject("sales_hour", LocalDateTime.class));
+        entity.setMenuGroupId(resultSet.getLong("menu_group_id"));
+        entity.setQuantity(resultSet.getLong("quantity"));
+        entity.setRevenue(resultSet.getBigDecimal("revenue"));
+        return entity;
+    }
+}
@@ -0,0 +1,96 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+@Repository
+public class JdbcTemplateOrderArchiveDao implements OrderArchiveDao {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcTemplateOrderArchiveDao(final DataSource dataSource) {
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void saveAll(final List<Order> entities, final LocalDateTime archivedTime) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        final String orderSql = "INSERT INTO orders_archive" +
+                " (id, order_table_id, order_status, ordered_time, archived_time)" +
+                " VALUES (:id, :orderTableId, :orderStatus, :orderedTime, :archivedTime)";
+        final SqlParameterSource[] orderParameters = entities.stream()
+                .map(entity -> new MapSqlParameterSource()
+                        .addValue("id", entity.getId())
+                        .addValue("orderTableId", entity.getOrderTableId())
+                        .addValue("orderStatus", entity.getOrderStatus().getCode())
+                        .addValue("orderedTime", entity.getOrderedTime())
+                        .addValue("archivedTime", archivedTime))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(orderSql, orderParameters);
+
+        final String orderLineItemSql = "INSERT INTO order_line_item_archive (seq, order_id, menu_id, quantity)" +
+                " VALUES (:seq, :orderId, :menuId, :quantity)";
+        final SqlParameterSource[] orderLineItemParameters = entities.stream()
+                .flatMap(entity -> entity.getOrderLineItems().stream())
+                .map(orderLineItem -> new MapSqlParameterSource()
+                        .addValue("seq", orderLineItem.getSeq())
+                        .addValue("orderId", orderLineItem.getOrderId())
+                        .addValue("menuId", orderLineItem.getMenuId())
+                        .addValue("quantity", orderLineItem.getQuantity()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(orderLineItemSql, orderLineItemParameters);
+    }
+
+    @Override
+    public List<Order> findAllByIdGreaterThan(final Long cursor, final int size) {
+        final String sql = "SELECT id, order_table_id, order_status, ordered_time FROM orders_archive" +
+                " WHERE id > (:cursor) ORDER BY id LIMIT :size";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("cursor", cursor)
+                .addValue("size", size);
+        return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
+    }
+
+    @Override
+    public List<OrderLineItem> findAllOrderLineItemsByOrderIdIn(final List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final String sql = "SELECT seq, order_id, menu_id, quantity FROM order_line_item_archive" +
+                " WHERE order_id IN (:orderIds)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("orderIds", orderIds);
+        return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toOrderLineItem(resultSet));
+    }
+
+    private Order toEntity(final ResultSet resultSet) throws SQLException {
+        final Order entity = new Order();
+        entity.setId(resultSet.getLong("id"));
+        entity.setOrderTableId(resultSet.getLong("order_table_id"));
+        entity.setOrderStatus(OrderStatus.ofCode(resultSet.getInt("order_status")));
+        entity.setOrderedTime(resultSet.getObject("ordered_time", LocalDateTime.class));
+        return entity;
+    }
+
+    private OrderLineItem toOrderLineItem(final ResultSet resultSet) throws SQLException {
+        final OrderLineItem entity = new OrderLineItem();
+        entity.setSeq(resultSet.getLong("seq"));
+        entity.setOrderId(resultSet.getLong("order_id"));
+        entity.setMenuId(resultSet.getLong("menu_id"));
+        entity.setQuantity(resultSet.getLong("quantity"));
+        return entity;
+    }
+}
@@ -1,32 +1,44 @@
 package kitchenpos.dao;
 
 import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderSearchCondition;
+import kitchenpos.domain.OrderStatus;
 import org.springframework.dao.EmptyResultDataAccessException;
-import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
 import org.springframework.stereotype.Repository;
+import org.springframework.util.CollectionUtils;
 
 import javax.sql.DataSource;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Repository
 public class JdbcTemplateOrderDao implements OrderDao {
     private static final String TABLE_NAME = "orders";
     private static final String KEY_COLUMN_NAME = "id";
+    private static final int STREAMING_FETCH_SIZE = 1000;
 
     private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
     private final SimpleJdbcInsert jdbcInsert;
 
     public JdbcTemplateOrderDao(final DataSource dataSource) {
         jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        streamingJdbcTemplate.setFetchSize(STREAMING_FETCH_SIZE);
         jdbcInsert = new SimpleJdbcInsert(dataSource)
                 .withTableName(TABLE_NAME)
                 .usingGeneratedKeyColumns(KEY_COLUMN_NAME)
@@ -36,14 +48,34 @@ public class JdbcTemplateOrderDao implements OrderDao {
     @Override
     public Order save(final Order entity) {
         if (Objects.isNull(entity.getId())) {
-            final SqlParameterSource parameters = new BeanPropertySqlParameterSource(entity);
+            final SqlParameterSource parameters = new MapSqlParameterSource()
+                    .addValue("orderTableId", entity.getOrderTableId())
+                    .addValue("orderStatus", entity.getOrderStatus().getCode())
+                    .addValue("orderedTime", entity.getOrderedTime());
             final Number key = jdbcInsert.executeAndReturnKey(parameters);
-            return select(key.longValue());
+            return toEntity(key.longValue(), entity);
         }
         update(entity);
         return entity;
     }
 
+    @Override
+    public void insertAll(final List<Order> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        final String sql = "INSERT INTO orders (id, order_table_id, order_status, ordered_time)" +
+                " VALUES (:id, :orderTableId, :orderStatus, :orderedTime)";
+        final SqlParameterSource[] parameters = entities.stream()
+                .map(entity -> new MapSqlParameterSource()
+                        .addValue("id", entity.getId())
+                        .addValue("orderTableId", entity.getOrderTableId())
+                        .addValue("orderStatus", entity.getOrderStatus().getCode())
+                        .addValue("orderedTime", entity.getOrderedTime()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(sql, parameters);
+    }
+
     @Override
     public Optional<Order> findById(final Long id) {
         try {
@@ -53,6 +85,18 @@ public class JdbcTemplateOrderDao implements OrderDao {
         }
     }
 
+    @Override
+    public Optional<Order> findByIdForUpdate(final Long id) {
+        final String sql = "SELECT id, order_table_id, order_status, ordered_time FROM orders" +
+                " WHERE id = (:id) FOR UPDATE";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("id", id);
+        return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet))
+                .stream()
+                .findAny()
+                ;
+    }
+
     @Override
     public List<Order> findAll() {
         final String sql = "SELECT id, order_table_id, order_status, ordered_time FROM orders";
@@ -60,25 +104,151 @@ public class JdbcTemplateOrderDao implements OrderDao {
     }
 
     @Override
-    public boolean existsByOrderTableIdAndOrderStatusIn(final Long orderTableId, final List<String> orderStatuses) {
+    public long nextId() {
+        final String sql = "SELECT NEXT VALUE FOR orders_id_seq";
+        return jdbcTemplate.getJdbcOperations().queryForObject(sql, Long.class);
+    }
+
+    @Override
+    public List<Order> findAllByIdIn(final List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        final String sql = "SELECT id, order_table_id, order_status, ordered_time FROM orders WHERE id IN (:ids)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("ids", ids);
+        return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
+    }
+
+    /**
+     * 주문을 id 순서로 잠그며 조회한다. 같은 주문을 함께 바꾸는 트랜잭션은 잠금이 풀린 뒤의 상태를 읽는다.
+     */
+    @Override
+    public List<Order> findAllByIdInForUpdate(final List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        final String sql = "SELECT id, order_table_id, order_status, ordered_time FROM orders" +
+                " WHERE id IN (:ids) ORDER BY id FOR UPDATE";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("ids", ids);
+        return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
+    }
+
+    @Override
+    public List<Order> findAllByIdGreaterThan(final Long cursor, final int size) {
+        final String sql = "SELECT id, order_table_id, order_status, ordered_time FROM orders" +
+                " WHERE id > (:cursor) ORDER BY id LIMIT :size";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("cursor", cursor)
+                .addValue("size", size);
+        return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
+    }
+
+    @Override
+    public List<Order> findAllByConditionAndIdGreaterThan(
+            final OrderSearchCondition condition,
+            final Long cursor,
+            final int size
+    ) {
+        final StringBuilder sql = new StringBuilder(
+                "SELECT id, order_table_id, order_status, ordered_time FROM orders WHERE id > (:cursor)");
+        final MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("cursor", cursor)
+                .addValue("size", size);
+        if (!CollectionUtils.isEmpty(condition.getOrderStatuses())) {
+            sql.append(" AND order_status IN (:orderStatuses)");
+            parameters.addValue("orderStatuses", toCodes(condition.getOrderStatuses()));
+        }
+        if (Objects.nonNull(condition.getOrderTableId())) {
+            sql.append(" AND order_table_id = (:orderTableId)");
+            parameters.addValue("orderTableId", condition.getOrderTableId());
+        }
+        if (Objects.nonNull(condition.getOrderedTimeFrom())) {
+            sql.append(" AND ordered_time >= (:orderedTimeFrom)");
+            parameters.addValue("orderedTimeFrom", condition.getOrderedTimeFrom());
+        }
+        if (Objects.nonNull(condition.getOrderedTimeTo())) {
+            sql.append(" AND ordered_time < (:orderedTimeTo)");
+            parameters.addValue("orderedTimeTo", condition.getOrderedTimeTo());
+        }
+        sql.append(" ORDER BY id LIMIT :size");
+        return jdbcTemplate.query(sql.toString(), parameters, (resultSet, rowNumber) -> toEntity(resultSet));
+    }
+
+    @Override
+    public void forEachWithOrderLineItems(final Consumer<Order> action) {
+        final String sql = "SELECT o.id, o.order_table_id, o.order_status, o.ordered_time," +
+                " l.seq, l.menu_id, l.quantity" +
+                " FROM orders o LEFT JOIN order_line_item l ON o.id = l.order_id ORDER BY o.id, l.seq";
+        final OrderAggregator orderAggregator = new OrderAggregator(action);
+        streamingJdbcTemplate.query(sql, orderAggregator);
+        orderAggregator.flush();
+    }
+
+    @Override
+    public List<Long> findIdsByOrderStatusAndOrderedTimeBeforeAndIdGreaterThan(
+            final OrderStatus orderStatus,
+            final LocalDateTime orderedTime,
+            final Long cursor,
+            final int size
+    ) {
+        final String sql = "SELECT id FROM orders" +
+                " WHERE order_status = (:orderStatus) AND ordered_time < (:orderedTime) AND id > (:cursor)" +
+                " ORDER BY id LIMIT :size";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("orderStatus", orderStatus.getCode())
+                .addValue("orderedTime", orderedTime)
+                .addValue("cursor", cursor)
+                .addValue("size", size);
+        return jdbcTemplate.queryForList(sql, parameters, Long.class);
+    }
+
+    @Override
+    public boolean existsByOrderTableIdAndOrderStatusIn(final Long orderTableId, final List<OrderStatus> orderStatuses) {
         final String sql = "SELECT CASE WHEN COUNT(*) > 0 THEN TRUE ELSE FALSE END" +
                 " FROM orders WHERE order_table_id = (:orderTableId) AND order_status IN (:orderStatuses)";
         final SqlParameterSource parameters = new MapSqlParameterSource()
                 .addValue("orderTableId", orderTableId)
-                .addValue("orderStatuses", orderStatuses);
+                .addValue("orderStatuses", toCodes(orderStatuses));
         return jdbcTemplate.queryForObject(sql, parameters, Boolean.class);
     }
 
     @Override
-    public boolean existsByOrderTableIdInAndOrderStatusIn(final List<Long> orderTableIds, final List<String> orderStatuses) {
+    public boolean existsByOrderTableIdInAndOrderStatusIn(final List<Long> orderTableIds, final List<OrderStatus> orderStatuses) {
         final String sql = "SELECT CASE WHEN COUNT(*) > 0 THEN TRUE ELSE FALSE END" +
                 " FROM orders WHERE order_table_id IN (:orderTableIds) AND order_status IN (:orderStatuses)";
         final SqlParameterSource parameters = new MapSqlParameterSource()
                 .addValue("orderTableIds", orderTableIds)
-                .addValue("orderStatuses", orderStatuses);
+                .addValue("orderStatuses", toCodes(orderStatuses));
         return jdbcTemplate.queryForObject(sql, parameters, Boolean.class);
     }
 
+    @Override
+    public int updateOrderStatusByIdIn(final List<Long> ids, final OrderStatus orderStatus) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        final String sql = "UPDATE orders SET order_status = (:orderStatus)" +
+                " WHERE id IN (:ids) AND order_status <> (:completion)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("orderStatus", orderStatus.getCode())
+                .addValue("ids", ids)
+                .addValue("completion", OrderStatus.COMPLETION.getCode());
+        return jdbcTemplate.update(sql, parameters);
+    }
+
+    @Override
+    public void deleteAllByIdIn(final List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        final String sql = "DELETE FROM orders WHERE id IN (:ids)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("ids", ids);
+        jdbcTemplate.update(sql, parameters);
+    }
+
     private Order select(final Long id) {
         final String sql = "SELECT id, order_table_id, order_status, ordered_time FROM orders WHERE id = (:id)";
         final SqlParameterSource parameters = new MapSqlParameterSource()
@@ -89,17 +259,68 @@ public class JdbcTemplateOrderDao implements OrderDao {
     private void update(final Order entity) {
         final String sql = "UPDATE orders SET order_status = (:orderStatus) WHERE id = (:id)";
         final SqlParameterSource parameters = new MapSqlParameterSource()
-                .addValue("orderStatus", entity.getOrderStatus())
+                .addValue("orderStatus", entity.getOrderStatus().getCode())
                 .addValue("id", entity.getId());
         jdbcTemplate.update(sql, parameters);
     }
 
+    private List<Integer> toCodes(final List<OrderStatus> orderStatuses) {
+        return orderStatuses.stream()
+                .map(OrderStatus::getCode)
+                .collect(Collectors.toList());
+    }
+
+    private Order toEntity(final Long id, final Order source) {
+        final Order entity = new Order();
+        entity.setId(id);
+        entity.setOrderTableId(source.getOrderTableId());
+        entity.setOrderStatus(source.getOrderStatus());
+        entity.setOrderedTime(source.getOrderedTime());
+        return entity;
+    }
+
     private Order toEntity(final ResultSet resultSet) throws SQLException {
         final Order entity = new Order();
         entity.setId(resultSet.getLong(KEY_COLUMN_NAME));
         entity.setOrderTableId(resultSet.getLong("order_table_id"));
-        entity.setOrderStatus(resultSet.getString("order_status"));
+        entity.setOrderStatus(OrderStatus.ofCode(resultSet.getInt("order_status")));
         entity.setOrderedTime(resultSet.getObject("ordered_time", LocalDateTime.class));
         return entity;
     }
+
+    private class OrderAggregator implements RowCallbackHandler {
+        private final Consumer<Order> action;
+        private Order current;
+
+        private OrderAggregator(final Consumer<Order> action) {
+            this.action = action;
+        }
+
+        @Override
+        public void processRow(final ResultSet resultSet) throws SQLException {
+            final long orderId = resultSet.getLong(KEY_COLUMN_NAME);
+            if (Objects.isNull(current) || current.getId() != orderId) {
+                flush();
+                current = toEntity(resultSet);
+                current.setOrderLineItems(new ArrayList<>());
+            }
+
+            final Long seq = resultSet.getObject("seq", Long.class);
+            if (Objects.nonNull(seq)) {
+                final OrderLineItem orderLineItem = new OrderLineItem();
+                orderLineItem.setSeq(seq);
+                orderLineItem.setOrderId(orderId);
+                orderLineItem.setMenuId(resultSet.getLong("menu_id"));
+                orderLineItem.setQuantity(resultSet.getLong("quantity"));
+                current.getOrderLineItems().add(orderLineItem);
+            }
+        }
+
+        private void flush() {
+            if (Objects.nonNull(current)) {
+                action.accept(current);
+                current = null;
+            }
+        }
+    }
 }
@@ -12,6 +12,8 @@ import org.springframework.stereotype.Repository;
 import javax.sql.DataSource;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +21,7 @@ import java.util.Optional;
 public class JdbcTemplateOrderLineItemDao implements OrderLineItemDao {
     private static final String TABLE_NAME = "order_line_item";
     private static final String KEY_COLUMN_NAME = "seq";
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
 
     private final NamedParameterJdbcTemplate jdbcTemplate;
     private final SimpleJdbcInsert jdbcInsert;
@@ -35,7 +38,18 @@ public class JdbcTemplateOrderLineItemDao implements OrderLineItemDao {
     public OrderLineItem save(final OrderLineItem entity) {
         final SqlParameterSource parameters = new BeanPropertySqlParameterSource(entity);
         final Number key = jdbcInsert.executeAndReturnKey(parameters);
-        return select(key.longValue());
+        return toEntity(key.longValue(), entity);
+    }
+
+    @Override
+    public List<OrderLineItem> saveAll(final List<OrderLineItem> entities) {
+        final String sql = "INSERT INTO order_line_item (order_id, menu_id, quantity) VALUES (?, ?, ?)";
+        return BatchInsert.saveAll(jdbcTemplate.getJdbcOperations(), sql, KEY_COLUMN_NAME, entities,
+                (statement, entity) -> {
+                    statement.setLong(1, entity.getOrderId());
+                    statement.setLong(2, entity.getMenuId());
+                    statement.setLong(3, entity.getQuantity());
+                }, this::toEntity);
     }
 
     @Override
@@ -61,6 +75,33 @@ public class JdbcTemplateOrderLineItemDao implements OrderLineItemDao {
         return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
     }
 
+    @Override
+    public List<OrderLineItem> findAllByOrderIdIn(final List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final String sql = "SELECT seq, order_id, menu_id, quantity FROM order_line_item WHERE order_id IN (:orderIds)";
+        final List<OrderLineItem> orderLineItems = new ArrayList<>();
+        for (int from = 0; from < orderIds.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            final int to = Math.min(from + IN_CLAUSE_CHUNK_SIZE, orderIds.size());
+            final SqlParameterSource parameters = new MapSqlParameterSource()
+                    .addValue("orderIds", orderIds.subList(from, to));
+            orderLineItems.addAll(jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet)));
+        }
+        return orderLineItems;
+    }
+
+    @Override
+    public void deleteAllByOrderIdIn(final List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        final String sql = "DELETE FROM order_line_item WHERE order_id IN (:orderIds)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("orderIds", orderIds);
+        jdbcTemplate.update(sql, parameters);
+    }
+
     private OrderLineItem select(final Long id) {
         final String sql = "SELECT seq, order_id, menu_id, quantity FROM order_line_item WHERE seq = (:seq)";
         final SqlParameterSource parameters = new MapSqlParameterSource()
@@ -68,6 +109,15 @@ public class JdbcTemplateOrderLineItemDao implements OrderLineItemDao {
         return jdbcTemplate.queryForObject(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
     }
 
+    private OrderLineItem toEntity(final Long seq, final OrderLineItem source) {
+        final OrderLineItem entity = new OrderLineItem();
+        entity.setSeq(seq);
+        entity.setOrderId(source.getOrderId());
+        entity.setMenuId(source.getMenuId());
+        entity.setQuantity(source.getQuantity());
+        return entity;
+    }
+
     private OrderLineItem toEntity(final ResultSet resultSet) throws SQLException {
         final OrderLineItem entity = new OrderLineItem();
         entity.setSeq(resultSet.getLong(KEY_COLUMN_NAME));
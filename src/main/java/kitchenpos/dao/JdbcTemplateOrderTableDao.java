@@ -37,7 +37,7 @@ public class JdbcTemplateOrderTableDao implements OrderTableDao {
         if (Objects.isNull(entity.getId())) {
             final SqlParameterSource parameters = new BeanPropertySqlParameterSource(entity);
             final Number key = jdbcInsert.executeAndReturnKey(parameters);
-            return select(key.longValue());
+            return toEntity(key.longValue(), entity);
         }
         update(entity);
         return entity;
@@ -93,6 +93,15 @@ public class JdbcTemplateOrderTableDao implements OrderTableDao {
         jdbcTemplate.update(sql, parameters);
     }
 
+    private OrderTable toEntity(final Long id, final OrderTable source) {
+        final OrderTable entity = new OrderTable();
+        entity.setId(id);
+        entity.setTableGroupId(source.getTableGroupId());
+        entity.setNumberOfGuests(source.getNumberOfGuests());
+        entity.setEmpty(source.isEmpty());
+        return entity;
+    }
+
     private OrderTable toEntity(final ResultSet resultSet) throws SQLException {
         final OrderTable entity = new OrderTable();
         entity.setId(resultSet.getLong(KEY_COLUMN_NAME));
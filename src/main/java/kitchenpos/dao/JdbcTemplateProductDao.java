@@ -12,6 +12,7 @@ import org.springframework.stereotype.Repository;
 import javax.sql.DataSource;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +20,7 @@ import java.util.Optional;
 public class JdbcTemplateProductDao implements ProductDao {
     private static final String TABLE_NAME = "product";
     private static final String KEY_COLUMN_NAME = "id";
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
 
     private final NamedParameterJdbcTemplate jdbcTemplate;
     private final SimpleJdbcInsert jdbcInsert;
@@ -35,7 +37,17 @@ public class JdbcTemplateProductDao implements ProductDao {
     public Product save(final Product entity) {
         final SqlParameterSource parameters = new BeanPropertySqlParameterSource(entity);
         final Number key = jdbcInsert.executeAndReturnKey(parameters);
-        return select(key.longValue());
+        return toEntity(key.longValue(), entity);
+    }
+
+    @Override
+    public List<Product> saveAll(final List<Product> entities) {
+        final String sql = "INSERT INTO product (name, price) VALUES (?, ?)";
+        return BatchInsert.saveAll(jdbcTemplate.getJdbcOperations(), sql, KEY_COLUMN_NAME, entities,
+                (statement, entity) -> {
+                    statement.setString(1, entity.getName());
+                    statement.setBigDecimal(2, entity.getPrice());
+                }, this::toEntity);
     }
 
     @Override
@@ -53,6 +65,19 @@ public class JdbcTemplateProductDao implements ProductDao {
         return jdbcTemplate.query(sql, (resultSet, rowNumber) -> toEntity(resultSet));
     }
 
+    @Override
+    public List<Product> findAllByIdIn(final List<Long> ids) {
+        final String sql = "SELECT id, name, price FROM product WHERE id IN (:ids)";
+        final List<Product> products = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            final int to = Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size());
+            final SqlParameterSource parameters = new MapSqlParameterSource()
+                    .addValue("ids", ids.subList(from, to));
+            products.addAll(jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet)));
+        }
+        return products;
+    }
+
     private Product select(final Long id) {
         final String sql = "SELECT id, name, price FROM product WHERE id = (:id)";
         final SqlParameterSource parameters = new MapSqlParameterSource()
@@ -60,6 +85,14 @@ public class JdbcTemplateProductDao implements ProductDao {
         return jdbcTemplate.queryForObject(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
     }
 
+    private Product toEntity(final Long id, final Product source) {
+        final Product entity = new Product();
+        entity.setId(id);
+        entity.setName(source.getName());
+        entity.setPrice(source.getPrice());
+        return entity;
+    }
+
     private Product toEntity(final ResultSet resultSet) throws SQLException {
         final Product entity = new Product();
         entity.setId(resultSet.getLong(KEY_COLUMN_NAME));
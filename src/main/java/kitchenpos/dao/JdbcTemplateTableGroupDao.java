@@ -36,7 +36,7 @@ public class JdbcTemplateTableGroupDao implements TableGroupDao {
     public TableGroup save(final TableGroup entity) {
         final SqlParameterSource parameters = new BeanPropertySqlParameterSource(entity);
         final Number key = jdbcInsert.executeAndReturnKey(parameters);
-        return select(key.longValue());
+        return toEntity(key.longValue(), entity);
     }
 
     @Override
@@ -61,6 +61,13 @@ public class JdbcTemplateTableGroupDao implements TableGroupDao {
         return jdbcTemplate.queryForObject(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
     }
 
+    private TableGroup toEntity(final Long id, final TableGroup source) {
+        final TableGroup entity = new TableGroup();
+        entity.setId(id);
+        entity.setCreatedDate(source.getCreatedDate());
+        return entity;
+    }
+
     private TableGroup toEntity(final ResultSet resultSet) throws SQLException {
         final TableGroup entity = new TableGroup();
         entity.setId(resultSet.getLong(KEY_COLUMN_NAME));
@@ -8,9 +8,13 @@ import java.util.Optional;
 public interface MenuDao {
     Menu save(Menu entity);
 
+    List<Menu> saveAll(List<Menu> entities);
+
     Optional<Menu> findById(Long id);
 
     List<Menu> findAll();
 
+    List<Menu> findAllByIdIn(List<Long> ids);
+
     long countByIdIn(List<Long> ids);
 }
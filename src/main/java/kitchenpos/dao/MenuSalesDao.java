@@ -0,0 +1,15 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.MenuGroupSales;
+import kitchenpos.domain.MenuSales;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MenuSalesDao {
+    void addAll(List<MenuSales> entities);
+
+    List<MenuSales> findAllBySalesHourBetween(LocalDateTime from, LocalDateTime to);
+
+    List<MenuGroupSales> findAllMenuGroupSalesBySalesHourBetween(LocalDateTime from, LocalDateTime to);
+}
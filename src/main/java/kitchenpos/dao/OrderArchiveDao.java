@@ -0,0 +1,15 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OrderArchiveDao {
+    void saveAll(List<Order> entities, LocalDateTime archivedTime);
+
+    List<Order> findAllByIdGreaterThan(Long cursor, int size);
+
+    List<OrderLineItem> findAllOrderLineItemsByOrderIdIn(List<Long> orderIds);
+}
@@ -1,18 +1,45 @@
 package kitchenpos.dao;
 
 import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderSearchCondition;
+import kitchenpos.domain.OrderStatus;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface OrderDao {
     Order save(Order entity);
 
+    void insertAll(List<Order> entities);
+
     Optional<Order> findById(Long id);
 
+    Optional<Order> findByIdForUpdate(Long id);
+
     List<Order> findAll();
 
-    boolean existsByOrderTableIdAndOrderStatusIn(Long orderTableId, List<String> orderStatuses);
+    long nextId();
+
+    List<Order> findAllByIdIn(List<Long> ids);
+
+    List<Order> findAllByIdInForUpdate(List<Long> ids);
+
+    List<Order> findAllByIdGreaterThan(Long cursor, int size);
+
+    List<Order> findAllByConditionAndIdGreaterThan(OrderSearchCondition condition, Long cursor, int size);
+
+    void forEachWithOrderLineItems(Consumer<Order> action);
+
+    List<Long> findIdsByOrderStatusAndOrderedTimeBeforeAndIdGreaterThan(OrderStatus orderStatus,
+            LocalDateTime orderedTime, Long cursor, int size);
+
+    boolean existsByOrderTableIdAndOrderStatusIn(Long orderTableId, List<OrderStatus> orderStatuses);
+
+    boolean existsByOrderTableIdInAndOrderStatusIn(List<Long> orderTableIds, List<OrderStatus> orderStatuses);
+
+    int updateOrderStatusByIdIn(List<Long> ids, OrderStatus orderStatus);
 
-    boolean existsByOrderTableIdInAndOrderStatusIn(List<Long> orderTableIds, List<String> orderStatuses);
+    void deleteAllByIdIn(List<Long> ids);
 }
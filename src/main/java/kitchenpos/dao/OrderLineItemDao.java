@@ -8,9 +8,15 @@ import java.util.Optional;
 public interface OrderLineItemDao {
     OrderLineItem save(OrderLineItem entity);
 
+    List<OrderLineItem> saveAll(List<OrderLineItem> entities);
+
     Optional<OrderLineItem> findById(Long id);
 
     List<OrderLineItem> findAll();
 
     List<OrderLineItem> findAllByOrderId(Long orderId);
+
+    List<OrderLineItem> findAllByOrderIdIn(List<Long> orderIds);
+
+    void deleteAllByOrderIdIn(List<Long> orderIds);
 }
@@ -8,7 +8,11 @@ import java.util.Optional;
 public interface ProductDao {
     Product save(Product entity);
 
+    List<Product> saveAll(List<Product> entities);
+
     Optional<Product> findById(Long id);
 
     List<Product> findAll();
+
+    List<Product> findAllByIdIn(List<Long> ids);
 }
@@ -0,0 +1,43 @@
+package kitchenpos.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class MenuGroupSales {
+    private LocalDateTime salesHour;
+    private Long menuGroupId;
+    private long quantity;
+    private BigDecimal revenue;
+
+    public LocalDateTime getSalesHour() {
+        return salesHour;
+    }
+
+    public void setSalesHour(final LocalDateTime salesHour) {
+        this.salesHour = salesHour;
+    }
+
+    public Long getMenuGroupId() {
+        return menuGroupId;
+    }
+
+    public void setMenuGroupId(final Long menuGroupId) {
+        this.menuGroupId = menuGroupId;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(final long quantity) {
+        this.quantity = quantity;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(final BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+}
@@ -0,0 +1,22 @@
+package kitchenpos.domain;
+
+public class MenuImportError {
+    private int index;
+    private MenuImportErrorReason reason;
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(final int index) {
+        this.index = index;
+    }
+
+    public MenuImportErrorReason getReason() {
+        return reason;
+    }
+
+    public void setReason(final MenuImportErrorReason reason) {
+        this.reason = reason;
+    }
+}
@@ -0,0 +1,12 @@
+package kitchenpos.domain;
+
+public enum MenuImportErrorReason {
+    INVALID_MENU,
+    INVALID_NAME,
+    INVALID_PRICE,
+    MENU_GROUP_NOT_FOUND,
+    INVALID_MENU_PRODUCTS,
+    PRODUCT_NOT_FOUND,
+    PRICE_EXCEEDS_PRODUCTS_SUM,
+    SAVE_FAILED
+}
@@ -0,0 +1,24 @@
+package kitchenpos.domain;
+
+import java.util.List;
+
+public class MenuImportResult {
+    private List<Long> menuIds;
+    private List<MenuImportError> errors;
+
+    public List<Long> getMenuIds() {
+        return menuIds;
+    }
+
+    public void setMenuIds(final List<Long> menuIds) {
+        this.menuIds = menuIds;
+    }
+
+    public List<MenuImportError> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(final List<MenuImportError> errors) {
+        this.errors = errors;
+    }
+}
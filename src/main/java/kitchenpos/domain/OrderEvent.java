@@ -0,0 +1,61 @@
+package kitchenpos.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class OrderEvent {
+    private OrderEventType type;
+    private Long orderId;
+    private Long orderTableId;
+    private OrderStatus orderStatus;
+    private LocalDateTime orderedTime;
+    private List<OrderLineItem> orderLineItems;
+
+    public OrderEventType getType() {
+        return type;
+    }
+
+    public void setType(final OrderEventType type) {
+        this.type = type;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(final Long orderId) {
+        this.orderId = orderId;
+    }
+
+    public Long getOrderTableId() {
+        return orderTableId;
+    }
+
+    public void setOrderTableId(final Long orderTableId) {
+        this.orderTableId = orderTableId;
+    }
+
+    public OrderStatus getOrderStatus() {
+        return orderStatus;
+    }
+
+    public void setOrderStatus(final OrderStatus orderStatus) {
+        this.orderStatus = orderStatus;
+    }
+
+    public LocalDateTime getOrderedTime() {
+        return orderedTime;
+    }
+
+    public void setOrderedTime(final LocalDateTime orderedTime) {
+        this.orderedTime = orderedTime;
+    }
+
+    public List<OrderLineItem> getOrderLineItems() {
+        return orderLineItems;
+    }
+
+    public void setOrderLineItems(final List<OrderLineItem> orderLineItems) {
+        this.orderLineItems = orderLineItems;
+    }
+}
@@ -0,0 +1,6 @@
+package kitchenpos.domain;
+
+public enum OrderEventType {
+    CREATED,
+    STATUS_CHANGED
+}
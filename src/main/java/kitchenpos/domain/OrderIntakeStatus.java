@@ -0,0 +1,7 @@
+package kitchenpos.domain;
+
+public enum OrderIntakeStatus {
+    QUEUED,
+    COMMITTED,
+    FAILED
+}
@@ -0,0 +1,22 @@
+package kitchenpos.domain;
+
+public class OrderIntakeTicket {
+    private Long orderId;
+    private OrderIntakeStatus status;
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(final Long orderId) {
+        this.orderId = orderId;
+    }
+
+    public OrderIntakeStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(final OrderIntakeStatus status) {
+        this.status = status;
+    }
+}
@@ -0,0 +1,43 @@
+package kitchenpos.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class OrderSearchCondition {
+    private List<OrderStatus> orderStatuses;
+    private Long orderTableId;
+    private LocalDateTime orderedTimeFrom;
+    private LocalDateTime orderedTimeTo;
+
+    public List<OrderStatus> getOrderStatuses() {
+        return orderStatuses;
+    }
+
+    public void setOrderStatuses(final List<OrderStatus> orderStatuses) {
+        this.orderStatuses = orderStatuses;
+    }
+
+    public Long getOrderTableId() {
+        return orderTableId;
+    }
+
+    public void setOrderTableId(final Long orderTableId) {
+        this.orderTableId = orderTableId;
+    }
+
+    public LocalDateTime getOrderedTimeFrom() {
+        return orderedTimeFrom;
+    }
+
+    public void setOrderedTimeFrom(final LocalDateTime orderedTimeFrom) {
+        this.orderedTimeFrom = orderedTimeFrom;
+    }
+
+    public LocalDateTime getOrderedTimeTo() {
+        return orderedTimeTo;
+    }
+
+    public void setOrderedTimeTo(final LocalDateTime orderedTimeTo) {
+        this.orderedTimeTo = orderedTimeTo;
+    }
+}
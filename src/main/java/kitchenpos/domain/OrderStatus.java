@@ -1,5 +1,24 @@
 package kitchenpos.domain;
 
+import java.util.Arrays;
+
 public enum OrderStatus {
-    COOKING, MEAL, COMPLETION
+    COOKING(1), MEAL(2), COMPLETION(3);
+
+    private final int code;
+
+    OrderStatus(final int code) {
+        this.code = code;
+    }
+
+    public static OrderStatus ofCode(final int code) {
+        return Arrays.stream(values())
+                .filter(orderStatus -> orderStatus.code == code)
+                .findFirst()
+                .orElseThrow(IllegalArgumentException::new);
+    }
+
+    public int getCode() {
+        return code;
+    }
 }
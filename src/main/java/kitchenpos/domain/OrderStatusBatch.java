@@ -0,0 +1,24 @@
+package kitchenpos.domain;
+
+import java.util.List;
+
+public class OrderStatusBatch {
+    private List<Long> orderIds;
+    private OrderStatus orderStatus;
+
+    public List<Long> getOrderIds() {
+        return orderIds;
+    }
+
+    public void setOrderIds(final List<Long> orderIds) {
+        this.orderIds = orderIds;
+    }
+
+    public OrderStatus getOrderStatus() {
+        return orderStatus;
+    }
+
+    public void setOrderStatus(final OrderStatus orderStatus) {
+        this.orderStatus = orderStatus;
+    }
+}
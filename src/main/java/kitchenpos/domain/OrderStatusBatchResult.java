@@ -0,0 +1,24 @@
+package kitchenpos.domain;
+
+import java.util.List;
+
+public class OrderStatusBatchResult {
+    private List<Long> changedOrderIds;
+    private List<Long> rejectedOrderIds;
+
+    public List<Long> getChangedOrderIds() {
+        return changedOrderIds;
+    }
+
+    public void setChangedOrderIds(final List<Long> changedOrderIds) {
+        this.changedOrderIds = changedOrderIds;
+    }
+
+    public List<Long> getRejectedOrderIds() {
+        return rejectedOrderIds;
+    }
+
+    public void setRejectedOrderIds(final List<Long> rejectedOrderIds) {
+        this.rejectedOrderIds = rejectedOrderIds;
+    }
+}
@@ -0,0 +1,49 @@
+package kitchenpos.domain;
+
+public class ProductImportResult {
+    private long importedCount;
+    private long rejectedCount;
+    private long failedCount;
+    private long elapsedMillis;
+    private long productsPerSecond;
+
+    public long getImportedCount() {
+        return importedCount;
+    }
+
+    public void setImportedCount(final long importedCount) {
+        this.importedCount = importedCount;
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    public void setRejectedCount(final long rejectedCount) {
+        this.rejectedCount = rejectedCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    public void setFailedCount(final long failedCount) {
+        this.failedCount = failedCount;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(final long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public long getProductsPerSecond() {
+        return productsPerSecond;
+    }
+
+    public void setProductsPerSecond(final long productsPerSecond) {
+        this.productsPerSecond = productsPerSecond;
+    }
+}
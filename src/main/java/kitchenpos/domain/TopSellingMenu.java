@@ -0,0 +1,22 @@
+package kitchenpos.domain;
+
+public class TopSellingMenu {
+    private Long menuId;
+    private long quantity;
+
+    public Long getMenuId() {
+        return menuId;
+    }
+
+    public void setMenuId(final Long menuId) {
+        this.menuId = menuId;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(final long quantity) {
+        this.quantity = quantity;
+    }
+}
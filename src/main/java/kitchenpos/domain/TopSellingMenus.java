@@ -0,0 +1,33 @@
+package kitchenpos.domain;
+
+import java.util.List;
+
+public class TopSellingMenus {
+    private List<TopSellingMenu> lastFifteenMinutes;
+    private List<TopSellingMenu> lastHour;
+    private List<TopSellingMenu> lastDay;
+
+    public List<TopSellingMenu> getLastFifteenMinutes() {
+        return lastFifteenMinutes;
+    }
+
+    public void setLastFifteenMinutes(final List<TopSellingMenu> lastFifteenMinutes) {
+        this.lastFifteenMinutes = lastFifteenMinutes;
+    }
+
+    public List<TopSellingMenu> getLastHour() {
+        return lastHour;
+    }
+
+    public void setLastHour(final List<TopSellingMenu> lastHour) {
+        this.lastHour = lastHour;
+    }
+
+    public List<TopSellingMenu> getLastDay() {
+        return lastDay;
+    }
+
+    public void setLastDay(final List<TopSellingMenu> lastDay) {
+        this.lastDay = lastDay;
+    }
+}
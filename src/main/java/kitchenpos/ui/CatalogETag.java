@@ -0,0 +1,56 @@
+package kitchenpos.ui;
+
+import java.util.function.Supplier;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * 카탈로그 리비전으로 만든 강한 ETag로 조건부 조회에 답한다.
+ * If-None-Match가 현재 리비전과 같으면 본문을 만들지 않고 304를 반환한다.
+ */
+final class CatalogETag {
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private CatalogETag() {
+    }
+
+    static <T> ResponseEntity<T> respond(
+            final HttpHeaders requestHeaders,
+            final String revision,
+            final Supplier<T> body
+    ) {
+        final String eTag = "\"" + revision + "\"";
+        if (isNotModified(requestHeaders, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache())
+                    .build()
+                    ;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(body.get())
+                ;
+    }
+
+    private static boolean isNotModified(final HttpHeaders requestHeaders, final String eTag) {
+        for (final String ifNoneMatch : requestHeaders.getIfNoneMatch()) {
+            if (ANY.equals(ifNoneMatch) || eTag.equals(stripWeakPrefix(ifNoneMatch))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeakPrefix(final String eTag) {
+        if (eTag.startsWith(WEAK_PREFIX)) {
+            return eTag.substring(WEAK_PREFIX.length());
+        }
+        return eTag;
+    }
+}
@@ -3,10 +3,12 @@ package kitchenpos.ui;
 import java.net.URI;
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
 import kitchenpos.application.MenuGroupService;
@@ -32,9 +34,7 @@ public class MenuGroupRestController {
     }
 
     @GetMapping(MENU_GROUP_REST_API_URI)
-    public ResponseEntity<List<MenuGroup>> list() {
-        return ResponseEntity.ok()
-                .body(menuGroupService.list())
-                ;
+    public ResponseEntity<List<MenuGroup>> list(@RequestHeader final HttpHeaders headers) {
+        return CatalogETag.respond(headers, menuGroupService.revision(), menuGroupService::list);
     }
 }
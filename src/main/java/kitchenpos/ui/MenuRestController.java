@@ -3,14 +3,17 @@ package kitchenpos.ui;
 import java.net.URI;
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
 import kitchenpos.application.MenuService;
 import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuImportResult;
 
 @RestController
 public class MenuRestController {
@@ -31,10 +34,15 @@ public class MenuRestController {
                 ;
     }
 
-    @GetMapping(MENU_REST_API_URI)
-    public ResponseEntity<List<Menu>> list() {
+    @PostMapping(MENU_REST_API_URI + "/import")
+    public ResponseEntity<MenuImportResult> importMenus(@RequestBody final List<Menu> menus) {
         return ResponseEntity.ok()
-                .body(menuService.list())
+                .body(menuService.importMenus(menus))
                 ;
     }
+
+    @GetMapping(MENU_REST_API_URI)
+    public ResponseEntity<List<Menu>> list(@RequestHeader final HttpHeaders headers) {
+        return CatalogETag.respond(headers, menuService.revision(), menuService::list);
+    }
 }
@@ -0,0 +1,39 @@
+package kitchenpos.ui;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import kitchenpos.application.OrderArchiveService;
+import kitchenpos.domain.Order;
+
+@RestController
+public class OrderHistoryRestController {
+    public static final String ORDER_HISTORY_REST_API_URI = OrderRestController.ORDER_REST_API_URI + "/history";
+
+    private static final String DEFAULT_CURSOR = "0";
+    private static final String DEFAULT_PAGE_SIZE = "100";
+
+    private final OrderArchiveService orderArchiveService;
+
+    public OrderHistoryRestController(final OrderArchiveService orderArchiveService) {
+        this.orderArchiveService = orderArchiveService;
+    }
+
+    @GetMapping(ORDER_HISTORY_REST_API_URI)
+    public ResponseEntity<List<Order>> listHistory(
+            @RequestParam(defaultValue = DEFAULT_CURSOR) final Long cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) final int size
+    ) {
+        final List<Order> orders = orderArchiveService.listHistory(cursor, size);
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (orders.size() == size) {
+            final Order lastOrder = orders.get(orders.size() - 1);
+            response.header(OrderRestController.NEXT_CURSOR_HEADER, String.valueOf(lastOrder.getId()));
+        }
+        return response.body(orders);
+    }
+}
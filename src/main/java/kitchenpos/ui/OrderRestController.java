@@ -1,45 +1,194 @@
 package kitchenpos.ui;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.application.OrderEventPublisher;
+import kitchenpos.application.OrderIntake;
 import kitchenpos.application.OrderService;
+import kitchenpos.config.AsyncRequestExecutor;
 import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderEvent;
+import kitchenpos.domain.OrderIntakeTicket;
+import kitchenpos.domain.OrderSearchCondition;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderStatusBatch;
+import kitchenpos.domain.OrderStatusBatchResult;
 
 @RestController
 public class OrderRestController {
     public static final String ORDER_REST_API_URI = "/api/orders";
+    public static final String NEXT_CURSOR_HEADER = "Next-Cursor";
+    public static final String DEPRECATION_HEADER = "Deprecation";
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private static final long DEFAULT_CURSOR = 0L;
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final byte RECORD_SEPARATOR = '\n';
+    private static final String RETRY_AFTER_SECONDS = "1";
+    private static final long EVENT_STREAM_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(30);
 
     private final OrderService orderService;
+    private final OrderIntake orderIntake;
+    private final AsyncRequestExecutor asyncRequestExecutor;
+    private final OrderEventPublisher orderEventPublisher;
+    private final ObjectMapper objectMapper;
 
-    public OrderRestController(final OrderService orderService) {
+    public OrderRestController(
+            final OrderService orderService,
+            final ObjectProvider<OrderIntake> orderIntake,
+            final ObjectProvider<AsyncRequestExecutor> asyncRequestExecutor,
+            final OrderEventPublisher orderEventPublisher,
+            final ObjectMapper objectMapper
+    ) {
         this.orderService = orderService;
+        this.orderIntake = orderIntake.getIfAvailable();
+        this.asyncRequestExecutor = asyncRequestExecutor.getIfAvailable();
+        this.orderEventPublisher = orderEventPublisher;
+        this.objectMapper = objectMapper;
     }
 
+    /**
+     * 주문을 등록한다. 요청 실행 방식이 {@code async}이면 작업 스레드에서 실행할 {@link DeferredResult}를 돌려주고,
+     * 그 밖에는 {@link ResponseEntity}로 바로 응답한다.
+     * {@code Retry-After}와 함께 503으로 응답하는 것은 주문을 등록하지 않았을 때뿐이므로 다시 보내도 두 번 등록되지 않는다.
+     */
     @PostMapping(ORDER_REST_API_URI)
-    public ResponseEntity<Order> create(@RequestBody final Order order) {
-        final Order created = orderService.create(order);
-        final URI uri = URI.create("/api/orders/" + created.getId());
-        return ResponseEntity.created(uri)
-                .body(created)
-                ;
+    public Object create(@RequestBody final Order order) throws InterruptedException {
+        if (Objects.nonNull(orderIntake)) {
+            return submit(order);
+        }
+        if (Objects.nonNull(asyncRequestExecutor)) {
+            return execute(order);
+        }
+        return created(orderService.create(order));
+    }
+
+    @GetMapping(ORDER_REST_API_URI + "/{orderId}/intake")
+    public ResponseEntity<OrderIntakeTicket> findIntakeTicket(@PathVariable final Long orderId) {
+        if (Objects.isNull(orderIntake)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.of(orderIntake.findTicket(orderId));
     }
 
+    /**
+     * 커서나 크기를 지정하지 않은 조회는 이전 클라이언트를 위해 모든 주문을 반환하지만 사용 중단 예정이므로
+     * {@value #DEPRECATION_HEADER} 헤더를 붙인다. 새 클라이언트는 {@code size}를 지정해 나누어 조회한다.
+     */
     @GetMapping(ORDER_REST_API_URI)
-    public ResponseEntity<List<Order>> list() {
+    public ResponseEntity<List<Order>> list(
+            @RequestParam(required = false) final Long cursor,
+            @RequestParam(required = false) final Integer size,
+            @RequestParam(required = false) final List<OrderStatus> orderStatus,
+            @RequestParam(required = false) final Long orderTableId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            final LocalDateTime orderedTimeFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            final LocalDateTime orderedTimeTo
+    ) {
+        final boolean filtered = Objects.nonNull(orderStatus) || Objects.nonNull(orderTableId)
+                || Objects.nonNull(orderedTimeFrom) || Objects.nonNull(orderedTimeTo);
+        if (!filtered && Objects.isNull(cursor) && Objects.isNull(size)) {
+            return ResponseEntity.ok()
+                    .header(DEPRECATION_HEADER, Boolean.TRUE.toString())
+                    .body(orderService.list())
+                    ;
+        }
+
+        final long pageCursor = Objects.isNull(cursor) ? DEFAULT_CURSOR : cursor;
+        final int pageSize = Objects.isNull(size) ? DEFAULT_PAGE_SIZE : size;
+        final List<Order> orders;
+        if (!filtered) {
+            orders = orderService.list(pageCursor, pageSize);
+        } else {
+            final OrderSearchCondition condition = new OrderSearchCondition();
+            condition.setOrderStatuses(orderStatus);
+            condition.setOrderTableId(orderTableId);
+            condition.setOrderedTimeFrom(orderedTimeFrom);
+            condition.setOrderedTimeTo(orderedTimeTo);
+            orders = orderService.search(condition, pageCursor, pageSize);
+        }
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (orders.size() == pageSize) {
+            final Order lastOrder = orders.get(orders.size() - 1);
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(lastOrder.getId()));
+        }
+        return response.body(orders);
+    }
+
+    @GetMapping(value = ORDER_REST_API_URI + "/export", produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        final StreamingResponseBody body = outputStream -> orderService.export(order -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(order));
+                outputStream.write(RECORD_SEPARATOR);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
         return ResponseEntity.ok()
-                .body(orderService.list())
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(body)
                 ;
     }
 
+    @GetMapping(value = ORDER_REST_API_URI + "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(
+            @RequestParam(required = false) final Long orderTableId,
+            @RequestParam(required = false) final OrderStatus orderStatus
+    ) {
+        final SseEmitter emitter = new SseEmitter(EVENT_STREAM_TIMEOUT_MILLIS);
+        final Predicate<OrderEvent> filter = event ->
+                (Objects.isNull(orderTableId) || orderTableId.equals(event.getOrderTableId()))
+                        && (Objects.isNull(orderStatus) || orderStatus == event.getOrderStatus());
+        final Runnable unsubscribe = orderEventPublisher.subscribe(filter, event -> {
+            try {
+                emitter.send(SseEmitter.event()
+                        .name(event.getType().name())
+                        .data(event, MediaType.APPLICATION_JSON));
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, emitter::completeWithError);
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(error -> unsubscribe.run());
+        return emitter;
+    }
+
+    @PutMapping(ORDER_REST_API_URI + "/order-status")
+    public ResponseEntity<OrderStatusBatchResult> changeOrderStatuses(
+            @RequestBody final OrderStatusBatch orderStatusBatch
+    ) {
+        return ResponseEntity.ok(orderService.changeOrderStatuses(orderStatusBatch));
+    }
+
     @PutMapping(ORDER_REST_API_URI + "/{orderId}/order-status")
     public ResponseEntity<Order> changeOrderStatus(
             @PathVariable final Long orderId,
@@ -47,4 +196,39 @@ public class OrderRestController {
     ) {
         return ResponseEntity.ok(orderService.changeOrderStatus(orderId, order));
     }
+
+    private ResponseEntity<Order> created(final Order created) {
+        final URI uri = URI.create("/api/orders/" + created.getId());
+        return ResponseEntity.created(uri)
+                .body(created)
+                ;
+    }
+
+    private Object execute(final Order order) {
+        final Optional<DeferredResult<ResponseEntity<Order>>> result =
+                asyncRequestExecutor.execute(() -> created(orderService.create(order)), this::serviceUnavailable);
+        if (!result.isPresent()) {
+            return serviceUnavailable();
+        }
+        return result.get();
+    }
+
+    private ResponseEntity<Order> submit(final Order order) throws InterruptedException {
+        final Optional<Order> submitted = orderIntake.submit(order);
+        if (!submitted.isPresent()) {
+            return serviceUnavailable();
+        }
+        final URI uri = URI.create("/api/orders/" + submitted.get().getId() + "/intake");
+        return ResponseEntity.accepted()
+                .location(uri)
+                .body(submitted.get())
+                ;
+    }
+
+    private ResponseEntity<Order> serviceUnavailable() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .build()
+                ;
+    }
 }
@@ -1,16 +1,23 @@
 package kitchenpos.ui;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
 import kitchenpos.application.ProductService;
 import kitchenpos.domain.Product;
+import kitchenpos.domain.ProductImportResult;
 
 @RestController
 public class ProductRestController {
@@ -31,10 +38,17 @@ public class ProductRestController {
                 ;
     }
 
-    @GetMapping(PRODUCT_REST_API_URI)
-    public ResponseEntity<List<Product>> list() {
+    @PostMapping(value = PRODUCT_REST_API_URI + "/import", consumes = "text/csv")
+    public ResponseEntity<ProductImportResult> importProducts(final InputStream csv) throws IOException {
+        final ProductImportResult result = productService.importProducts(
+                new InputStreamReader(csv, StandardCharsets.UTF_8));
         return ResponseEntity.ok()
-                .body(productService.list())
+                .body(result)
                 ;
     }
+
+    @GetMapping(PRODUCT_REST_API_URI)
+    public ResponseEntity<List<Product>> list(@RequestHeader final HttpHeaders headers) {
+        return CatalogETag.respond(headers, productService.revision(), productService::list);
+    }
 }
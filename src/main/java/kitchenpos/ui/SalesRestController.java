@@ -0,0 +1,63 @@
+package kitchenpos.ui;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import kitchenpos.application.MenuSalesCounter;
+import kitchenpos.application.SalesRollupService;
+import kitchenpos.domain.MenuGroupSales;
+import kitchenpos.domain.MenuSales;
+import kitchenpos.domain.TopSellingMenus;
+
+@RestController
+public class SalesRestController {
+    public static final String SALES_REST_API_URI = "/api/sales";
+
+    private static final String DEFAULT_TOP_SIZE = "10";
+
+    private final SalesRollupService salesRollupService;
+    private final MenuSalesCounter menuSalesCounter;
+
+    public SalesRestController(
+            final SalesRollupService salesRollupService,
+            final MenuSalesCounter menuSalesCounter
+    ) {
+        this.salesRollupService = salesRollupService;
+        this.menuSalesCounter = menuSalesCounter;
+    }
+
+    @GetMapping(SALES_REST_API_URI + "/menus")
+    public ResponseEntity<List<MenuSales>> listMenuSales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime to
+    ) {
+        return ResponseEntity.ok()
+                .body(salesRollupService.listMenuSales(from, to))
+                ;
+    }
+
+    @GetMapping(SALES_REST_API_URI + "/menu-groups")
+    public ResponseEntity<List<MenuGroupSales>> listMenuGroupSales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime to
+    ) {
+        return ResponseEntity.ok()
+                .body(salesRollupService.listMenuGroupSales(from, to))
+                ;
+    }
+
+    @GetMapping(SALES_REST_API_URI + "/top-menus")
+    public ResponseEntity<TopSellingMenus> listTopSellingMenus(
+            @RequestParam(defaultValue = DEFAULT_TOP_SIZE) final int size
+    ) {
+        return ResponseEntity.ok()
+                .body(menuSalesCounter.top(size))
+                ;
+    }
+}
@@ -0,0 +1,19 @@
+ALTER TABLE orders ADD COLUMN order_status_code TINYINT;
+
+UPDATE orders
+SET order_status_code = CASE order_status
+                            WHEN 'COOKING' THEN 1
+                            WHEN 'MEAL' THEN 2
+                            WHEN 'COMPLETION' THEN 3
+    END;
+
+DROP INDEX idx_orders_order_table_id_order_status;
+
+ALTER TABLE orders DROP COLUMN order_status;
+
+ALTER TABLE orders ALTER COLUMN order_status_code RENAME TO order_status;
+
+ALTER TABLE orders ALTER COLUMN order_status SET NOT NULL;
+
+CREATE INDEX idx_orders_order_table_id_order_status
+    ON orders (order_table_id, order_status);
@@ -0,0 +1,8 @@
+CREATE INDEX idx_orders_order_status_ordered_time
+    ON orders (order_status, ordered_time);
+
+CREATE INDEX idx_orders_order_table_id_ordered_time
+    ON orders (order_table_id, ordered_time);
+
+CREATE INDEX idx_orders_ordered_time
+    ON orders (ordered_time);
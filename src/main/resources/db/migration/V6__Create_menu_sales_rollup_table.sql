@@ -0,0 +1,25 @@
+CREATE TABLE menu_sales
+(
+    sales_hour    DATETIME       NOT NULL,
+    menu_id       BIGINT(20)     NOT NULL,
+    menu_group_id BIGINT(20)     NOT NULL,
+    quantity      BIGINT(20)     NOT NULL,
+    revenue       DECIMAL(19, 2) NOT NULL,
+    PRIMARY KEY (sales_hour, menu_id)
+);
+
+ALTER TABLE menu_sales
+    ADD CONSTRAINT fk_menu_sales_menu
+        FOREIGN KEY (menu_id) REFERENCES menu (id);
+
+INSERT INTO menu_sales (sales_hour, menu_id, menu_group_id, quantity, revenue)
+SELECT PARSEDATETIME(FORMATDATETIME(o.ordered_time, 'yyyy-MM-dd HH'), 'yyyy-MM-dd HH'),
+       m.id,
+       m.menu_group_id,
+       SUM(l.quantity),
+       SUM(m.price * l.quantity)
+FROM orders o
+         JOIN order_line_item l ON l.order_id = o.id
+         JOIN menu m ON m.id = l.menu_id
+WHERE o.order_status = 3
+GROUP BY PARSEDATETIME(FORMATDATETIME(o.ordered_time, 'yyyy-MM-dd HH'), 'yyyy-MM-dd HH'), m.id, m.menu_group_id;
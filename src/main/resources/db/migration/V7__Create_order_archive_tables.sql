@@ -0,0 +1,25 @@
+CREATE TABLE orders_archive
+(
+    id             BIGINT(20) NOT NULL,
+    order_table_id BIGINT(20) NOT NULL,
+    order_status   TINYINT    NOT NULL,
+    ordered_time   DATETIME   NOT NULL,
+    archived_time  DATETIME   NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE order_line_item_archive
+(
+    seq      BIGINT(20) NOT NULL,
+    order_id BIGINT(20) NOT NULL,
+    menu_id  BIGINT(20) NOT NULL,
+    quantity BIGINT(20) NOT NULL,
+    PRIMARY KEY (seq)
+);
+
+ALTER TABLE order_line_item_archive
+    ADD CONSTRAINT fk_order_line_item_archive_orders_archive
+        FOREIGN KEY (order_id) REFERENCES orders_archive (id);
+
+CREATE INDEX idx_order_line_item_archive_order_id
+    ON order_line_item_archive (order_id, menu_id, quantity);
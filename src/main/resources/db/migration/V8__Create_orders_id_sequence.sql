@@ -0,0 +1,6 @@
+CREATE SEQUENCE orders_id_seq START WITH (
+    SELECT COALESCE(MAX(id), 0) + 1
+    FROM (SELECT id FROM orders UNION ALL SELECT id FROM orders_archive)
+);
+
+ALTER TABLE orders ALTER COLUMN id SET DEFAULT NEXT VALUE FOR orders_id_seq;
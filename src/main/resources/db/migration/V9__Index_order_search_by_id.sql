@@ -0,0 +1,9 @@
+DROP INDEX idx_orders_order_status_ordered_time;
+
+DROP INDEX idx_orders_order_table_id_ordered_time;
+
+CREATE INDEX idx_orders_order_status_id
+    ON orders (order_status, id);
+
+CREATE INDEX idx_orders_order_table_id_id
+    ON orders (order_table_id, id);
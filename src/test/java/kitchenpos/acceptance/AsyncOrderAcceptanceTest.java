@@ -0,0 +1,71 @@
+package kitchenpos.acceptance;
+
+import static kitchenpos.ui.OrderRestController.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.assertj.core.util.Lists.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.Product;
+
+@DisplayName("비동기 요청 실행 주문 인수 테스트")
+@TestPropertySource(properties = {
+        "kitchenpos.request-execution.mode=async",
+        "spring.datasource.generate-unique-name=true"
+})
+class AsyncOrderAcceptanceTest extends AcceptanceTest {
+    /*
+     * Feature: 비동기 요청 실행
+     *
+     * Scenario: 요청 실행 방식이 async일 때 주문을 등록한다.
+     *
+     * Given: 메뉴 그룹이 등록되어 있다.
+     *        상품이 등록되어 있다.
+     *        메뉴가 등록되어 있다.
+     *        주문 테이블이 등록되어 있다.
+     *
+     * When: 주문을 등록한다.
+     * Then: 작업 스레드에서 주문이 등록되고 201 Created로 응답한다.
+     */
+    @DisplayName("요청 실행 방식이 async이면 작업 스레드에서 주문을 등록한다")
+    @Test
+    void createOrder() throws JsonProcessingException {
+        // Given
+        final Map<Product, Long> products = new HashMap<>();
+        products.put(createProduct("마늘치킨", "18000"), 1L);
+        final MenuGroup menuGroup = createMenuGroup("한마리 메뉴");
+        final Menu menu = createMenu("마늘치킨", "18000", menuGroup.getId(), products);
+        final OrderTable orderTable = createOrderTable(2, false);
+
+        final OrderLineItem orderLineItem = new OrderLineItem();
+        orderLineItem.setMenuId(menu.getId());
+        orderLineItem.setQuantity(1L);
+
+        final Order order = new Order();
+        order.setOrderTableId(orderTable.getId());
+        order.setOrderLineItems(newArrayList(orderLineItem));
+
+        // When
+        final Order createdOrder = create(ORDER_REST_API_URI, order, Order.class);
+
+        // Then
+        assertAll(
+                () -> assertThat(createdOrder.getId()).isNotNull()
+                ,
+                () -> assertThat(createdOrder.getOrderStatus()).isEqualTo(OrderStatus.COOKING)
+        );
+    }
+}
@@ -1,5 +1,6 @@
 package kitchenpos.acceptance;
 
+import static io.restassured.RestAssured.*;
 import static kitchenpos.ui.MenuRestController.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.assertj.core.util.Lists.*;
@@ -13,10 +14,15 @@ import java.util.stream.Stream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.TestFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import kitchenpos.domain.Menu;
 import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.MenuImportError;
+import kitchenpos.domain.MenuImportErrorReason;
+import kitchenpos.domain.MenuImportResult;
 import kitchenpos.domain.MenuProduct;
 import kitchenpos.domain.Product;
 
@@ -36,6 +42,9 @@ class MenuAcceptanceTest extends AcceptanceTest {
      * Given: 메뉴가 등록되어 있다.
      * When: 메뉴의 목록을 조회한다.
      * Then: 저장되어 있는 메뉴의 목록이 반환된다.
+     *
+     * When: 여러 메뉴를 한 번에 등록한다.
+     * Then: 올바른 메뉴만 등록되고 올바르지 않은 메뉴는 사유와 함께 반환된다.
      */
     @DisplayName("메뉴를 관리한다")
     @TestFactory
@@ -108,7 +117,60 @@ class MenuAcceptanceTest extends AcceptanceTest {
                                     .contains(createdMenu.getId())
                             ;
                         }
+                ),
+                dynamicTest(
+                        "여러 메뉴를 한 번에 등록한다",
+                        () -> {
+                            // When
+                            final MenuProduct menuProduct = new MenuProduct();
+                            menuProduct.setProductId(product1.getId());
+                            menuProduct.setQuantity(1L);
+
+                            final Menu validMenu = new Menu();
+                            validMenu.setName("마늘치킨");
+                            validMenu.setPrice(BigDecimal.valueOf(18000));
+                            validMenu.setMenuGroupId(menuGroup.getId());
+                            validMenu.setMenuProducts(newArrayList(menuProduct));
+
+                            final Menu invalidMenu = new Menu();
+                            invalidMenu.setName("마늘치킨");
+                            invalidMenu.setPrice(BigDecimal.valueOf(-1));
+                            invalidMenu.setMenuGroupId(menuGroup.getId());
+                            invalidMenu.setMenuProducts(newArrayList(menuProduct));
+
+                            final MenuImportResult result = importMenus(
+                                    newArrayList(validMenu, invalidMenu));
+
+                            // Then
+                            assertAll(
+                                    () -> assertThat(result.getMenuIds()).hasSize(1)
+                                    ,
+                                    () -> assertThat(result.getErrors())
+                                            .extracting(MenuImportError::getIndex,
+                                                    MenuImportError::getReason)
+                                            .containsExactly(
+                                                    tuple(1, MenuImportErrorReason.INVALID_PRICE))
+                            );
+                        }
                 )
         );
     }
+
+    private MenuImportResult importMenus(final List<Menu> menus) throws JsonProcessingException {
+        final String request = objectMapper.writeValueAsString(menus);
+
+        // @formatter:off
+        return
+                given()
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .body(request)
+                .when()
+                        .post(MENU_REST_API_URI + "/import")
+                .then()
+                        .log().all()
+                        .statusCode(HttpStatus.OK.value())
+                        .extract().as(MenuImportResult.class);
+        // @formatter:on
+    }
 }
@@ -1,5 +1,6 @@
 package kitchenpos.acceptance;
 
+import static io.restassured.RestAssured.*;
 import static kitchenpos.ui.MenuGroupRestController.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -11,7 +12,10 @@ import java.util.stream.Stream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.TestFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 
+import io.restassured.response.ValidatableResponse;
 import kitchenpos.domain.MenuGroup;
 
 @DisplayName("메뉴 그룹 인수 테스트")
@@ -27,6 +31,10 @@ class MenuGroupAcceptanceTest extends AcceptanceTest {
      * Given: 메뉴 그룹이 등록되어 있다.
      * When: 메뉴 그룹의 목록을 조회한다.
      * Then: 저장되어 있는 메뉴 그룹의 목록이 반환된다.
+     *
+     * Given: 메뉴 그룹의 목록을 조회한 적이 있다.
+     * When: 받은 ETag로 메뉴 그룹의 목록을 다시 조회한다.
+     * Then: 카탈로그가 바뀌지 않았다면 304, 바뀌었다면 새 목록이 반환된다.
      */
     @DisplayName("메뉴 그룹을 관리한다")
     @TestFactory
@@ -77,7 +85,45 @@ class MenuGroupAcceptanceTest extends AcceptanceTest {
                                             .contains(createdMenuGroup.getId())
                             );
                         }
+                ),
+                dynamicTest(
+                        "ETag로 메뉴 그룹의 목록이 바뀌었는지 확인한다",
+                        () -> {
+                            // Given
+                            final String eTag = getWithIfNoneMatch("\"none\"")
+                                    .statusCode(HttpStatus.OK.value())
+                                    .extract().header(HttpHeaders.ETAG);
+
+                            // When & Then
+                            getWithIfNoneMatch(eTag)
+                                    .statusCode(HttpStatus.NOT_MODIFIED.value())
+                                    .header(HttpHeaders.ETAG, eTag)
+                            ;
+
+                            // Given
+                            final MenuGroup menuGroup = new MenuGroup();
+                            menuGroup.setName("음료");
+                            create(MENU_GROUP_REST_API_URI, menuGroup, MenuGroup.class);
+
+                            // When & Then
+                            getWithIfNoneMatch(eTag)
+                                    .statusCode(HttpStatus.OK.value())
+                            ;
+                        }
                 )
         );
     }
+
+    private ValidatableResponse getWithIfNoneMatch(final String eTag) {
+        // @formatter:off
+        return
+                given()
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .when()
+                        .get(MENU_GROUP_REST_API_URI)
+                .then()
+                        .log().all()
+                ;
+        // @formatter:on
+    }
 }
@@ -7,6 +7,8 @@ import static org.assertj.core.util.Lists.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.DynamicTest.*;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -15,16 +17,23 @@ import java.util.stream.Stream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.TestFactory;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
 import kitchenpos.domain.Menu;
 import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.MenuSales;
 import kitchenpos.domain.Order;
 import kitchenpos.domain.OrderLineItem;
 import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderStatusBatch;
+import kitchenpos.domain.OrderStatusBatchResult;
 import kitchenpos.domain.OrderTable;
 import kitchenpos.domain.Product;
+import kitchenpos.ui.SalesRestController;
 
 @DisplayName("주문 인수 테스트")
 class OrderAcceptanceTest extends AcceptanceTest {
@@ -48,6 +57,14 @@ class OrderAcceptanceTest extends AcceptanceTest {
      * Given: 주문이 등록되어 있다.
      * When: 주문의 상태를 변경한다.
      * Then: 주문의 상태가 변경된다.
+     *
+     * Given: 주문이 여러 개 등록되어 있다.
+     * When: 여러 주문의 상태를 한 번에 변경한다.
+     * Then: 변경할 수 있는 주문의 상태만 변경된다.
+     *
+     * Given: 주문이 계산 완료되어 있다.
+     * When: 메뉴별 매출을 조회한다.
+     * Then: 계산 완료된 주문의 판매 수량이 매출에 누적되어 있다.
      */
     @DisplayName("주문 관리")
     @TestFactory
@@ -108,6 +125,82 @@ class OrderAcceptanceTest extends AcceptanceTest {
                             ;
                         }
                 ),
+                dynamicTest(
+                        "주문의 목록을 커서 기반으로 나누어 조회한다",
+                        () -> {
+                            // Given
+                            final OrderLineItem orderLineItem = new OrderLineItem();
+                            orderLineItem.setMenuId(menu.getId());
+                            orderLineItem.setQuantity(1L);
+
+                            final Order order = new Order();
+                            order.setOrderTableId(orderTable.getId());
+                            order.setOrderLineItems(newArrayList(orderLineItem));
+
+                            create(ORDER_REST_API_URI, order, Order.class);
+
+                            // When
+                            final ExtractableResponse<Response> firstPage = listPage(0L, 1);
+                            final Long nextCursor = Long.valueOf(
+                                    firstPage.header(NEXT_CURSOR_HEADER));
+                            final ExtractableResponse<Response> secondPage = listPage(nextCursor,
+                                    1);
+
+                            // Then
+                            assertAll(
+                                    () -> assertThat(firstPage.jsonPath().getList(".", Order.class))
+                                            .extracting(Order::getId)
+                                            .containsExactly(nextCursor)
+                                    ,
+                                    () -> assertThat(secondPage.jsonPath().getList(".", Order.class))
+                                            .extracting(Order::getId)
+                                            .allMatch(orderId -> orderId > nextCursor)
+                            );
+                        }
+                ),
+                dynamicTest(
+                        "주문의 목록을 주문 테이블과 주문 상태로 걸러 조회한다",
+                        () -> {
+                            // When
+                            final List<Order> orders = listByOrderTable(orderTable.getId(),
+                                    OrderStatus.COOKING);
+
+                            // Then
+                            assertThat(orders)
+                                    .isNotEmpty()
+                                    .allMatch(order -> order.getOrderTableId().equals(orderTable.getId())
+                                            && order.getOrderStatus() == OrderStatus.COOKING)
+                            ;
+                        }
+                ),
+                dynamicTest(
+                        "주문의 목록을 NDJSON으로 내보낸다",
+                        () -> {
+                            // When
+                            // @formatter:off
+                            final String exported =
+                                    given()
+                                            .accept(APPLICATION_NDJSON_VALUE)
+                                    .when()
+                                            .get(ORDER_REST_API_URI + "/export")
+                                    .then()
+                                            .log().all()
+                                            .statusCode(HttpStatus.OK.value())
+                                            .extract().asString();
+                            // @formatter:on
+
+                            // Then
+                            final List<Order> orders = new ArrayList<>();
+                            for (final String line : exported.split("\n")) {
+                                orders.add(objectMapper.readValue(line, Order.class));
+                            }
+                            assertThat(orders)
+                                    .isNotEmpty()
+                                    .allSatisfy(order -> assertThat(order.getOrderLineItems())
+                                            .isNotEmpty())
+                            ;
+                        }
+                ),
                 dynamicTest(
                         "주문의 상태를 변경한다",
                         () -> {
@@ -125,7 +218,7 @@ class OrderAcceptanceTest extends AcceptanceTest {
 
                             // When
                             final Order mealOrder = new Order();
-                            mealOrder.setOrderStatus("MEAL");
+                            mealOrder.setOrderStatus(OrderStatus.MEAL);
                             final Order changedOrder = changeOrderStatus(createdOrder.getId(),
                                     mealOrder);
 
@@ -137,13 +230,133 @@ class OrderAcceptanceTest extends AcceptanceTest {
                                     ,
                                     () -> assertThat(changedOrder)
                                             .extracting(Order::getOrderStatus)
-                                            .isEqualTo(OrderStatus.MEAL.name())
+                                            .isEqualTo(OrderStatus.MEAL)
+                            );
+                        }
+                ),
+                dynamicTest(
+                        "여러 주문의 상태를 한 번에 변경한다",
+                        () -> {
+                            // Given
+                            final OrderLineItem orderLineItem = new OrderLineItem();
+                            orderLineItem.setMenuId(menu.getId());
+                            orderLineItem.setQuantity(1L);
+
+                            final Order order = new Order();
+                            order.setOrderTableId(orderTable.getId());
+                            order.setOrderLineItems(newArrayList(orderLineItem));
+
+                            final Order createdOrder1 = create(ORDER_REST_API_URI, order,
+                                    Order.class);
+                            final Order createdOrder2 = create(ORDER_REST_API_URI, order,
+                                    Order.class);
+
+                            // When
+                            final OrderStatusBatch orderStatusBatch = new OrderStatusBatch();
+                            orderStatusBatch.setOrderIds(newArrayList(createdOrder1.getId(),
+                                    createdOrder2.getId(), Long.MAX_VALUE));
+                            orderStatusBatch.setOrderStatus(OrderStatus.MEAL);
+                            final OrderStatusBatchResult result = changeOrderStatuses(
+                                    orderStatusBatch);
+
+                            // Then
+                            assertAll(
+                                    () -> assertThat(result.getChangedOrderIds())
+                                            .containsExactlyInAnyOrder(createdOrder1.getId(),
+                                                    createdOrder2.getId())
+                                    ,
+                                    () -> assertThat(result.getRejectedOrderIds())
+                                            .containsExactly(Long.MAX_VALUE)
                             );
                         }
+                ),
+                dynamicTest(
+                        "계산 완료된 주문의 메뉴별 매출을 조회한다",
+                        () -> {
+                            // Given
+                            final OrderLineItem orderLineItem = new OrderLineItem();
+                            orderLineItem.setMenuId(menu.getId());
+                            orderLineItem.setQuantity(2L);
+
+                            final Order order = new Order();
+                            order.setOrderTableId(orderTable.getId());
+                            order.setOrderLineItems(newArrayList(orderLineItem));
+
+                            final Order createdOrder = create(ORDER_REST_API_URI, order,
+                                    Order.class);
+
+                            final Order completionOrder = new Order();
+                            completionOrder.setOrderStatus(OrderStatus.COMPLETION);
+                            changeOrderStatus(createdOrder.getId(), completionOrder);
+
+                            // When
+                            final List<MenuSales> menuSales = listMenuSales(
+                                    createdOrder.getOrderedTime().minusDays(1),
+                                    createdOrder.getOrderedTime().plusDays(1));
+
+                            // Then
+                            assertThat(menuSales)
+                                    .filteredOn(sales -> sales.getMenuId().equals(menu.getId()))
+                                    .extracting(MenuSales::getQuantity)
+                                    .containsExactly(2L)
+                            ;
+                        }
                 )
         );
     }
 
+    private ExtractableResponse<Response> listPage(final Long cursor, final int size) {
+        // @formatter:off
+        return
+                given()
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .queryParam("cursor", cursor)
+                        .queryParam("size", size)
+                .when()
+                        .get(ORDER_REST_API_URI)
+                .then()
+                        .log().all()
+                        .statusCode(HttpStatus.OK.value())
+                        .extract();
+        // @formatter:on
+    }
+
+    private List<Order> listByOrderTable(final Long orderTableId, final OrderStatus orderStatus) {
+        // @formatter:off
+        return
+                given()
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .queryParam("orderTableId", orderTableId)
+                        .queryParam("orderStatus", orderStatus.name())
+                .when()
+                        .get(ORDER_REST_API_URI)
+                .then()
+                        .log().all()
+                        .statusCode(HttpStatus.OK.value())
+                        .extract()
+                        .jsonPath()
+                        .getList(".", Order.class);
+        // @formatter:on
+    }
+
+    private List<MenuSales> listMenuSales(final LocalDateTime from, final LocalDateTime to) {
+        // @formatter:off
+        return
+                given()
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .queryParam("from", from.toString())
+                        .queryParam("to", to.toString())
+                .when()
+                        .get(SalesRestController.SALES_REST_API_URI + "/menus")
+                .then()
+                        .log().all()
+                        .statusCode(HttpStatus.OK.value())
+                        .extract()
+                        .jsonPath()
+                        .getList(".", MenuSales.class);
+        // @formatter:on
+    }
+
     private Order changeOrderStatus(final Long orderId, final Order order)
             throws JsonProcessingException {
         final String request = objectMapper.writeValueAsString(order);
@@ -161,4 +374,23 @@ class OrderAcceptanceTest extends AcceptanceTest {
                         .extract().as(Order.class);
         // @formatter:on
     }
+
+    private OrderStatusBatchResult changeOrderStatuses(final OrderStatusBatch orderStatusBatch)
+            throws JsonProcessingException {
+        final String request = objectMapper.writeValueAsString(orderStatusBatch);
+
+        // @formatter:off
+        return
+                given()
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .body(request)
+                .when()
+                        .put(ORDER_REST_API_URI + "/order-status")
+                .then()
+                        .log().all()
+                        .statusCode(HttpStatus.OK.value())
+                        .extract().as(OrderStatusBatchResult.class);
+        // @formatter:on
+    }
 }
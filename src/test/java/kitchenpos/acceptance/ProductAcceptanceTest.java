@@ -1,5 +1,6 @@
 package kitchenpos.acceptance;
 
+import static io.restassured.RestAssured.*;
 import static kitchenpos.ui.ProductRestController.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -12,8 +13,11 @@ import java.util.stream.Stream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.TestFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 
 import kitchenpos.domain.Product;
+import kitchenpos.domain.ProductImportResult;
 
 @DisplayName("상품 관리 인수 테스트")
 class ProductAcceptanceTest extends AcceptanceTest {
@@ -28,6 +32,9 @@ class ProductAcceptanceTest extends AcceptanceTest {
      * Given: 상품이 등록되어 있다.
      * When: 상품의 목록을 조회한다.
      * Then: 저장되어 있는 상품의 목록이 반환된다.
+     *
+     * When: CSV로 여러 상품을 한 번에 등록한다.
+     * Then: 올바른 상품만 등록되고 등록한 수와 거부한 수가 반환된다.
      */
     @DisplayName("상품을 관리한다")
     @TestFactory
@@ -85,6 +92,36 @@ class ProductAcceptanceTest extends AcceptanceTest {
                                             .contains(createdProduct.getId())
                             );
                         }
+                ),
+                dynamicTest(
+                        "CSV로 여러 상품을 한 번에 등록한다",
+                        () -> {
+                            // When
+                            final String csv = "name,price\n"
+                                    + "강정치킨,17000\n"
+                                    + "순살치킨,-1\n";
+
+                            // @formatter:off
+                            final ProductImportResult result =
+                                    given()
+                                            .accept(MediaType.APPLICATION_JSON_VALUE)
+                                            .contentType("text/csv")
+                                            .body(csv)
+                                    .when()
+                                            .post(PRODUCT_REST_API_URI + "/import")
+                                    .then()
+                                            .log().all()
+                                            .statusCode(HttpStatus.OK.value())
+                                            .extract().as(ProductImportResult.class);
+                            // @formatter:on
+
+                            // Then
+                            assertAll(
+                                    () -> assertThat(result.getImportedCount()).isEqualTo(1L)
+                                    ,
+                                    () -> assertThat(result.getRejectedCount()).isEqualTo(1L)
+                            );
+                        }
                 )
         );
     }
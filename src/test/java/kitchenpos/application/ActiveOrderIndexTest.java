@@ -0,0 +1,99 @@
+package kitchenpos.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.assertj.core.util.Lists.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import kitchenpos.dao.OrderDao;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.inmemorydao.InMemoryOrderDao;
+
+@DisplayName("ActiveOrderIndex 테스트")
+class ActiveOrderIndexTest {
+    private OrderDao orderDao;
+    private ActiveOrderIndex activeOrderIndex;
+
+    @BeforeEach
+    void setUp() {
+        this.orderDao = new InMemoryOrderDao();
+        this.activeOrderIndex = new ActiveOrderIndex(orderDao);
+    }
+
+    @DisplayName("저장된 조리 중, 식사 중인 주문은 데이터베이스에서 확인한다")
+    @Test
+    void hasActiveOrder() {
+        // Given
+        saveOrder(1L, OrderStatus.COOKING);
+        saveOrder(2L, OrderStatus.MEAL);
+        saveOrder(3L, OrderStatus.COMPLETION);
+
+        // Then
+        assertAll(
+                () -> assertThat(activeOrderIndex.hasActiveOrder(1L)).isTrue()
+                ,
+                () -> assertThat(activeOrderIndex.hasActiveOrder(2L)).isTrue()
+                ,
+                () -> assertThat(activeOrderIndex.hasActiveOrder(3L)).isFalse()
+                ,
+                () -> assertThat(activeOrderIndex.hasActiveOrderIn(newArrayList(3L, 4L))).isFalse()
+                ,
+                () -> assertThat(activeOrderIndex.hasActiveOrderIn(newArrayList(1L, 3L))).isTrue()
+        );
+    }
+
+    @DisplayName("다른 곳에서 계산 완료한 주문은 진행 중인 주문으로 보지 않는다")
+    @Test
+    void hasActiveOrder_CompletedElsewhere() {
+        // Given
+        final Order order = saveOrder(1L, OrderStatus.MEAL);
+        final boolean beforeCompletion = activeOrderIndex.hasActiveOrder(1L);
+
+        // When
+        order.setOrderStatus(OrderStatus.COMPLETION);
+        orderDao.save(order);
+
+        // Then
+        assertAll(
+                () -> assertThat(beforeCompletion).isTrue()
+                ,
+                () -> assertThat(activeOrderIndex.hasActiveOrder(1L)).isFalse()
+                ,
+                () -> assertThat(activeOrderIndex.hasActiveOrderIn(newArrayList(1L))).isFalse()
+        );
+    }
+
+    @DisplayName("아직 저장되지 않은 주문이 모두 지워져야 진행 중인 주문이 없다")
+    @Test
+    void remove() {
+        // Given
+        activeOrderIndex.add(1L);
+        activeOrderIndex.add(1L);
+
+        // When
+        activeOrderIndex.remove(1L);
+        final boolean afterFirst = activeOrderIndex.hasActiveOrder(1L);
+        activeOrderIndex.remove(1L);
+        final boolean afterSecond = activeOrderIndex.hasActiveOrder(1L);
+
+        // Then
+        assertAll(
+                () -> assertThat(afterFirst).isTrue()
+                ,
+                () -> assertThat(activeOrderIndex.hasActiveOrderIn(newArrayList(2L, 1L))).isFalse()
+                ,
+                () -> assertThat(afterSecond).isFalse()
+        );
+    }
+
+    private Order saveOrder(final Long orderTableId, final OrderStatus orderStatus) {
+        final Order order = new Order();
+        order.setOrderTableId(orderTableId);
+        order.setOrderStatus(orderStatus);
+        return orderDao.save(order);
+    }
+}
@@ -0,0 +1,229 @@
+package kitchenpos.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import kitchenpos.dao.MenuDao;
+import kitchenpos.dao.MenuGroupDao;
+import kitchenpos.dao.MenuProductDao;
+import kitchenpos.dao.ProductDao;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.Product;
+import kitchenpos.inmemorydao.InMemoryMenuDao;
+import kitchenpos.inmemorydao.InMemoryMenuGroupDao;
+import kitchenpos.inmemorydao.InMemoryMenuProductDao;
+import kitchenpos.inmemorydao.InMemoryProductDao;
+
+@DisplayName("Catalog 테스트")
+class CatalogTest {
+    private ProductDao productDao;
+    private MenuGroupDao menuGroupDao;
+    private MenuDao menuDao;
+    private MenuProductDao menuProductDao;
+    private Catalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        this.productDao = new InMemoryProductDao();
+        this.menuGroupDao = new InMemoryMenuGroupDao();
+        this.menuDao = new InMemoryMenuDao();
+        this.menuProductDao = new InMemoryMenuProductDao();
+        this.catalog = new Catalog(productDao, menuGroupDao, menuDao, menuProductDao);
+    }
+
+    @DisplayName("처음 조회할 때 저장된 상품, 메뉴 그룹, 메뉴를 불러온다")
+    @Test
+    void snapshot() {
+        // Given
+        final Product product = new Product();
+        product.setName("파닭치킨");
+        product.setPrice(BigDecimal.valueOf(18000L));
+        final Product savedProduct = productDao.save(product);
+
+        final MenuGroup menuGroup = new MenuGroup();
+        menuGroup.setName("뼈있는치킨");
+        final MenuGroup savedMenuGroup = menuGroupDao.save(menuGroup);
+
+        final Menu menu = new Menu();
+        menu.setName("파닭치킨");
+        menu.setPrice(BigDecimal.valueOf(18000L));
+        menu.setMenuGroupId(savedMenuGroup.getId());
+        final Menu savedMenu = menuDao.save(menu);
+
+        final MenuProduct menuProduct = new MenuProduct();
+        menuProduct.setMenuId(savedMenu.getId());
+        menuProduct.setProductId(savedProduct.getId());
+        menuProduct.setQuantity(1L);
+        menuProductDao.save(menuProduct);
+
+        // When
+        final CatalogSnapshot snapshot = catalog.snapshot();
+
+        // Then
+        assertAll(
+                () -> assertThat(snapshot.findProduct(savedProduct.getId())).isPresent()
+                ,
+                () -> assertThat(snapshot.containsMenuGroup(savedMenuGroup.getId())).isTrue()
+                ,
+                () -> assertThat(snapshot.getMenus())
+                        .extracting(Menu::getMenuProducts)
+                        .allSatisfy(menuProducts -> assertThat(menuProducts).hasSize(1))
+        );
+    }
+
+    @DisplayName("변경하면 기존 사본은 그대로 두고 버전이 증가한 새 사본으로 교체한다")
+    @Test
+    void update() {
+        // Given
+        final CatalogSnapshot before = catalog.snapshot();
+
+        final Product product = new Product();
+        product.setName("파닭치킨");
+        product.setPrice(BigDecimal.valueOf(18000L));
+        final Product savedProduct = productDao.save(product);
+
+        // When
+        catalog.update(snapshot -> snapshot.withProduct(savedProduct));
+
+        // Then
+        final CatalogSnapshot after = catalog.snapshot();
+        assertAll(
+                () -> assertThat(before.findProduct(savedProduct.getId())).isEmpty()
+                ,
+                () -> assertThat(after.findProduct(savedProduct.getId())).isPresent()
+                ,
+                () -> assertThat(after.getVersion()).isEqualTo(before.getVersion() + 1)
+        );
+    }
+
+    @DisplayName("리비전은 변경할 때마다 바뀌고 변경하지 않으면 그대로다")
+    @Test
+    void revision() {
+        // Given
+        final String before = catalog.snapshot().getRevision();
+
+        final MenuGroup menuGroup = new MenuGroup();
+        menuGroup.setName("뼈있는치킨");
+        final MenuGroup savedMenuGroup = menuGroupDao.save(menuGroup);
+
+        // When
+        catalog.update(snapshot -> snapshot.withMenuGroup(savedMenuGroup));
+
+        // Then
+        assertAll(
+                () -> assertThat(catalog.snapshot().getRevision()).isNotEqualTo(before)
+                ,
+                () -> assertThat(catalog.snapshot().getRevision()).isEqualTo(catalog.snapshot().getRevision())
+                ,
+                () -> assertThat(new Catalog(productDao, menuGroupDao, menuDao, menuProductDao)
+                        .snapshot().getRevision()).isNotEqualTo(catalog.snapshot().getRevision())
+        );
+    }
+
+    @DisplayName("중복된 메뉴 id는 한 번만 센다")
+    @Test
+    void countMenusByIdIn() {
+        // Given
+        final Menu menu = new Menu();
+        menu.setName("파닭치킨");
+        menu.setPrice(BigDecimal.valueOf(18000L));
+        final Menu savedMenu = menuDao.save(menu);
+
+        // When
+        final long count = catalog.countMenusByIdIn(Arrays.asList(savedMenu.getId(), savedMenu.getId()));
+
+        // Then
+        assertThat(count).isEqualTo(1L);
+    }
+
+    @DisplayName("사본에 없는 메뉴는 데이터베이스에서 찾아 사본에 더한다")
+    @Test
+    void findMenus_NotInSnapshot_LoadedFromDatabase() {
+        // Given
+        final CatalogSnapshot before = catalog.snapshot();
+
+        final Menu menu = new Menu();
+        menu.setName("파닭치킨");
+        menu.setPrice(BigDecimal.valueOf(18000L));
+        final Menu savedMenu = menuDao.save(menu);
+
+        final MenuProduct menuProduct = new MenuProduct();
+        menuProduct.setMenuId(savedMenu.getId());
+        menuProduct.setProductId(1L);
+        menuProduct.setQuantity(1L);
+        menuProductDao.save(menuProduct);
+
+        // When
+        final Map<Long, Menu> menus = catalog.findMenus(Arrays.asList(savedMenu.getId(), 100L));
+
+        // Then
+        assertAll(
+                () -> assertThat(before.findMenu(savedMenu.getId())).isEmpty()
+                ,
+                () -> assertThat(menus).containsOnlyKeys(savedMenu.getId())
+                ,
+                () -> assertThat(catalog.snapshot().findMenu(savedMenu.getId()))
+                        .hasValueSatisfying(found -> assertThat(found.getMenuProducts()).hasSize(1))
+        );
+    }
+
+    @DisplayName("사본에 없는 메뉴 그룹은 데이터베이스에서 찾아 사본에 더한다")
+    @Test
+    void findMenuGroupIds_NotInSnapshot_LoadedFromDatabase() {
+        // Given
+        final CatalogSnapshot before = catalog.snapshot();
+
+        final MenuGroup menuGroup = new MenuGroup();
+        menuGroup.setName("뼈있는치킨");
+        final MenuGroup savedMenuGroup = menuGroupDao.save(menuGroup);
+
+        // When
+        final Set<Long> menuGroupIds = catalog.findMenuGroupIds(
+                Arrays.asList(savedMenuGroup.getId(), savedMenuGroup.getId(), 100L, null));
+
+        // Then
+        assertAll(
+                () -> assertThat(before.containsMenuGroup(savedMenuGroup.getId())).isFalse()
+                ,
+                () -> assertThat(menuGroupIds).containsExactly(savedMenuGroup.getId())
+                ,
+                () -> assertThat(catalog.snapshot().containsMenuGroup(savedMenuGroup.getId())).isTrue()
+        );
+    }
+
+    @DisplayName("사본에서 꺼낸 엔티티를 수정해도 사본은 바뀌지 않는다")
+    @Test
+    void snapshot_ReturnedEntityModified_SnapshotUnchanged() {
+        // Given
+        catalog.snapshot();
+
+        final Product product = new Product();
+        product.setName("파닭치킨");
+        product.setPrice(BigDecimal.valueOf(18000L));
+        final Product savedProduct = productDao.save(product);
+        catalog.update(snapshot -> snapshot.withProduct(savedProduct));
+
+        // When
+        savedProduct.setPrice(BigDecimal.ZERO);
+        catalog.snapshot()
+                .findProduct(savedProduct.getId())
+                .ifPresent(found -> found.setPrice(BigDecimal.ZERO))
+        ;
+
+        // Then
+        assertThat(catalog.snapshot().findProduct(savedProduct.getId()))
+                .hasValueSatisfying(found -> assertThat(found.getPrice()).isEqualTo(BigDecimal.valueOf(18000L)))
+        ;
+    }
+}
@@ -10,7 +10,10 @@ import org.junit.jupiter.api.Test;
 
 import kitchenpos.dao.MenuGroupDao;
 import kitchenpos.domain.MenuGroup;
+import kitchenpos.inmemorydao.InMemoryMenuDao;
 import kitchenpos.inmemorydao.InMemoryMenuGroupDao;
+import kitchenpos.inmemorydao.InMemoryMenuProductDao;
+import kitchenpos.inmemorydao.InMemoryProductDao;
 
 @DisplayName("MenuGroupService 테스트")
 class MenuGroupServiceTest {
@@ -20,7 +23,9 @@ class MenuGroupServiceTest {
     @BeforeEach
     void setUp() {
         this.menuGroupDao = new InMemoryMenuGroupDao();
-        this.menuGroupService = new MenuGroupService(menuGroupDao);
+        this.menuGroupService = new MenuGroupService(menuGroupDao, new Catalog(
+                new InMemoryProductDao(), menuGroupDao, new InMemoryMenuDao(),
+                new InMemoryMenuProductDao()));
     }
 
     @DisplayName("메뉴 그룹을 등록한다")
@@ -0,0 +1,129 @@
+package kitchenpos.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.assertj.core.util.Lists.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.TopSellingMenu;
+import kitchenpos.domain.TopSellingMenus;
+
+@DisplayName("MenuSalesCounter 테스트")
+class MenuSalesCounterTest {
+    private AtomicLong currentTimeMillis;
+    private MenuSalesCounter menuSalesCounter;
+
+    @BeforeEach
+    void setUp() {
+        this.currentTimeMillis = new AtomicLong(TimeUnit.DAYS.toMillis(18584));
+        this.menuSalesCounter = new MenuSalesCounter(currentTimeMillis::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @DisplayName("최근 15분, 1시간, 하루 동안 많이 팔린 메뉴를 수량이 많은 순서로 조회한다")
+    @Test
+    void top() {
+        // Given
+        menuSalesCounter.add(newArrayList(newOrderLineItem(1L, 10L)));
+        elapse(TimeUnit.HOURS.toMinutes(2));
+        menuSalesCounter.add(newArrayList(newOrderLineItem(2L, 5L)));
+        elapse(30L);
+        menuSalesCounter.add(newArrayList(newOrderLineItem(3L, 2L), newOrderLineItem(2L, 1L)));
+        elapse(1L);
+        menuSalesCounter.add(newArrayList(newOrderLineItem(3L, 3L)));
+
+        // When
+        final TopSellingMenus topSellingMenus = menuSalesCounter.top(2);
+
+        // Then
+        assertAll(
+                () -> assertThat(topSellingMenus.getLastFifteenMinutes())
+                        .extracting(TopSellingMenu::getMenuId, TopSellingMenu::getQuantity)
+                        .containsExactly(tuple(3L, 5L), tuple(2L, 1L))
+                ,
+                () -> assertThat(topSellingMenus.getLastHour())
+                        .extracting(TopSellingMenu::getMenuId, TopSellingMenu::getQuantity)
+                        .containsExactly(tuple(2L, 6L), tuple(3L, 5L))
+                ,
+                () -> assertThat(topSellingMenus.getLastDay())
+                        .extracting(TopSellingMenu::getMenuId, TopSellingMenu::getQuantity)
+                        .containsExactly(tuple(1L, 10L), tuple(2L, 6L))
+        );
+    }
+
+    @DisplayName("하루가 지난 수량은 세지 않는다")
+    @Test
+    void top_OlderThanDay_Excluded() {
+        // Given
+        menuSalesCounter.add(newArrayList(newOrderLineItem(1L, 10L)));
+        elapse(TimeUnit.DAYS.toMinutes(1));
+        menuSalesCounter.add(newArrayList(newOrderLineItem(2L, 1L)));
+
+        // When
+        final TopSellingMenus topSellingMenus = menuSalesCounter.top(10);
+
+        // Then
+        assertThat(topSellingMenus.getLastDay())
+                .extracting(TopSellingMenu::getMenuId, TopSellingMenu::getQuantity)
+                .containsExactly(tuple(2L, 1L))
+        ;
+    }
+
+    @DisplayName("트랜잭션 안에서 더한 수량은 커밋된 뒤에 반영한다")
+    @Test
+    void add_AfterCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        menuSalesCounter.add(newArrayList(newOrderLineItem(1L, 1L)));
+
+        // Then
+        assertThat(menuSalesCounter.top(10).getLastDay()).isEmpty();
+
+        // When
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        assertThat(menuSalesCounter.top(10).getLastDay()).hasSize(1);
+    }
+
+    @DisplayName("조회할 메뉴의 수가 올바르지 않을 경우 예외가 발생한다")
+    @ParameterizedTest
+    @ValueSource(ints = {0, MenuSalesCounter.MAX_TOP_SIZE + 1})
+    void top_InvalidSize_ExceptionThrown(final int size) {
+        assertThatThrownBy(() -> menuSalesCounter.top(size))
+                .isInstanceOf(IllegalArgumentException.class)
+        ;
+    }
+
+    private void elapse(final long minutes) {
+        currentTimeMillis.addAndGet(TimeUnit.MINUTES.toMillis(minutes));
+    }
+
+    private OrderLineItem newOrderLineItem(final Long menuId, final long quantity) {
+        final OrderLineItem orderLineItem = new OrderLineItem();
+        orderLineItem.setMenuId(menuId);
+        orderLineItem.setQuantity(quantity);
+        return orderLineItem;
+    }
+}
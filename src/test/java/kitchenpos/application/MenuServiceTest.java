@@ -2,8 +2,12 @@ package kitchenpos.application;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.assertj.core.util.Lists.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -13,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import kitchenpos.dao.MenuDao;
 import kitchenpos.dao.MenuGroupDao;
@@ -20,6 +25,9 @@ import kitchenpos.dao.MenuProductDao;
 import kitchenpos.dao.ProductDao;
 import kitchenpos.domain.Menu;
 import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.MenuImportError;
+import kitchenpos.domain.MenuImportErrorReason;
+import kitchenpos.domain.MenuImportResult;
 import kitchenpos.domain.MenuProduct;
 import kitchenpos.domain.Product;
 import kitchenpos.inmemorydao.InMemoryMenuDao;
@@ -33,6 +41,8 @@ class MenuServiceTest {
     private MenuGroupDao menuGroupDao;
     private MenuProductDao menuProductDao;
     private ProductDao productDao;
+    private Catalog catalog;
+    private MenuImportWriter menuImportWriter;
     private MenuService menuService;
 
     @BeforeEach
@@ -41,7 +51,10 @@ class MenuServiceTest {
         this.menuGroupDao = new InMemoryMenuGroupDao();
         this.menuProductDao = new InMemoryMenuProductDao();
         this.productDao = new InMemoryProductDao();
-        this.menuService = new MenuService(menuDao, menuGroupDao, menuProductDao, productDao);
+        this.catalog = new Catalog(productDao, menuGroupDao, menuDao, menuProductDao);
+        this.menuImportWriter = new MenuImportWriter(menuDao, menuProductDao, catalog);
+        this.menuService = new MenuService(menuDao, menuProductDao, productDao, catalog,
+                menuImportWriter);
     }
 
     @DisplayName("메뉴를 등록한다")
@@ -196,4 +209,316 @@ class MenuServiceTest {
         // Then
         assertThat(list).isNotEmpty();
     }
+
+    @DisplayName("메뉴의 목록은 카탈로그에서 조회하여 메뉴와 메뉴 상품을 다시 조회하지 않는다")
+    @Test
+    void list_ReadFromCatalog() {
+        // Given
+        final MenuDao spiedMenuDao = spy(menuDao);
+        final MenuProductDao spiedMenuProductDao = spy(menuProductDao);
+        final Catalog catalog = new Catalog(productDao, menuGroupDao, spiedMenuDao,
+                spiedMenuProductDao);
+        final MenuService menuService = new MenuService(spiedMenuDao, spiedMenuProductDao, productDao,
+                catalog, new MenuImportWriter(spiedMenuDao, spiedMenuProductDao, catalog));
+
+        final MenuGroup menuGroup = new MenuGroup();
+        menuGroup.setName("뼈있는치킨");
+        final MenuGroup savedMenuGroup = menuGroupDao.save(menuGroup);
+
+        final Product product = new Product();
+        product.setName("파닭치킨");
+        product.setPrice(BigDecimal.valueOf(18000L));
+        final Product savedProduct = productDao.save(product);
+
+        for (int i = 0; i < 10; i++) {
+            final MenuProduct menuProduct = new MenuProduct();
+            menuProduct.setProductId(savedProduct.getId());
+            menuProduct.setQuantity(1L);
+
+            final Menu menu = new Menu();
+            menu.setName("파닭치킨");
+            menu.setPrice(BigDecimal.valueOf(18000L));
+            menu.setMenuGroupId(savedMenuGroup.getId());
+            menu.setMenuProducts(newArrayList(menuProduct));
+            menuService.create(menu);
+        }
+
+        clearInvocations(spiedMenuDao, spiedMenuProductDao);
+
+        // When
+        final List<Menu> list = menuService.list();
+
+        // Then
+        assertThat(list)
+                .hasSize(10)
+                .allSatisfy(menu -> assertThat(menu.getMenuProducts()).hasSize(1))
+        ;
+        verifyNoInteractions(spiedMenuDao, spiedMenuProductDao);
+    }
+
+    @DisplayName("카탈로그에 없는 상품의 가격은 한 번에 조회한다")
+    @Test
+    void create_ProductsNotInCatalog_FetchedInSingleQuery() {
+        // Given
+        final ProductDao spiedProductDao = spy(productDao);
+        final Catalog catalog = new Catalog(spiedProductDao, menuGroupDao, menuDao, menuProductDao);
+        final MenuService menuService = new MenuService(menuDao, menuProductDao, spiedProductDao,
+                catalog, new MenuImportWriter(menuDao, menuProductDao, catalog));
+
+        final MenuGroup menuGroup = new MenuGroup();
+        menuGroup.setName("뼈있는치킨");
+        final MenuGroup savedMenuGroup = menuGroupDao.save(menuGroup);
+        catalog.snapshot();
+
+        final List<MenuProduct> menuProducts = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            final Product product = new Product();
+            product.setName("파닭치킨");
+            product.setPrice(BigDecimal.valueOf(18000L));
+            final Product savedProduct = spiedProductDao.save(product);
+
+            final MenuProduct menuProduct = new MenuProduct();
+            menuProduct.setProductId(savedProduct.getId());
+            menuProduct.setQuantity(1L);
+            menuProducts.add(menuProduct);
+        }
+
+        final Menu menu = new Menu();
+        menu.setName("파닭치킨 세트");
+        menu.setPrice(BigDecimal.valueOf(90000L));
+        menu.setMenuGroupId(savedMenuGroup.getId());
+        menu.setMenuProducts(menuProducts);
+
+        // When
+        menuService.create(menu);
+
+        // Then
+        verify(spiedProductDao, times(1)).findAllByIdIn(anyList());
+        verify(spiedProductDao, never()).findById(anyLong());
+        assertThat(catalog.snapshot().getProducts()).hasSize(5);
+    }
+
+    @DisplayName("여러 메뉴를 한 번에 등록하고 등록할 수 없는 메뉴는 순번과 사유를 반환한다")
+    @Test
+    void importMenus() {
+        // Given
+        final MenuGroup menuGroup = new MenuGroup();
+        menuGroup.setName("뼈있는치킨");
+        final MenuGroup savedMenuGroup = menuGroupDao.save(menuGroup);
+
+        final Product product = new Product();
+        product.setName("파닭치킨");
+        product.setPrice(BigDecimal.valueOf(18000L));
+        final Product savedProduct = productDao.save(product);
+
+        final List<Menu> menus = new ArrayList<>();
+        for (int i = 0; i < MenuService.IMPORT_CHUNK_SIZE + 1; i++) {
+            menus.add(newMenu(savedMenuGroup.getId(), savedProduct.getId(), 18000L));
+        }
+        menus.add(newMenu(savedMenuGroup.getId(), savedProduct.getId(), 19000L));
+        menus.add(newMenu(savedMenuGroup.getId() + 1, savedProduct.getId(), 18000L));
+        menus.add(newMenu(savedMenuGroup.getId(), savedProduct.getId() + 1, 18000L));
+
+        // When
+        final MenuImportResult result = menuService.importMenus(menus);
+
+        // Then
+        final int firstInvalidIndex = MenuService.IMPORT_CHUNK_SIZE + 1;
+        assertAll(
+                () -> assertThat(result.getMenuIds())
+                        .hasSize(MenuService.IMPORT_CHUNK_SIZE + 1)
+                        .doesNotHaveDuplicates()
+                ,
+                () -> assertThat(result.getErrors())
+                        .extracting(MenuImportError::getIndex, MenuImportError::getReason)
+                        .containsExactly(
+                                tuple(firstInvalidIndex, MenuImportErrorReason.PRICE_EXCEEDS_PRODUCTS_SUM),
+                                tuple(firstInvalidIndex + 1, MenuImportErrorReason.MENU_GROUP_NOT_FOUND),
+                                tuple(firstInvalidIndex + 2, MenuImportErrorReason.PRODUCT_NOT_FOUND))
+                ,
+                () -> assertThat(menuService.list()).hasSize(MenuService.IMPORT_CHUNK_SIZE + 1)
+        );
+    }
+
+    @DisplayName("메뉴 묶음을 저장하지 못하면 그 묶음의 메뉴만 실패로 반환한다")
+    @Test
+    void importMenus_ChunkSaveFailed() {
+        // Given
+        final MenuImportWriter spiedMenuImportWriter = spy(menuImportWriter);
+        final MenuService menuService = new MenuService(menuDao, menuProductDao, productDao, catalog,
+                spiedMenuImportWriter);
+        doThrow(new DataIntegrityViolationException("menu"))
+                .doCallRealMethod()
+                .when(spiedMenuImportWriter).write(anyList());
+
+        final MenuGroup menuGroup = new MenuGroup();
+        menuGroup.setName("뼈있는치킨");
+        final MenuGroup savedMenuGroup = menuGroupDao.save(menuGroup);
+
+        final Product product = new Product();
+        product.setName("파닭치킨");
+        product.setPrice(BigDecimal.valueOf(18000L));
+        final Product savedProduct = productDao.save(product);
+
+        final List<Menu> menus = new ArrayList<>();
+        for (int i = 0; i < MenuService.IMPORT_CHUNK_SIZE + 1; i++) {
+            menus.add(newMenu(savedMenuGroup.getId(), savedProduct.getId(), 18000L));
+        }
+
+        // When
+        final MenuImportResult result = menuService.importMenus(menus);
+
+        // Then
+        assertAll(
+                () -> assertThat(result.getMenuIds()).hasSize(1)
+                ,
+                () -> assertThat(result.getErrors())
+                        .hasSize(MenuService.IMPORT_CHUNK_SIZE)
+                        .extracting(MenuImportError::getReason)
+                        .containsOnly(MenuImportErrorReason.SAVE_FAILED)
+        );
+    }
+
+    @DisplayName("비어 있는 메뉴나 메뉴 상품은 예외 없이 등록할 수 없는 메뉴로 반환한다")
+    @Test
+    void importMenus_NullMenuOrMenuProducts() {
+        // Given
+        final MenuGroup menuGroup = new MenuGroup();
+        menuGroup.setName("뼈있는치킨");
+        final MenuGroup savedMenuGroup = menuGroupDao.save(menuGroup);
+
+        final Product product = new Product();
+        product.setName("파닭치킨");
+        product.setPrice(BigDecimal.valueOf(18000L));
+        final Product savedProduct = productDao.save(product);
+
+        final Menu menuWithoutMenuProducts = newMenu(savedMenuGroup.getId(), savedProduct.getId(), 18000L);
+        menuWithoutMenuProducts.setMenuProducts(null);
+        final Menu menuWithNullMenuProduct = newMenu(savedMenuGroup.getId(), savedProduct.getId(), 18000L);
+        menuWithNullMenuProduct.setMenuProducts(Collections.singletonList(null));
+
+        final List<Menu> menus = new ArrayList<>();
+        menus.add(newMenu(savedMenuGroup.getId(), savedProduct.getId(), 18000L));
+        menus.add(null);
+        menus.add(menuWithoutMenuProducts);
+        menus.add(menuWithNullMenuProduct);
+
+        // When
+        final MenuImportResult result = menuService.importMenus(menus);
+
+        // Then
+        assertAll(
+                () -> assertThat(result.getMenuIds()).hasSize(1)
+                ,
+                () -> assertThat(result.getErrors())
+                        .extracting(MenuImportError::getIndex, MenuImportError::getReason)
+                        .containsExactly(
+                                tuple(1, MenuImportErrorReason.INVALID_MENU),
+                                tuple(2, MenuImportErrorReason.INVALID_MENU_PRODUCTS),
+                                tuple(3, MenuImportErrorReason.INVALID_MENU_PRODUCTS))
+        );
+    }
+
+    @DisplayName("수량, 이름, 가격이 컬럼에 맞지 않는 메뉴는 그 메뉴만 등록할 수 없는 메뉴로 반환한다")
+    @Test
+    void importMenus_InvalidQuantityNameOrPrice() {
+        // Given
+        final MenuGroup menuGroup = new MenuGroup();
+        menuGroup.setName("뼈있는치킨");
+        final MenuGroup savedMenuGroup = menuGroupDao.save(menuGroup);
+
+        final Product product = new Product();
+        product.setName("파닭치킨");
+        product.setPrice(BigDecimal.valueOf(18000L));
+        final Product savedProduct = productDao.save(product);
+
+        final Menu menuWithZeroQuantity = newMenu(savedMenuGroup.getId(), savedProduct.getId(), 0L);
+        menuWithZeroQuantity.getMenuProducts().get(0).setQuantity(0L);
+        final Menu menuWithNegativeQuantity = newMenu(savedMenuGroup.getId(), savedProduct.getId(), 0L);
+        menuWithNegativeQuantity.getMenuProducts().get(0).setQuantity(-1L);
+        final Menu menuWithLongName = newMenu(savedMenuGroup.getId(), savedProduct.getId(), 18000L);
+        menuWithLongName.setName(String.join("", Collections.nCopies(256, "가")));
+        final Menu menuWithTooLargePrice = newMenu(savedMenuGroup.getId(), savedProduct.getId(), 18000L);
+        menuWithTooLargePrice.setPrice(new BigDecimal("1E+20"));
+        final Menu menuWithTooManyDecimals = newMenu(savedMenuGroup.getId(), savedProduct.getId(), 18000L);
+        menuWithTooManyDecimals.setPrice(new BigDecimal("0.001"));
+
+        final List<Menu> menus = new ArrayList<>();
+        menus.add(newMenu(savedMenuGroup.getId(), savedProduct.getId(), 18000L));
+        menus.add(menuWithZeroQuantity);
+        menus.add(menuWithNegativeQuantity);
+        menus.add(menuWithLongName);
+        menus.add(menuWithTooLargePrice);
+        menus.add(menuWithTooManyDecimals);
+
+        // When
+        final MenuImportResult result = menuService.importMenus(menus);
+
+        // Then
+        assertAll(
+                () -> assertThat(result.getMenuIds()).hasSize(1)
+                ,
+                () -> assertThat(result.getErrors())
+                        .extracting(MenuImportError::getIndex, MenuImportError::getReason)
+                        .containsExactly(
+                                tuple(1, MenuImportErrorReason.INVALID_MENU_PRODUCTS),
+                                tuple(2, MenuImportErrorReason.INVALID_MENU_PRODUCTS),
+                                tuple(3, MenuImportErrorReason.INVALID_NAME),
+                                tuple(4, MenuImportErrorReason.INVALID_PRICE),
+                                tuple(5, MenuImportErrorReason.INVALID_PRICE))
+        );
+    }
+
+    @DisplayName("존재하지 않는 상품만 찾은 경우 카탈로그를 바꾸지 않는다")
+    @Test
+    void importMenus_ProductsNotFound_CatalogNotChanged() {
+        // Given
+        final MenuGroup menuGroup = new MenuGroup();
+        menuGroup.setName("뼈있는치킨");
+        final MenuGroup savedMenuGroup = menuGroupDao.save(menuGroup);
+        final String revision = catalog.snapshot().getRevision();
+
+        // When
+        final MenuImportResult result = menuService.importMenus(
+                Collections.singletonList(newMenu(savedMenuGroup.getId(), 100L, 18000L)));
+
+        // Then
+        assertAll(
+                () -> assertThat(result.getErrors())
+                        .extracting(MenuImportError::getReason)
+                        .containsExactly(MenuImportErrorReason.PRODUCT_NOT_FOUND)
+                ,
+                () -> assertThat(catalog.snapshot().getRevision()).isEqualTo(revision)
+        );
+    }
+
+    @DisplayName("등록할 메뉴가 없거나 너무 많은 경우 예외가 발생한다")
+    @ParameterizedTest
+    @MethodSource("generateInvalidImportSize")
+    void importMenus_InvalidSize_ExceptionThrown(final List<Menu> menus) {
+        assertThatThrownBy(() -> menuService.importMenus(menus))
+                .isInstanceOf(IllegalArgumentException.class)
+        ;
+    }
+
+    private static Stream<Arguments> generateInvalidImportSize() {
+        return Stream.of(
+                Arguments.arguments((List<Menu>)null),
+                Arguments.arguments(new ArrayList<>()),
+                Arguments.arguments(Collections.nCopies(MenuService.MAX_IMPORT_SIZE + 1, new Menu()))
+        );
+    }
+
+    private Menu newMenu(final Long menuGroupId, final Long productId, final long price) {
+        final MenuProduct menuProduct = new MenuProduct();
+        menuProduct.setProductId(productId);
+        menuProduct.setQuantity(1L);
+
+        final Menu menu = new Menu();
+        menu.setName("파닭치킨");
+        menu.setPrice(BigDecimal.valueOf(price));
+        menu.setMenuGroupId(menuGroupId);
+        menu.setMenuProducts(newArrayList(menuProduct));
+        return menu;
+    }
 }
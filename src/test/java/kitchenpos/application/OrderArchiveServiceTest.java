@@ -0,0 +1,104 @@
+package kitchenpos.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.assertj.core.util.Lists.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import kitchenpos.dao.OrderDao;
+import kitchenpos.dao.OrderLineItemDao;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.inmemorydao.InMemoryOrderArchiveDao;
+import kitchenpos.inmemorydao.InMemoryOrderDao;
+import kitchenpos.inmemorydao.InMemoryOrderLineItemDao;
+
+@DisplayName("OrderArchiveService 테스트")
+class OrderArchiveServiceTest {
+    private OrderDao orderDao;
+    private OrderLineItemDao orderLineItemDao;
+    private OrderArchiveService orderArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        this.orderDao = new InMemoryOrderDao();
+        this.orderLineItemDao = new InMemoryOrderLineItemDao();
+        this.orderArchiveService = new OrderArchiveService(orderDao, orderLineItemDao,
+                new InMemoryOrderArchiveDao());
+    }
+
+    @DisplayName("계산 완료된 주문만 주문 항목과 함께 보관 테이블로 옮긴다")
+    @Test
+    void archive() {
+        // Given
+        final Order completedOrder = saveOrder(OrderStatus.COMPLETION);
+        final Order mealOrder = saveOrder(OrderStatus.MEAL);
+
+        // When
+        final int archivedCount = orderArchiveService.archive(
+                newArrayList(completedOrder.getId(), mealOrder.getId()));
+
+        // Then
+        final List<Order> history = orderArchiveService.listHistory(0L, 10);
+        assertAll(
+                () -> assertThat(archivedCount).isEqualTo(1)
+                ,
+                () -> assertThat(orderDao.findAll())
+                        .extracting(Order::getId)
+                        .containsExactly(mealOrder.getId())
+                ,
+                () -> assertThat(orderLineItemDao.findAllByOrderId(completedOrder.getId())).isEmpty()
+                ,
+                () -> assertThat(history)
+                        .extracting(Order::getId)
+                        .containsExactly(completedOrder.getId())
+                ,
+                () -> assertThat(history.get(0).getOrderLineItems()).hasSize(1)
+        );
+    }
+
+    @DisplayName("보관된 주문 목록 조회의 커서 또는 크기가 올바르지 않을 경우 예외가 발생한다")
+    @ParameterizedTest
+    @MethodSource("generateInvalidCursorAndSize")
+    void listHistory_InvalidCursorOrSize_ExceptionThrown(final Long cursor, final int size) {
+        assertThatThrownBy(() -> orderArchiveService.listHistory(cursor, size))
+                .isInstanceOf(IllegalArgumentException.class)
+        ;
+    }
+
+    private Order saveOrder(final OrderStatus orderStatus) {
+        final Order order = new Order();
+        order.setOrderTableId(1L);
+        order.setOrderStatus(orderStatus);
+        order.setOrderedTime(LocalDateTime.of(2020, 11, 1, 12, 0));
+        final Order savedOrder = orderDao.save(order);
+
+        final OrderLineItem orderLineItem = new OrderLineItem();
+        orderLineItem.setOrderId(savedOrder.getId());
+        orderLineItem.setMenuId(1L);
+        orderLineItem.setQuantity(1L);
+        orderLineItemDao.save(orderLineItem);
+
+        return savedOrder;
+    }
+
+    private static Stream<Arguments> generateInvalidCursorAndSize() {
+        return Stream.of(
+                Arguments.arguments(null, 10),
+                Arguments.arguments(-1L, 10),
+                Arguments.arguments(0L, 0),
+                Arguments.arguments(0L, OrderArchiveService.MAX_PAGE_SIZE + 1)
+        );
+    }
+}
@@ -0,0 +1,93 @@
+package kitchenpos.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+
+import kitchenpos.dao.OrderDao;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.inmemorydao.InMemoryOrderArchiveDao;
+import kitchenpos.inmemorydao.InMemoryOrderDao;
+import kitchenpos.inmemorydao.InMemoryOrderLineItemDao;
+
+@DisplayName("OrderArchiver 테스트")
+class OrderArchiverTest {
+    private OrderDao orderDao;
+    private OrderArchiveService orderArchiveService;
+    private OrderArchiver orderArchiver;
+
+    @BeforeEach
+    void setUp() {
+        this.orderDao = new InMemoryOrderDao();
+        this.orderArchiveService = new OrderArchiveService(orderDao, new InMemoryOrderLineItemDao(),
+                new InMemoryOrderArchiveDao());
+        this.orderArchiver = new OrderArchiver(orderDao, orderArchiveService, 30L);
+    }
+
+    @DisplayName("보관 기간이 지난 계산 완료 주문을 여러 번에 나누어 모두 옮긴다")
+    @Test
+    void archive() {
+        // Given
+        final LocalDateTime oldOrderedTime = LocalDateTime.now().minusDays(31);
+        for (int i = 0; i < OrderArchiver.CHUNK_SIZE * 2 + 1; i++) {
+            saveOrder(OrderStatus.COMPLETION, oldOrderedTime);
+        }
+        final Order recentOrder = saveOrder(OrderStatus.COMPLETION, LocalDateTime.now().minusDays(29));
+        final Order mealOrder = saveOrder(OrderStatus.MEAL, oldOrderedTime);
+
+        // When
+        final int archivedCount = orderArchiver.archive();
+
+        // Then
+        assertAll(
+                () -> assertThat(archivedCount).isEqualTo(OrderArchiver.CHUNK_SIZE * 2 + 1)
+                ,
+                () -> assertThat(orderDao.findAll())
+                        .extracting(Order::getId)
+                        .containsExactlyInAnyOrder(recentOrder.getId(), mealOrder.getId())
+        );
+    }
+
+    @DisplayName("옮기지 못한 묶음은 건너뛰고 다음 묶음을 옮긴다")
+    @Test
+    void archive_ChunkFailed_NextChunkArchived() {
+        // Given
+        final OrderArchiveService spiedOrderArchiveService = spy(orderArchiveService);
+        doThrow(new DuplicateKeyException("orders_archive"))
+                .doCallRealMethod()
+                .when(spiedOrderArchiveService).archive(anyList());
+        final OrderArchiver orderArchiver = new OrderArchiver(orderDao, spiedOrderArchiveService, 30L);
+
+        final LocalDateTime oldOrderedTime = LocalDateTime.now().minusDays(31);
+        for (int i = 0; i < OrderArchiver.CHUNK_SIZE + 1; i++) {
+            saveOrder(OrderStatus.COMPLETION, oldOrderedTime);
+        }
+
+        // When
+        final int archivedCount = orderArchiver.archive();
+
+        // Then
+        assertAll(
+                () -> assertThat(archivedCount).isEqualTo(1)
+                ,
+                () -> assertThat(orderDao.findAll()).hasSize(OrderArchiver.CHUNK_SIZE)
+        );
+    }
+
+    private Order saveOrder(final OrderStatus orderStatus, final LocalDateTime orderedTime) {
+        final Order order = new Order();
+        order.setOrderTableId(1L);
+        order.setOrderStatus(orderStatus);
+        order.setOrderedTime(orderedTime);
+        return orderDao.save(order);
+    }
+}
@@ -0,0 +1,171 @@
+package kitchenpos.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.assertj.core.util.Lists.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderEvent;
+import kitchenpos.domain.OrderEventType;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+
+@DisplayName("OrderEventPublisher 테스트")
+class OrderEventPublisherTest {
+    private OrderEventPublisher orderEventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        this.orderEventPublisher = new OrderEventPublisher(Runnable::run);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @DisplayName("조건에 맞는 구독자에게만 주문 이벤트를 보낸다")
+    @Test
+    void publish() {
+        // Given
+        final List<OrderEvent> table1Events = new ArrayList<>();
+        final List<OrderEvent> mealEvents = new ArrayList<>();
+        final List<Throwable> errors = new ArrayList<>();
+        orderEventPublisher.subscribe(event -> event.getOrderTableId().equals(1L), table1Events::add, errors::add);
+        orderEventPublisher.subscribe(event -> event.getOrderStatus() == OrderStatus.MEAL, mealEvents::add,
+                errors::add);
+
+        // When
+        orderEventPublisher.publishCreated(newOrder(1L, 1L, OrderStatus.COOKING));
+        orderEventPublisher.publishStatusChanged(newOrder(2L, 2L, OrderStatus.MEAL));
+
+        // Then
+        assertAll(
+                () -> assertThat(table1Events)
+                        .extracting(OrderEvent::getType, OrderEvent::getOrderId)
+                        .containsExactly(tuple(OrderEventType.CREATED, 1L))
+                ,
+                () -> assertThat(table1Events.get(0).getOrderLineItems()).hasSize(1)
+                ,
+                () -> assertThat(mealEvents)
+                        .extracting(OrderEvent::getType, OrderEvent::getOrderId)
+                        .containsExactly(tuple(OrderEventType.STATUS_CHANGED, 2L))
+                ,
+                () -> assertThat(errors).isEmpty()
+        );
+    }
+
+    @DisplayName("트랜잭션 안에서 발행한 이벤트는 커밋된 뒤에 보낸다")
+    @Test
+    void publish_AfterCommit() {
+        // Given
+        final List<OrderEvent> events = new ArrayList<>();
+        final List<Throwable> errors = new ArrayList<>();
+        orderEventPublisher.subscribe(event -> true, events::add, errors::add);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        orderEventPublisher.publishCreated(newOrder(1L, 1L, OrderStatus.COOKING));
+
+        // Then
+        assertThat(events).isEmpty();
+
+        // When
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        assertThat(events).hasSize(1);
+    }
+
+    @DisplayName("이벤트를 받지 못한 구독자와 구독을 해지한 구독자는 더 이상 이벤트를 받지 않는다")
+    @Test
+    void subscribe_Removed() {
+        // Given
+        final List<OrderEvent> events = new ArrayList<>();
+        final List<Throwable> errors = new ArrayList<>();
+        orderEventPublisher.subscribe(event -> true, event -> {
+            throw new IllegalStateException();
+        }, errors::add);
+        final Runnable unsubscribe = orderEventPublisher.subscribe(event -> true, events::add, errors::add);
+
+        // When
+        orderEventPublisher.publishCreated(newOrder(1L, 1L, OrderStatus.COOKING));
+        unsubscribe.run();
+        orderEventPublisher.publishCreated(newOrder(2L, 1L, OrderStatus.COOKING));
+
+        // Then
+        assertAll(
+                () -> assertThat(events).hasSize(1)
+                ,
+                () -> assertThat(errors)
+                        .hasSize(1)
+                        .hasOnlyElementsOfType(IllegalStateException.class)
+                ,
+                () -> assertThat(orderEventPublisher.countSubscribers()).isZero()
+        );
+    }
+
+    @DisplayName("이벤트가 밀린 구독자는 구독을 해지하고, 다른 구독자는 기다리지 않고 이벤트를 받는다")
+    @Test
+    void subscribe_SlowSubscriber_Removed() {
+        // Given
+        final List<Runnable> pendingSends = new ArrayList<>();
+        final OrderEventPublisher orderEventPublisher = new OrderEventPublisher(pendingSends::add, 1);
+        final List<OrderEvent> slowEvents = new ArrayList<>();
+        final List<Throwable> slowErrors = new ArrayList<>();
+        orderEventPublisher.subscribe(event -> true, slowEvents::add, slowErrors::add);
+        final List<OrderEvent> events = new ArrayList<>();
+        final List<Throwable> errors = new ArrayList<>();
+        orderEventPublisher.subscribe(event -> true, events::add, errors::add);
+
+        // When
+        orderEventPublisher.publishCreated(newOrder(1L, 1L, OrderStatus.COOKING));
+        pendingSends.remove(1).run();
+        orderEventPublisher.publishCreated(newOrder(2L, 1L, OrderStatus.COOKING));
+        pendingSends.remove(1).run();
+
+        // Then
+        assertAll(
+                () -> assertThat(slowEvents).isEmpty()
+                ,
+                () -> assertThat(slowErrors).hasSize(1)
+                ,
+                () -> assertThat(events)
+                        .extracting(OrderEvent::getOrderId)
+                        .containsExactly(1L, 2L)
+                ,
+                () -> assertThat(errors).isEmpty()
+                ,
+                () -> assertThat(orderEventPublisher.countSubscribers()).isEqualTo(1)
+        );
+    }
+
+    private Order newOrder(final Long orderId, final Long orderTableId, final OrderStatus orderStatus) {
+        final OrderLineItem orderLineItem = new OrderLineItem();
+        orderLineItem.setOrderId(orderId);
+        orderLineItem.setMenuId(1L);
+        orderLineItem.setQuantity(1L);
+
+        final Order order = new Order();
+        order.setId(orderId);
+        order.setOrderTableId(orderTableId);
+        order.setOrderStatus(orderStatus);
+        order.setOrderedTime(LocalDateTime.now());
+        order.setOrderLineItems(newArrayList(orderLineItem));
+        return order;
+    }
+}
@@ -0,0 +1,235 @@
+package kitchenpos.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.assertj.core.util.Lists.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import kitchenpos.dao.MenuDao;
+import kitchenpos.dao.OrderDao;
+import kitchenpos.dao.OrderLineItemDao;
+import kitchenpos.dao.OrderTableDao;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderIntakeStatus;
+import kitchenpos.domain.OrderIntakeTicket;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.inmemorydao.InMemoryMenuDao;
+import kitchenpos.inmemorydao.InMemoryMenuGroupDao;
+import kitchenpos.inmemorydao.InMemoryMenuProductDao;
+import kitchenpos.inmemorydao.InMemoryOrderDao;
+import kitchenpos.inmemorydao.InMemoryOrderLineItemDao;
+import kitchenpos.inmemorydao.InMemoryOrderTableDao;
+import kitchenpos.inmemorydao.InMemoryProductDao;
+
+@DisplayName("OrderIntake 테스트")
+class OrderIntakeTest {
+    private MenuDao menuDao;
+    private OrderDao orderDao;
+    private OrderLineItemDao orderLineItemDao;
+    private OrderTableDao orderTableDao;
+    private Catalog catalog;
+    private ActiveOrderIndex activeOrderIndex;
+    private OrderIntakeWriter orderIntakeWriter;
+    private OrderIntake orderIntake;
+
+    @BeforeEach
+    void setUp() {
+        this.menuDao = new InMemoryMenuDao();
+        this.orderDao = new InMemoryOrderDao();
+        this.orderLineItemDao = new InMemoryOrderLineItemDao();
+        this.orderTableDao = new InMemoryOrderTableDao();
+        this.catalog = new Catalog(new InMemoryProductDao(), new InMemoryMenuGroupDao(), menuDao,
+                new InMemoryMenuProductDao());
+        this.activeOrderIndex = new ActiveOrderIndex(orderDao);
+        this.orderIntakeWriter = new OrderIntakeWriter(orderDao, orderLineItemDao,
+                new OrderEventPublisher(Runnable::run), new MenuSalesCounter());
+        this.orderIntake = new OrderIntake(catalog, activeOrderIndex, orderDao, orderTableDao,
+                orderIntakeWriter);
+    }
+
+    @DisplayName("주문을 접수하면 id를 부여해 대기열에 넣고, 비우면 한 번에 저장한다")
+    @Test
+    void submit() throws InterruptedException {
+        // Given
+        final Order order1 = newOrder();
+        final Order order2 = newOrder();
+
+        // When
+        final Order submittedOrder1 = orderIntake.submit(order1).orElseThrow(IllegalStateException::new);
+        final Order submittedOrder2 = orderIntake.submit(order2).orElseThrow(IllegalStateException::new);
+
+        // Then
+        assertAll(
+                () -> assertThat(submittedOrder2.getId()).isGreaterThan(submittedOrder1.getId())
+                ,
+                () -> assertThat(submittedOrder1.getOrderStatus()).isEqualTo(OrderStatus.COOKING)
+                ,
+                () -> assertThat(orderIntake.findTicket(submittedOrder1.getId()))
+                        .map(OrderIntakeTicket::getStatus)
+                        .hasValue(OrderIntakeStatus.QUEUED)
+                ,
+                () -> assertThat(activeOrderIndex.hasActiveOrder(submittedOrder1.getOrderTableId())).isTrue()
+                ,
+                () -> assertThat(orderDao.findAll()).isEmpty()
+        );
+
+        // When
+        orderIntake.flush();
+
+        // Then
+        assertAll(
+                () -> assertThat(orderDao.findAll())
+                        .extracting(Order::getId)
+                        .containsExactlyInAnyOrder(submittedOrder1.getId(), submittedOrder2.getId())
+                ,
+                () -> assertThat(orderLineItemDao.findAllByOrderId(submittedOrder1.getId())).hasSize(1)
+                ,
+                () -> assertThat(orderIntake.findTicket(submittedOrder1.getId()))
+                        .map(OrderIntakeTicket::getStatus)
+                        .hasValue(OrderIntakeStatus.COMMITTED)
+        );
+    }
+
+    @DisplayName("대기열이 가득 차면 주문을 접수하지 않는다")
+    @Test
+    void submit_QueueFull_Rejected() throws InterruptedException {
+        // Given
+        final OrderIntake orderIntake = new OrderIntake(catalog, activeOrderIndex, orderDao, orderTableDao,
+                orderIntakeWriter, 1);
+        orderIntake.submit(newOrder());
+
+        // When
+        final Order order = newOrder();
+        final Optional<Order> submittedOrder = orderIntake.submit(order);
+
+        // Then
+        assertAll(
+                () -> assertThat(submittedOrder).isEmpty()
+                ,
+                () -> assertThat(orderIntake.findTicket(order.getId())).isEmpty()
+        );
+    }
+
+    @DisplayName("주문할 메뉴가 존재하지 않을 경우 예외가 발생한다")
+    @Test
+    void submit_MenuNotExists_ExceptionThrown() {
+        // Given
+        final OrderLineItem orderLineItem = new OrderLineItem();
+        orderLineItem.setMenuId(100L); // 존재하지 않는 메뉴의 id
+
+        final Order order = new Order();
+        order.setOrderLineItems(newArrayList(orderLineItem));
+
+        // Then
+        assertThatThrownBy(() -> orderIntake.submit(order))
+                .isInstanceOf(IllegalArgumentException.class)
+        ;
+    }
+
+    @DisplayName("주문 수량이 1보다 작을 경우 예외가 발생한다")
+    @Test
+    void submit_QuantityNotPositive_ExceptionThrown() {
+        // Given
+        final Order order = newOrder();
+        order.getOrderLineItems().get(0).setQuantity(0L);
+
+        // Then
+        assertThatThrownBy(() -> orderIntake.submit(order))
+                .isInstanceOf(IllegalArgumentException.class)
+        ;
+    }
+
+    @DisplayName("저장에 실패한 주문은 실패로 표시하고 주문 중인 테이블에서 제외한다")
+    @Test
+    void flush_WriteFailed() throws InterruptedException {
+        // Given
+        final OrderIntakeWriter spiedOrderIntakeWriter = spy(orderIntakeWriter);
+        doThrow(new DataIntegrityViolationException("orders"))
+                .when(spiedOrderIntakeWriter).write(anyList());
+        final OrderIntake orderIntake = new OrderIntake(catalog, activeOrderIndex, orderDao, orderTableDao,
+                spiedOrderIntakeWriter);
+        final Order submittedOrder = orderIntake.submit(newOrder()).orElseThrow(IllegalStateException::new);
+
+        // When
+        orderIntake.flush();
+
+        // Then
+        assertAll(
+                () -> assertThat(orderIntake.findTicket(submittedOrder.getId()))
+                        .map(OrderIntakeTicket::getStatus)
+                        .hasValue(OrderIntakeStatus.FAILED)
+                ,
+                () -> assertThat(activeOrderIndex.hasActiveOrder(submittedOrder.getOrderTableId())).isFalse()
+        );
+    }
+
+    @DisplayName("묶음 저장에 실패하면 주문을 하나씩 다시 저장해 저장할 수 없는 주문만 실패로 표시한다")
+    @Test
+    void flush_OneOrderFailed_OthersCommitted() throws InterruptedException {
+        // Given
+        final OrderIntakeWriter spiedOrderIntakeWriter = spy(orderIntakeWriter);
+        final OrderIntake orderIntake = new OrderIntake(catalog, activeOrderIndex, orderDao, orderTableDao,
+                spiedOrderIntakeWriter);
+        final Order submittedOrder1 = orderIntake.submit(newOrder()).orElseThrow(IllegalStateException::new);
+        final Order failedOrder = orderIntake.submit(newOrder()).orElseThrow(IllegalStateException::new);
+        final Order submittedOrder2 = orderIntake.submit(newOrder()).orElseThrow(IllegalStateException::new);
+        doAnswer(invocation -> {
+            final List<Order> orders = invocation.getArgument(0);
+            if (orders.contains(failedOrder)) {
+                throw new DataIntegrityViolationException("orders");
+            }
+            return invocation.callRealMethod();
+        }).when(spiedOrderIntakeWriter).write(anyList());
+
+        // When
+        orderIntake.flush();
+
+        // Then
+        assertAll(
+                () -> assertThat(orderDao.findAll())
+                        .extracting(Order::getId)
+                        .containsExactlyInAnyOrder(submittedOrder1.getId(), submittedOrder2.getId())
+                ,
+                () -> assertThat(orderIntake.findTicket(submittedOrder1.getId()))
+                        .map(OrderIntakeTicket::getStatus)
+                        .hasValue(OrderIntakeStatus.COMMITTED)
+                ,
+                () -> assertThat(orderIntake.findTicket(failedOrder.getId()))
+                        .map(OrderIntakeTicket::getStatus)
+                        .hasValue(OrderIntakeStatus.FAILED)
+        );
+    }
+
+    private Order newOrder() {
+        final OrderTable orderTable = new OrderTable();
+        orderTable.setEmpty(false);
+        final OrderTable savedOrderTable = orderTableDao.save(orderTable);
+
+        final Menu menu = new Menu();
+        menu.setName("파닭치킨");
+        menu.setPrice(BigDecimal.valueOf(18000L));
+        final Menu savedMenu = menuDao.save(menu);
+        catalog.update(snapshot -> snapshot.withMenu(savedMenu));
+
+        final OrderLineItem orderLineItem = new OrderLineItem();
+        orderLineItem.setMenuId(savedMenu.getId());
+        orderLineItem.setQuantity(1L);
+
+        final Order order = new Order();
+        order.setOrderTableId(savedOrderTable.getId());
+        order.setOrderLineItems(newArrayList(orderLineItem));
+        return order;
+    }
+}
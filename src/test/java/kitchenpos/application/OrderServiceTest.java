@@ -3,34 +3,61 @@ package kitchenpos.application;
 import static org.assertj.core.api.Assertions.*;
 import static org.assertj.core.util.Lists.*;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
 
 import kitchenpos.dao.MenuDao;
+import kitchenpos.dao.MenuSalesDao;
 import kitchenpos.dao.OrderDao;
 import kitchenpos.dao.OrderLineItemDao;
 import kitchenpos.dao.OrderTableDao;
 import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuSales;
 import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderEvent;
+import kitchenpos.domain.OrderEventType;
 import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderSearchCondition;
 import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderStatusBatch;
+import kitchenpos.domain.OrderStatusBatchResult;
 import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.TopSellingMenu;
 import kitchenpos.inmemorydao.InMemoryMenuDao;
+import kitchenpos.inmemorydao.InMemoryMenuGroupDao;
+import kitchenpos.inmemorydao.InMemoryMenuProductDao;
+import kitchenpos.inmemorydao.InMemoryMenuSalesDao;
 import kitchenpos.inmemorydao.InMemoryOrderDao;
 import kitchenpos.inmemorydao.InMemoryOrderLineItemDao;
 import kitchenpos.inmemorydao.InMemoryOrderTableDao;
+import kitchenpos.inmemorydao.InMemoryProductDao;
 
 @DisplayName("OrderService 테스트")
 class OrderServiceTest {
     private MenuDao menuDao;
+    private Catalog catalog;
+    private ActiveOrderIndex activeOrderIndex;
     private OrderDao orderDao;
     private OrderLineItemDao orderLineItemDao;
     private OrderTableDao orderTableDao;
+    private OrderEventPublisher orderEventPublisher;
+    private MenuSalesDao menuSalesDao;
+    private MenuSalesCounter menuSalesCounter;
     private OrderService orderService;
 
     @BeforeEach
@@ -39,7 +66,15 @@ class OrderServiceTest {
         this.orderDao = new InMemoryOrderDao();
         this.orderLineItemDao = new InMemoryOrderLineItemDao();
         this.orderTableDao = new InMemoryOrderTableDao();
-        this.orderService = new OrderService(menuDao, orderDao, orderLineItemDao, orderTableDao);
+        this.catalog = new Catalog(new InMemoryProductDao(), new InMemoryMenuGroupDao(), menuDao,
+                new InMemoryMenuProductDao());
+        this.activeOrderIndex = new ActiveOrderIndex(orderDao);
+        this.orderEventPublisher = new OrderEventPublisher(Runnable::run);
+        this.menuSalesDao = new InMemoryMenuSalesDao();
+        this.menuSalesCounter = new MenuSalesCounter();
+        this.orderService = new OrderService(catalog, orderDao, orderLineItemDao,
+                orderTableDao, orderEventPublisher, new SalesRollupService(catalog, menuSalesDao),
+                menuSalesCounter);
     }
 
     @DisplayName("주문을 등록한다")
@@ -73,6 +108,107 @@ class OrderServiceTest {
         ;
     }
 
+    @DisplayName("카탈로그를 불러온 뒤 다른 곳에서 추가된 메뉴로도 주문을 등록한다")
+    @Test
+    void create_MenuAddedAfterSnapshot() {
+        // Given
+        catalog.snapshot();
+
+        final OrderTable orderTable = new OrderTable();
+        orderTable.setEmpty(false);
+        final OrderTable savedOrderTable = orderTableDao.save(orderTable);
+
+        final Menu menu = new Menu();
+        menu.setName("파닭치킨");
+        menu.setPrice(BigDecimal.valueOf(18000L));
+        final Menu savedMenu = menuDao.save(menu);
+
+        final OrderLineItem orderLineItem = new OrderLineItem();
+        orderLineItem.setMenuId(savedMenu.getId());
+        orderLineItem.setQuantity(1L);
+
+        final Order order = new Order();
+        order.setOrderTableId(savedOrderTable.getId());
+        order.setOrderLineItems(newArrayList(orderLineItem));
+
+        // When
+        final Order createdOrder = orderService.create(order);
+
+        // Then
+        assertThat(createdOrder)
+                .extracting(Order::getId)
+                .isNotNull()
+        ;
+    }
+
+    @DisplayName("주문을 등록하면 메뉴별 판매 수량을 센다")
+    @Test
+    void create_MenuSalesCounted() {
+        // Given
+        final OrderTable orderTable = new OrderTable();
+        orderTable.setEmpty(false);
+        final OrderTable savedOrderTable = orderTableDao.save(orderTable);
+
+        final Menu menu = new Menu();
+        menu.setName("파닭치킨");
+        menu.setPrice(BigDecimal.valueOf(18000L));
+        final Menu savedMenu = menuDao.save(menu);
+
+        final Order order = newOrder(savedOrderTable, savedMenu);
+        order.getOrderLineItems().get(0).setQuantity(3L);
+
+        // When
+        orderService.create(order);
+
+        // Then
+        assertThat(menuSalesCounter.top(1).getLastFifteenMinutes())
+                .extracting(TopSellingMenu::getMenuId, TopSellingMenu::getQuantity)
+                .containsExactly(tuple(savedMenu.getId(), 3L))
+        ;
+    }
+
+    @DisplayName("주문을 등록하거나 상태를 변경하면 주문 이벤트를 발행한다")
+    @Test
+    void create_OrderEventPublished() {
+        // Given
+        final List<OrderEvent> events = new ArrayList<>();
+        final List<Throwable> errors = new ArrayList<>();
+        orderEventPublisher.subscribe(event -> true, events::add, errors::add);
+
+        final OrderTable orderTable = new OrderTable();
+        orderTable.setEmpty(false);
+        final OrderTable savedOrderTable = orderTableDao.save(orderTable);
+
+        final Menu menu = new Menu();
+        menu.setName("파닭치킨");
+        menu.setPrice(BigDecimal.valueOf(18000L));
+        final Menu savedMenu = menuDao.save(menu);
+
+        final OrderLineItem orderLineItem = new OrderLineItem();
+        orderLineItem.setMenuId(savedMenu.getId());
+        orderLineItem.setQuantity(1L);
+
+        final Order order = new Order();
+        order.setOrderTableId(savedOrderTable.getId());
+        order.setOrderLineItems(newArrayList(orderLineItem));
+
+        // When
+        final Order createdOrder = orderService.create(order);
+
+        final Order changingOrder = new Order();
+        changingOrder.setOrderStatus(OrderStatus.MEAL);
+        orderService.changeOrderStatus(createdOrder.getId(), changingOrder);
+
+        // Then
+        assertThat(events)
+                .extracting(OrderEvent::getType, OrderEvent::getOrderStatus)
+                .containsExactly(
+                        tuple(OrderEventType.CREATED, OrderStatus.COOKING),
+                        tuple(OrderEventType.STATUS_CHANGED, OrderStatus.MEAL)
+                )
+        ;
+    }
+
     @DisplayName("주문할 메뉴의 목록이 존재하지 않을 경우 예외가 발생한다")
     @Test
     void create_EmptyOrderLineItems_ExceptionThrown() {
@@ -174,7 +310,7 @@ class OrderServiceTest {
         final Order savedOrder = orderService.create(order);
 
         // When
-        final List<Order> list = orderService.list();
+        final List<Order> list = orderService.list(0L, OrderService.MAX_PAGE_SIZE);
 
         // Then
         assertAll(
@@ -186,6 +322,207 @@ class OrderServiceTest {
         );
     }
 
+    @DisplayName("커서와 크기를 지정하지 않으면 모든 주문을 조회한다")
+    @Test
+    void list_Unpaged_AllOrders() {
+        // Given
+        final OrderTable orderTable = new OrderTable();
+        orderTable.setEmpty(false);
+        final OrderTable savedOrderTable = orderTableDao.save(orderTable);
+
+        final Menu menu = new Menu();
+        menu.setName("파닭치킨");
+        menu.setPrice(BigDecimal.valueOf(18000L));
+        final Menu savedMenu = menuDao.save(menu);
+
+        final List<Long> orderIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            final OrderLineItem orderLineItem = new OrderLineItem();
+            orderLineItem.setMenuId(savedMenu.getId());
+            orderLineItem.setQuantity(1L);
+
+            final Order order = new Order();
+            order.setOrderTableId(savedOrderTable.getId());
+            order.setOrderLineItems(newArrayList(orderLineItem));
+
+            orderIds.add(orderService.create(order).getId());
+        }
+
+        // When
+        final List<Order> list = orderService.list();
+
+        // Then
+        assertAll(
+                () -> assertThat(list)
+                        .extracting(Order::getId)
+                        .containsExactlyInAnyOrderElementsOf(orderIds)
+                ,
+                () -> assertThat(list)
+                        .allSatisfy(savedOrder -> assertThat(savedOrder.getOrderLineItems()).hasSize(1))
+        );
+    }
+
+    @DisplayName("주문의 목록을 조회할 때 주문의 수와 관계없이 주문 항목을 한 번에 조회한다")
+    @Test
+    void list_OrderLineItemsFetchedInSingleQuery() {
+        // Given
+        final OrderLineItemDao spiedOrderLineItemDao = spy(orderLineItemDao);
+        final OrderService orderService = new OrderService(catalog, orderDao,
+                spiedOrderLineItemDao, orderTableDao, orderEventPublisher,
+                new SalesRollupService(catalog, menuSalesDao), menuSalesCounter);
+
+        final OrderTable orderTable = new OrderTable();
+        orderTable.setEmpty(false);
+        final OrderTable savedOrderTable = orderTableDao.save(orderTable);
+
+        final Menu menu = new Menu();
+        menu.setName("파닭치킨");
+        menu.setPrice(BigDecimal.valueOf(18000L));
+        final Menu savedMenu = menuDao.save(menu);
+
+        for (int i = 0; i < 10; i++) {
+            final OrderLineItem orderLineItem = new OrderLineItem();
+            orderLineItem.setMenuId(savedMenu.getId());
+            orderLineItem.setQuantity(1L);
+
+            final Order order = new Order();
+            order.setOrderTableId(savedOrderTable.getId());
+            order.setOrderLineItems(newArrayList(orderLineItem));
+
+            orderService.create(order);
+        }
+
+        // When
+        final List<Order> list = orderService.list(0L, OrderService.MAX_PAGE_SIZE);
+
+        // Then
+        assertAll(
+                () -> assertThat(list)
+                        .hasSize(10)
+                        .allSatisfy(order -> assertThat(order.getOrderLineItems()).hasSize(1))
+                ,
+                () -> verify(spiedOrderLineItemDao, times(1)).findAllByOrderIdIn(anyList())
+                ,
+                () -> verify(spiedOrderLineItemDao, never()).findAllByOrderId(anyLong())
+        );
+    }
+
+    @DisplayName("주문의 목록을 커서 이후부터 지정한 크기만큼 조회한다")
+    @Test
+    void list_Cursor() {
+        // Given
+        final OrderTable orderTable = new OrderTable();
+        orderTable.setEmpty(false);
+        final OrderTable savedOrderTable = orderTableDao.save(orderTable);
+
+        final Menu menu = new Menu();
+        menu.setName("파닭치킨");
+        menu.setPrice(BigDecimal.valueOf(18000L));
+        final Menu savedMenu = menuDao.save(menu);
+
+        final List<Long> orderIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            final OrderLineItem orderLineItem = new OrderLineItem();
+            orderLineItem.setMenuId(savedMenu.getId());
+            orderLineItem.setQuantity(1L);
+
+            final Order order = new Order();
+            order.setOrderTableId(savedOrderTable.getId());
+            order.setOrderLineItems(newArrayList(orderLineItem));
+
+            orderIds.add(orderService.create(order).getId());
+        }
+
+        // When
+        final List<Order> firstPage = orderService.list(0L, 2);
+        final List<Order> secondPage = orderService.list(firstPage.get(1).getId(), 2);
+
+        // Then
+        assertAll(
+                () -> assertThat(firstPage)
+                        .extracting(Order::getId)
+                        .containsExactly(orderIds.get(0), orderIds.get(1))
+                ,
+                () -> assertThat(secondPage)
+                        .extracting(Order::getId)
+                        .containsExactly(orderIds.get(2), orderIds.get(3))
+        );
+    }
+
+    @DisplayName("주문 목록 조회의 커서 또는 크기가 올바르지 않을 경우 예외가 발생한다")
+    @ParameterizedTest
+    @MethodSource("generateInvalidCursorAndSize")
+    void list_InvalidCursorOrSize_ExceptionThrown(final Long cursor, final int size) {
+        assertThatThrownBy(() -> orderService.list(cursor, size))
+                .isInstanceOf(IllegalArgumentException.class)
+        ;
+    }
+
+    @DisplayName("주문 상태와 주문 테이블로 걸러 주문의 목록을 조회한다")
+    @Test
+    void search() {
+        // Given
+        final OrderTable orderTable1 = new OrderTable();
+        orderTable1.setEmpty(false);
+        final OrderTable savedOrderTable1 = orderTableDao.save(orderTable1);
+
+        final OrderTable orderTable2 = new OrderTable();
+        orderTable2.setEmpty(false);
+        final OrderTable savedOrderTable2 = orderTableDao.save(orderTable2);
+
+        final Menu menu = new Menu();
+        menu.setName("파닭치킨");
+        menu.setPrice(BigDecimal.valueOf(18000L));
+        final Menu savedMenu = menuDao.save(menu);
+
+        final List<Order> savedOrders = new ArrayList<>();
+        for (final OrderTable savedOrderTable : newArrayList(savedOrderTable1, savedOrderTable2, savedOrderTable1)) {
+            final OrderLineItem orderLineItem = new OrderLineItem();
+            orderLineItem.setMenuId(savedMenu.getId());
+            orderLineItem.setQuantity(1L);
+
+            final Order order = new Order();
+            order.setOrderTableId(savedOrderTable.getId());
+            order.setOrderLineItems(newArrayList(orderLineItem));
+
+            savedOrders.add(orderService.create(order));
+        }
+
+        final Order mealOrder = new Order();
+        mealOrder.setOrderStatus(OrderStatus.MEAL);
+        orderService.changeOrderStatus(savedOrders.get(2).getId(), mealOrder);
+
+        final OrderSearchCondition condition = new OrderSearchCondition();
+        condition.setOrderStatuses(newArrayList(OrderStatus.COOKING));
+        condition.setOrderTableId(savedOrderTable1.getId());
+
+        // When
+        final List<Order> orders = orderService.search(condition, 0L, 10);
+
+        // Then
+        assertAll(
+                () -> assertThat(orders)
+                        .extracting(Order::getId)
+                        .containsExactly(savedOrders.get(0).getId())
+                ,
+                () -> assertThat(orders.get(0).getOrderLineItems()).hasSize(1)
+        );
+    }
+
+    @DisplayName("주문 목록 조회의 시작 시각이 끝 시각보다 늦을 경우 예외가 발생한다")
+    @Test
+    void search_InvalidOrderedTimeRange_ExceptionThrown() {
+        // Given
+        final OrderSearchCondition condition = new OrderSearchCondition();
+        condition.setOrderedTimeFrom(LocalDateTime.of(2020, 11, 19, 0, 0));
+        condition.setOrderedTimeTo(LocalDateTime.of(2020, 11, 18, 0, 0));
+
+        // Then
+        assertThatThrownBy(() -> orderService.search(condition, 0L, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+        ;
+    }
+
     @DisplayName("주문의 상태를 변경한다")
     @Test
     void changeOrderStatus() {
@@ -211,7 +548,7 @@ class OrderServiceTest {
 
         // When
         final Order changeStatusOrder = new Order();
-        changeStatusOrder.setOrderStatus(OrderStatus.COMPLETION.name());
+        changeStatusOrder.setOrderStatus(OrderStatus.COMPLETION);
 
         final Order changedOrder = orderService.changeOrderStatus(savedOrder.getId(),
                 changeStatusOrder);
@@ -225,15 +562,49 @@ class OrderServiceTest {
                 () -> assertThat(changedOrder)
                         .extracting(Order::getOrderStatus)
                         .isEqualTo(changeStatusOrder.getOrderStatus())
+                ,
+                () -> assertThat(activeOrderIndex.hasActiveOrder(savedOrderTable.getId())).isFalse()
         );
     }
 
+    @DisplayName("주문을 계산 완료하면 같은 트랜잭션에서 메뉴별 매출에 누적한다")
+    @Test
+    void changeOrderStatus_Completion_SalesRecorded() {
+        // Given
+        final OrderTable orderTable = new OrderTable();
+        orderTable.setEmpty(false);
+        final OrderTable savedOrderTable = orderTableDao.save(orderTable);
+
+        final Menu menu = new Menu();
+        menu.setName("파닭치킨");
+        menu.setPrice(BigDecimal.valueOf(18000L));
+        menu.setMenuGroupId(1L);
+        final Menu savedMenu = menuDao.save(menu);
+
+        final Order order = newOrder(savedOrderTable, savedMenu);
+        order.getOrderLineItems().get(0).setQuantity(2L);
+        final Order savedOrder = orderService.create(order);
+
+        final Order changeStatusOrder = new Order();
+        changeStatusOrder.setOrderStatus(OrderStatus.COMPLETION);
+
+        // When
+        orderService.changeOrderStatus(savedOrder.getId(), changeStatusOrder);
+
+        // Then
+        final LocalDateTime salesHour = savedOrder.getOrderedTime().truncatedTo(ChronoUnit.HOURS);
+        assertThat(menuSalesDao.findAllBySalesHourBetween(salesHour, salesHour.plusHours(1)))
+                .extracting(MenuSales::getMenuId, MenuSales::getQuantity, MenuSales::getRevenue)
+                .containsExactly(tuple(savedMenu.getId(), 2L, BigDecimal.valueOf(36000L)))
+        ;
+    }
+
     @DisplayName("상태를 변경할 주문이 존재하지 않는 경우 예외가 발생한다")
     @Test
     void changeOrderStatus_OrderNotExists_ExceptionThrown() {
         // Given
         final Order changeStatusOrder = new Order();
-        changeStatusOrder.setOrderStatus(OrderStatus.COMPLETION.name());
+        changeStatusOrder.setOrderStatus(OrderStatus.COMPLETION);
 
         // Then
         assertThatThrownBy(() -> orderService.changeOrderStatus(1L, changeStatusOrder))
@@ -241,6 +612,37 @@ class OrderServiceTest {
         ;
     }
 
+    @DisplayName("변경할 주문 상태가 없는 경우 예외가 발생한다")
+    @Test
+    void changeOrderStatus_OrderStatusIsNull_ExceptionThrown() {
+        // Given
+        final OrderTable orderTable = new OrderTable();
+        orderTable.setEmpty(false);
+        final OrderTable savedOrderTable = orderTableDao.save(orderTable);
+
+        final Menu menu = new Menu();
+        menu.setName("파닭치킨");
+        menu.setPrice(BigDecimal.valueOf(18000L));
+        final Menu savedMenu = menuDao.save(menu);
+
+        final OrderLineItem orderLineItem = new OrderLineItem();
+        orderLineItem.setMenuId(savedMenu.getId());
+        orderLineItem.setQuantity(1L);
+
+        final Order order = new Order();
+        order.setOrderTableId(savedOrderTable.getId());
+        order.setOrderLineItems(newArrayList(orderLineItem));
+
+        final Order savedOrder = orderService.create(order);
+
+        // Then
+        final Long savedOrderId = savedOrder.getId();
+
+        assertThatThrownBy(() -> orderService.changeOrderStatus(savedOrderId, new Order()))
+                .isInstanceOf(IllegalArgumentException.class)
+        ;
+    }
+
     @DisplayName("주문의 상태가 이미 완료된 경우 예외가 발생한다")
     @Test
     void changeOrderStatus_OrderStatusAlreadyCompletion_ExceptionThrown() {
@@ -265,11 +667,11 @@ class OrderServiceTest {
         final Order savedOrder = orderService.create(order);
 
         // When
-        savedOrder.setOrderStatus(OrderStatus.COMPLETION.name());
+        savedOrder.setOrderStatus(OrderStatus.COMPLETION);
         final Order completedOrder = orderDao.save(savedOrder);
 
         final Order changeStatusOrder = new Order();
-        changeStatusOrder.setOrderStatus(OrderStatus.COMPLETION.name());
+        changeStatusOrder.setOrderStatus(OrderStatus.COMPLETION);
 
         // Then
         final Long completedOrderId = completedOrder.getId();
@@ -279,4 +681,153 @@ class OrderServiceTest {
                 .isInstanceOf(IllegalArgumentException.class)
         ;
     }
+
+    @DisplayName("여러 주문의 상태를 한 번에 변경하고 변경할 수 없는 주문은 따로 반환한다")
+    @Test
+    void changeOrderStatuses() {
+        // Given
+        final OrderTable orderTable = new OrderTable();
+        orderTable.setEmpty(false);
+        final OrderTable savedOrderTable = orderTableDao.save(orderTable);
+
+        final Menu menu = new Menu();
+        menu.setName("파닭치킨");
+        menu.setPrice(BigDecimal.valueOf(18000L));
+        final Menu savedMenu = menuDao.save(menu);
+
+        final Order cookingOrder = orderService.create(newOrder(savedOrderTable, savedMenu));
+        final Order completedOrder = orderService.create(newOrder(savedOrderTable, savedMenu));
+        completedOrder.setOrderStatus(OrderStatus.COMPLETION);
+        orderDao.save(completedOrder);
+
+        final OrderStatusBatch orderStatusBatch = new OrderStatusBatch();
+        orderStatusBatch.setOrderIds(
+                newArrayList(cookingOrder.getId(), completedOrder.getId(), 100L));
+        orderStatusBatch.setOrderStatus(OrderStatus.MEAL);
+
+        // When
+        final OrderStatusBatchResult result = orderService.changeOrderStatuses(orderStatusBatch);
+
+        // Then
+        assertAll(
+                () -> assertThat(result.getChangedOrderIds())
+                        .containsExactly(cookingOrder.getId())
+                ,
+                () -> assertThat(result.getRejectedOrderIds())
+                        .containsExactly(completedOrder.getId(), 100L)
+                ,
+                () -> assertThat(orderDao.findById(cookingOrder.getId()))
+                        .hasValueSatisfying(order -> assertThat(order.getOrderStatus())
+                                .isEqualTo(OrderStatus.MEAL))
+        );
+    }
+
+    @DisplayName("잠근 주문 중 일부만 변경되면 예외가 발생한다")
+    @Test
+    void changeOrderStatuses_UpdatedCountMismatch_ExceptionThrown() {
+        // Given
+        final OrderDao spiedOrderDao = spy(orderDao);
+        final OrderService orderService = new OrderService(catalog, spiedOrderDao, orderLineItemDao,
+                orderTableDao, orderEventPublisher, new SalesRollupService(catalog, menuSalesDao),
+                menuSalesCounter);
+
+        final OrderTable orderTable = new OrderTable();
+        orderTable.setEmpty(false);
+        final OrderTable savedOrderTable = orderTableDao.save(orderTable);
+
+        final Menu menu = new Menu();
+        menu.setName("파닭치킨");
+        menu.setPrice(BigDecimal.valueOf(18000L));
+        final Menu savedMenu = menuDao.save(menu);
+
+        final Order order1 = orderService.create(newOrder(savedOrderTable, savedMenu));
+        final Order order2 = orderService.create(newOrder(savedOrderTable, savedMenu));
+        doReturn(1).when(spiedOrderDao).updateOrderStatusByIdIn(anyList(), any(OrderStatus.class));
+
+        final OrderStatusBatch orderStatusBatch = new OrderStatusBatch();
+        orderStatusBatch.setOrderIds(newArrayList(order1.getId(), order2.getId()));
+        orderStatusBatch.setOrderStatus(OrderStatus.MEAL);
+
+        // Then
+        assertThatThrownBy(() -> orderService.changeOrderStatuses(orderStatusBatch))
+                .isInstanceOf(IllegalStateException.class)
+        ;
+    }
+
+    @DisplayName("여러 주문을 한 번에 계산 완료하면 주문 테이블에 진행 중인 주문이 없다")
+    @Test
+    void changeOrderStatuses_Completion() {
+        // Given
+        final OrderTable orderTable = new OrderTable();
+        orderTable.setEmpty(false);
+        final OrderTable savedOrderTable = orderTableDao.save(orderTable);
+
+        final Menu menu = new Menu();
+        menu.setName("파닭치킨");
+        menu.setPrice(BigDecimal.valueOf(18000L));
+        final Menu savedMenu = menuDao.save(menu);
+
+        final Order order1 = orderService.create(newOrder(savedOrderTable, savedMenu));
+        final Order order2 = orderService.create(newOrder(savedOrderTable, savedMenu));
+
+        final OrderStatusBatch orderStatusBatch = new OrderStatusBatch();
+        orderStatusBatch.setOrderIds(newArrayList(order1.getId(), order2.getId()));
+        orderStatusBatch.setOrderStatus(OrderStatus.COMPLETION);
+
+        // When
+        orderService.changeOrderStatuses(orderStatusBatch);
+
+        // Then
+        assertThat(activeOrderIndex.hasActiveOrder(savedOrderTable.getId())).isFalse();
+    }
+
+    @DisplayName("변경할 주문 id 목록이나 주문 상태가 올바르지 않은 경우 예외가 발생한다")
+    @ParameterizedTest
+    @MethodSource("generateInvalidOrderStatusBatch")
+    void changeOrderStatuses_InvalidBatch_ExceptionThrown(
+            final List<Long> orderIds,
+            final OrderStatus orderStatus
+    ) {
+        // Given
+        final OrderStatusBatch orderStatusBatch = new OrderStatusBatch();
+        orderStatusBatch.setOrderIds(orderIds);
+        orderStatusBatch.setOrderStatus(orderStatus);
+
+        // Then
+        assertThatThrownBy(() -> orderService.changeOrderStatuses(orderStatusBatch))
+                .isInstanceOf(IllegalArgumentException.class)
+        ;
+    }
+
+    private static Stream<Arguments> generateInvalidOrderStatusBatch() {
+        final List<Long> tooManyOrderIds = LongStream.rangeClosed(1, OrderService.MAX_BATCH_SIZE + 1)
+                .boxed()
+                .collect(Collectors.toList());
+        return Stream.of(
+                Arguments.arguments(null, OrderStatus.MEAL),
+                Arguments.arguments(new ArrayList<>(), OrderStatus.MEAL),
+                Arguments.arguments(tooManyOrderIds, OrderStatus.MEAL),
+                Arguments.arguments(newArrayList(1L), null)
+        );
+    }
+
+    private Order newOrder(final OrderTable orderTable, final Menu menu) {
+        final OrderLineItem orderLineItem = new OrderLineItem();
+        orderLineItem.setMenuId(menu.getId());
+        orderLineItem.setQuantity(1L);
+
+        final Order order = new Order();
+        order.setOrderTableId(orderTable.getId());
+        order.setOrderLineItems(newArrayList(orderLineItem));
+        return order;
+    }
+
+    private static Stream<Arguments> generateInvalidCursorAndSize() {
+        return Stream.of(
+                Arguments.arguments(null, 10),
+                Arguments.arguments(-1L, 10),
+                Arguments.arguments(0L, 0),
+                Arguments.arguments(0L, OrderService.MAX_PAGE_SIZE + 1)
+        );
+    }
 }
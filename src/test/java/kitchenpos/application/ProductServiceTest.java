@@ -1,8 +1,13 @@
 package kitchenpos.application;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.math.BigDecimal;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -15,17 +20,25 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import kitchenpos.dao.ProductDao;
 import kitchenpos.domain.Product;
+import kitchenpos.domain.ProductImportResult;
+import kitchenpos.inmemorydao.InMemoryMenuDao;
+import kitchenpos.inmemorydao.InMemoryMenuGroupDao;
+import kitchenpos.inmemorydao.InMemoryMenuProductDao;
 import kitchenpos.inmemorydao.InMemoryProductDao;
 
 @DisplayName("ProductService 테스트")
 class ProductServiceTest {
     private ProductDao productDao;
+    private Catalog catalog;
     private ProductService productService;
 
     @BeforeEach
     void setUp() {
         this.productDao = new InMemoryProductDao();
-        this.productService = new ProductService(productDao);
+        this.catalog = new Catalog(productDao, new InMemoryMenuGroupDao(), new InMemoryMenuDao(),
+                new InMemoryMenuProductDao());
+        this.productService = new ProductService(productDao, catalog,
+                new ProductImportWriter(productDao, catalog));
     }
 
     @DisplayName("상품을 등록한다")
@@ -67,6 +80,109 @@ class ProductServiceTest {
         );
     }
 
+    @DisplayName("CSV로 여러 상품을 한 번에 등록하고 올바르지 않은 줄의 수를 반환한다")
+    @Test
+    void importProducts() throws IOException {
+        // Given
+        final String csv = "name,price\n"
+                + "파닭치킨,18000\n"
+                + "\"양념, 반반치킨\",17000\n"
+                + "\n"
+                + "마늘치킨,-1000\n"
+                + "간장치킨,무료\n"
+                + "가격없음\n";
+
+        // When
+        final ProductImportResult result = productService.importProducts(new StringReader(csv));
+
+        // Then
+        assertAll(
+                () -> assertThat(result.getImportedCount()).isEqualTo(2L)
+                ,
+                () -> assertThat(result.getRejectedCount()).isEqualTo(3L)
+                ,
+                () -> assertThat(result.getFailedCount()).isZero()
+                ,
+                () -> assertThat(productService.list())
+                        .extracting(Product::getName)
+                        .containsExactlyInAnyOrder("파닭치킨", "양념, 반반치킨")
+        );
+    }
+
+    @DisplayName("CSV의 따옴표로 감싼 값은 구분자를 포함할 수 있고, 값이 두 개가 아니거나 이름이 너무 긴 줄은 거부한다")
+    @Test
+    void importProducts_QuotedAndMalformedLines() throws IOException {
+        // Given
+        final String csv = "\"치킨,1\",1000\n"
+                + "\"\"\"마늘\"\" 치킨\" , 16000\n"
+                + "치킨,1,000\n"
+                + "치킨,\"1,000\"\n"
+                + "\"닫히지 않은 따옴표,1000\n"
+                + "\"양념\"치킨,1000\n"
+                + String.join("", Collections.nCopies(256, "가")) + ",1000\n";
+
+        // When
+        final ProductImportResult result = productService.importProducts(new StringReader(csv));
+
+        // Then
+        assertAll(
+                () -> assertThat(result.getImportedCount()).isEqualTo(2L)
+                ,
+                () -> assertThat(result.getRejectedCount()).isEqualTo(5L)
+                ,
+                () -> assertThat(productService.list())
+                        .extracting(Product::getName, Product::getPrice)
+                        .containsExactlyInAnyOrder(
+                                tuple("치킨,1", BigDecimal.valueOf(1000L)),
+                                tuple("\"마늘\" 치킨", BigDecimal.valueOf(16000L)))
+        );
+    }
+
+    @DisplayName("CSV의 가격이 DECIMAL(19, 2)에 맞지 않는 줄은 건너뛴다")
+    @Test
+    void importProducts_PriceNotFitsColumn() throws IOException {
+        // Given
+        final String csv = "치킨,1E+20\n"
+                + "치킨,123456789012345678\n"
+                + "치킨,0.001\n"
+                + "치킨,12345678901234567.10\n";
+
+        // When
+        final ProductImportResult result = productService.importProducts(new StringReader(csv));
+
+        // Then
+        assertAll(
+                () -> assertThat(result.getImportedCount()).isEqualTo(1L)
+                ,
+                () -> assertThat(result.getRejectedCount()).isEqualTo(3L)
+                ,
+                () -> assertThat(productService.list())
+                        .extracting(Product::getPrice)
+                        .containsExactly(new BigDecimal("12345678901234567.10"))
+        );
+    }
+
+    @DisplayName("CSV로 등록하는 상품은 정해진 크기의 묶음으로 나누어 저장한다")
+    @Test
+    void importProducts_WrittenInFixedSizeBatches() throws IOException {
+        // Given
+        final ProductDao spiedProductDao = spy(productDao);
+        final ProductService productService = new ProductService(spiedProductDao, catalog,
+                new ProductImportWriter(spiedProductDao, catalog));
+
+        final StringBuilder csv = new StringBuilder();
+        for (int i = 0; i <= ProductService.IMPORT_BATCH_SIZE; i++) {
+            csv.append("상품").append(i).append(",1000\n");
+        }
+
+        // When
+        final ProductImportResult result = productService.importProducts(new StringReader(csv.toString()));
+
+        // Then
+        assertThat(result.getImportedCount()).isEqualTo(ProductService.IMPORT_BATCH_SIZE + 1L);
+        verify(spiedProductDao, times(2)).saveAll(anyList());
+    }
+
     @DisplayName("상품의 목록을 조회한다")
     @Test
     void list() {
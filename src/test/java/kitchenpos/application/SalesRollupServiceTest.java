@@ -0,0 +1,170 @@
+package kitchenpos.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.assertj.core.util.Lists.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
+
+import kitchenpos.dao.MenuDao;
+import kitchenpos.dao.MenuSalesDao;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroupSales;
+import kitchenpos.domain.MenuSales;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.inmemorydao.InMemoryMenuDao;
+import kitchenpos.inmemorydao.InMemoryMenuGroupDao;
+import kitchenpos.inmemorydao.InMemoryMenuProductDao;
+import kitchenpos.inmemorydao.InMemoryMenuSalesDao;
+import kitchenpos.inmemorydao.InMemoryProductDao;
+
+@DisplayName("SalesRollupService 테스트")
+class SalesRollupServiceTest {
+    private static final LocalDateTime SALES_HOUR = LocalDateTime.of(2020, 11, 18, 12, 0);
+
+    private MenuDao menuDao;
+    private Catalog catalog;
+    private SalesRollupService salesRollupService;
+
+    @BeforeEach
+    void setUp() {
+        this.menuDao = new InMemoryMenuDao();
+        this.catalog = new Catalog(new InMemoryProductDao(), new InMemoryMenuGroupDao(), menuDao,
+                new InMemoryMenuProductDao());
+        this.salesRollupService = new SalesRollupService(catalog, new InMemoryMenuSalesDao());
+    }
+
+    @DisplayName("계산 완료된 주문을 주문 시각의 시간과 메뉴별로 누적한다")
+    @Test
+    void record() {
+        // Given
+        final Menu friedChicken = saveMenu("후라이드치킨", 16000L);
+        final Menu seasonedChicken = saveMenu("양념치킨", 17000L);
+
+        final Order order1 = newOrder(SALES_HOUR.plusMinutes(10), friedChicken, 1L);
+        final Order order2 = newOrder(SALES_HOUR.plusMinutes(50), friedChicken, 2L);
+        final Order order3 = newOrder(SALES_HOUR.plusMinutes(70), seasonedChicken, 1L);
+
+        // When
+        salesRollupService.record(newArrayList(order1, order2));
+        salesRollupService.record(newArrayList(order3));
+
+        // Then
+        final List<MenuSales> menuSales = salesRollupService.listMenuSales(SALES_HOUR, SALES_HOUR.plusHours(2));
+        final List<MenuGroupSales> menuGroupSales = salesRollupService.listMenuGroupSales(SALES_HOUR,
+                SALES_HOUR.plusHours(1));
+        assertAll(
+                () -> assertThat(menuSales)
+                        .extracting(MenuSales::getSalesHour, MenuSales::getMenuId, MenuSales::getQuantity,
+                                MenuSales::getRevenue)
+                        .containsExactly(
+                                tuple(SALES_HOUR, friedChicken.getId(), 3L, BigDecimal.valueOf(48000L)),
+                                tuple(SALES_HOUR.plusHours(1), seasonedChicken.getId(), 1L,
+                                        BigDecimal.valueOf(17000L)))
+                ,
+                () -> assertThat(menuGroupSales)
+                        .extracting(MenuGroupSales::getMenuGroupId, MenuGroupSales::getQuantity)
+                        .containsExactly(tuple(1L, 3L))
+        );
+    }
+
+    @DisplayName("카탈로그에 없는 메뉴는 데이터베이스에서 찾아 누적한다")
+    @Test
+    void record_MenuNotInSnapshot() {
+        // Given
+        catalog.snapshot();
+        final Menu menu = new Menu();
+        menu.setName("후라이드치킨");
+        menu.setPrice(BigDecimal.valueOf(16000L));
+        menu.setMenuGroupId(1L);
+        final Menu savedMenu = menuDao.save(menu);
+
+        // When
+        salesRollupService.record(newArrayList(newOrder(SALES_HOUR, savedMenu, 1L)));
+
+        // Then
+        assertThat(salesRollupService.listMenuSales(SALES_HOUR, SALES_HOUR.plusHours(1)))
+                .extracting(MenuSales::getMenuId, MenuSales::getQuantity)
+                .containsExactly(tuple(savedMenu.getId(), 1L))
+        ;
+    }
+
+    @DisplayName("누적할 매출은 시간과 메뉴 id 순서로 저장한다")
+    @Test
+    @SuppressWarnings("unchecked")
+    void record_SortedBySalesHourAndMenuId() {
+        // Given
+        final MenuSalesDao menuSalesDao = spy(new InMemoryMenuSalesDao());
+        final SalesRollupService salesRollupService = new SalesRollupService(catalog, menuSalesDao);
+        final Menu friedChicken = saveMenu("후라이드치킨", 16000L);
+        final Menu seasonedChicken = saveMenu("양념치킨", 17000L);
+
+        // When
+        salesRollupService.record(newArrayList(
+                newOrder(SALES_HOUR.plusHours(1), friedChicken, 1L),
+                newOrder(SALES_HOUR, seasonedChicken, 1L),
+                newOrder(SALES_HOUR, friedChicken, 1L)));
+
+        // Then
+        final ArgumentCaptor<List<MenuSales>> rollups = ArgumentCaptor.forClass(List.class);
+        verify(menuSalesDao).addAll(rollups.capture());
+        assertThat(rollups.getValue())
+                .extracting(MenuSales::getSalesHour, MenuSales::getMenuId)
+                .containsExactly(
+                        tuple(SALES_HOUR, friedChicken.getId()),
+                        tuple(SALES_HOUR, seasonedChicken.getId()),
+                        tuple(SALES_HOUR.plusHours(1), friedChicken.getId()))
+        ;
+    }
+
+    @DisplayName("매출 조회 기간이 올바르지 않을 경우 예외가 발생한다")
+    @ParameterizedTest
+    @MethodSource("generateInvalidRange")
+    void listMenuSales_InvalidRange_ExceptionThrown(final LocalDateTime from, final LocalDateTime to) {
+        assertThatThrownBy(() -> salesRollupService.listMenuSales(from, to))
+                .isInstanceOf(IllegalArgumentException.class)
+        ;
+    }
+
+    private Menu saveMenu(final String name, final long price) {
+        final Menu menu = new Menu();
+        menu.setName(name);
+        menu.setPrice(BigDecimal.valueOf(price));
+        menu.setMenuGroupId(1L);
+        final Menu savedMenu = menuDao.save(menu);
+        catalog.update(snapshot -> snapshot.withMenu(savedMenu));
+        return savedMenu;
+    }
+
+    private Order newOrder(final LocalDateTime orderedTime, final Menu menu, final long quantity) {
+        final OrderLineItem orderLineItem = new OrderLineItem();
+        orderLineItem.setMenuId(menu.getId());
+        orderLineItem.setQuantity(quantity);
+
+        final Order order = new Order();
+        order.setOrderedTime(orderedTime);
+        order.setOrderLineItems(newArrayList(orderLineItem));
+        return order;
+    }
+
+    private static Stream<Arguments> generateInvalidRange() {
+        return Stream.of(
+                Arguments.arguments(null, SALES_HOUR),
+                Arguments.arguments(SALES_HOUR, null),
+                Arguments.arguments(SALES_HOUR.plusHours(1), SALES_HOUR)
+        );
+    }
+}
@@ -8,12 +8,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import kitchenpos.dao.OrderDao;
 import kitchenpos.dao.OrderTableDao;
 import kitchenpos.dao.TableGroupDao;
 import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderStatus;
 import kitchenpos.domain.OrderTable;
 import kitchenpos.domain.TableGroup;
 import kitchenpos.inmemorydao.InMemoryOrderDao;
@@ -32,7 +33,8 @@ class TableGroupServiceTest {
         this.orderDao = new InMemoryOrderDao();
         this.orderTableDao = new InMemoryOrderTableDao();
         this.tableGroupDao = new InMemoryTableGroupDao();
-        this.tableGroupService = new TableGroupService(orderDao, orderTableDao, tableGroupDao);
+        this.tableGroupService = new TableGroupService(new ActiveOrderIndex(orderDao), orderTableDao,
+                tableGroupDao);
     }
 
     @DisplayName("주문 테이블을 단체 지정한다")
@@ -183,8 +185,8 @@ class TableGroupServiceTest {
 
     @DisplayName("단체 지정된 주문 테이블의 주문 상태가 조리 중 또는 식사 중인 경우 예외가 발생한다")
     @ParameterizedTest
-    @ValueSource(strings = {"COOKING", "MEAL"})
-    void ungroup_OrderStatusIsCookingOrMeal_ExceptionThrown(final String orderStatus) {
+    @EnumSource(value = OrderStatus.class, names = {"COOKING", "MEAL"})
+    void ungroup_OrderStatusIsCookingOrMeal_ExceptionThrown(final OrderStatus orderStatus) {
         // Given
         final OrderTable orderTable1 = new OrderTable();
         orderTable1.setEmpty(true);
@@ -9,11 +9,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import kitchenpos.dao.OrderDao;
 import kitchenpos.dao.OrderTableDao;
 import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderStatus;
 import kitchenpos.domain.OrderTable;
 import kitchenpos.inmemorydao.InMemoryOrderDao;
 import kitchenpos.inmemorydao.InMemoryOrderTableDao;
@@ -28,7 +29,7 @@ class TableServiceTest {
     void setUp() {
         this.orderDao = new InMemoryOrderDao();
         this.orderTableDao = new InMemoryOrderTableDao();
-        this.tableService = new TableService(orderDao, orderTableDao);
+        this.tableService = new TableService(new ActiveOrderIndex(orderDao), orderTableDao);
     }
 
     @DisplayName("주문 테이블을 등록한다")
@@ -121,8 +122,8 @@ class TableServiceTest {
 
     @DisplayName("주문 테이블의 주문 상태가 조리 중 또는 식사 중인 경우 예외가 발생한다")
     @ParameterizedTest
-    @ValueSource(strings = {"COOKING", "MEAL"})
-    void changeEmpty_OrderStatusIsCookingOrMeal_ExceptionThrown(final String orderStatus) {
+    @EnumSource(value = OrderStatus.class, names = {"COOKING", "MEAL"})
+    void changeEmpty_OrderStatusIsCookingOrMeal_ExceptionThrown(final OrderStatus orderStatus) {
         // Given
         final OrderTable orderTable = new OrderTable();
         final OrderTable savedOrderTable = orderTableDao.save(orderTable);
@@ -0,0 +1,169 @@
+package kitchenpos.config;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.AsyncEvent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+@DisplayName("AsyncRequestExecutor 테스트")
+class AsyncRequestExecutorTest {
+    private static final long TIMEOUT_MILLIS = 1_000L;
+
+    private ExecutorService executorService;
+
+    @BeforeEach
+    void setUp() {
+        this.executorService = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @DisplayName("요청을 작업 스레드에서 실행하고 그 결과로 응답한다")
+    @Test
+    void execute() throws Exception {
+        // Given
+        final AsyncRequestExecutor asyncRequestExecutor = new AsyncRequestExecutor(executorService, 1,
+                TIMEOUT_MILLIS);
+        final WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(newAsyncWebRequest());
+
+        // When
+        final Optional<DeferredResult<String>> result = asyncRequestExecutor.execute(() -> "created",
+                () -> "not started");
+        asyncManager.startDeferredResultProcessing(result.get());
+        awaitTermination();
+
+        // Then
+        assertAll(
+                () -> assertThat(asyncManager.hasConcurrentResult()).isTrue()
+                ,
+                () -> assertThat(asyncManager.getConcurrentResult()).isEqualTo("created")
+        );
+    }
+
+    @DisplayName("시간 안에 시작하지 못한 요청은 실행하지 않고 시작하지 못한 결과로 응답한다")
+    @Test
+    void execute_TimeoutBeforeStart_NotExecuted() throws Exception {
+        // Given
+        final AsyncRequestExecutor asyncRequestExecutor = new AsyncRequestExecutor(executorService, 2,
+                TIMEOUT_MILLIS);
+        final CountDownLatch blocker = new CountDownLatch(1);
+        executorService.execute(() -> {
+            try {
+                blocker.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        final CountDownLatch executed = new CountDownLatch(1);
+        final StandardServletAsyncWebRequest asyncWebRequest = newAsyncWebRequest();
+        final WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(asyncWebRequest);
+        final Optional<DeferredResult<String>> result = asyncRequestExecutor.execute(() -> {
+            executed.countDown();
+            return "created";
+        }, () -> "not started");
+        asyncManager.startDeferredResultProcessing(result.get());
+
+        // When
+        asyncWebRequest.onTimeout(new AsyncEvent(asyncWebRequest.getRequest().getAsyncContext()));
+        blocker.countDown();
+        awaitTermination();
+
+        // Then
+        assertAll(
+                () -> assertThat(asyncManager.getConcurrentResult()).isEqualTo("not started")
+                ,
+                () -> assertThat(executed.getCount()).isEqualTo(1L)
+        );
+    }
+
+    @DisplayName("시간이 지났을 때 이미 실행 중인 요청은 끝날 때까지 기다려 그 결과로 응답한다")
+    @Test
+    void execute_TimeoutWhileRunning_ResultReturned() throws Exception {
+        // Given
+        final AsyncRequestExecutor asyncRequestExecutor = new AsyncRequestExecutor(executorService, 1,
+                TIMEOUT_MILLIS);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch finish = new CountDownLatch(1);
+        final StandardServletAsyncWebRequest asyncWebRequest = newAsyncWebRequest();
+        final WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(asyncWebRequest);
+        final Optional<DeferredResult<String>> result = asyncRequestExecutor.execute(() -> {
+            started.countDown();
+            finish.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            return "created";
+        }, () -> "not started");
+        asyncManager.startDeferredResultProcessing(result.get());
+        started.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+        // When
+        finish.countDown();
+        asyncWebRequest.onTimeout(new AsyncEvent(asyncWebRequest.getRequest().getAsyncContext()));
+
+        // Then
+        assertThat(asyncManager.getConcurrentResult()).isEqualTo("created");
+    }
+
+    @DisplayName("받을 수 있는 요청 수를 넘으면 실행하지 않고, 앞선 요청이 끝나면 다시 받는다")
+    @Test
+    void execute_Full_NotExecuted() throws Exception {
+        // Given
+        final AsyncRequestExecutor asyncRequestExecutor = new AsyncRequestExecutor(executorService, 1,
+                TIMEOUT_MILLIS);
+        final CountDownLatch latch = new CountDownLatch(1);
+        final StandardServletAsyncWebRequest runningRequest = newAsyncWebRequest();
+        final Optional<DeferredResult<Boolean>> runningResult = asyncRequestExecutor.execute(
+                () -> latch.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS), () -> false);
+        WebAsyncUtils.getAsyncManager(runningRequest).startDeferredResultProcessing(runningResult.get());
+
+        // When
+        final Optional<DeferredResult<String>> resultWhileFull = asyncRequestExecutor.execute(() -> "rejected",
+                () -> "not started");
+        latch.countDown();
+        runningRequest.getRequest()
+                .getAsyncContext()
+                .complete()
+                ;
+        final Optional<DeferredResult<String>> resultAfterCompletion = asyncRequestExecutor.execute(
+                () -> "created", () -> "not started");
+
+        // Then
+        assertAll(
+                () -> assertThat(resultWhileFull).isEmpty()
+                ,
+                () -> assertThat(resultAfterCompletion).isPresent()
+        );
+    }
+
+    private StandardServletAsyncWebRequest newAsyncWebRequest() {
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+        final StandardServletAsyncWebRequest asyncWebRequest =
+                new StandardServletAsyncWebRequest(request, new MockHttpServletResponse());
+        WebAsyncUtils.getAsyncManager(request).setAsyncWebRequest(asyncWebRequest);
+        return asyncWebRequest;
+    }
+
+    private void awaitTermination() throws InterruptedException {
+        executorService.shutdown();
+        executorService.awaitTermination(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+}
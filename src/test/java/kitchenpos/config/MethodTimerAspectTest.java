@@ -0,0 +1,111 @@
+package kitchenpos.config;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kitchenpos.application.Catalog;
+import kitchenpos.application.ProductImportWriter;
+import kitchenpos.application.ProductService;
+import kitchenpos.dao.JdbcTemplateMenuGroupDao;
+import kitchenpos.dao.JdbcTemplateOrderLineItemDao;
+import kitchenpos.dao.ProductDao;
+import kitchenpos.domain.Product;
+import kitchenpos.inmemorydao.InMemoryMenuDao;
+import kitchenpos.inmemorydao.InMemoryMenuGroupDao;
+import kitchenpos.inmemorydao.InMemoryMenuProductDao;
+import kitchenpos.inmemorydao.InMemoryProductDao;
+
+@DisplayName("MethodTimerAspect 테스트")
+class MethodTimerAspectTest {
+    private MeterRegistry meterRegistry;
+    private ProductService productService;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+
+        final ProductDao productDao = new InMemoryProductDao();
+        final Catalog catalog = new Catalog(productDao, new InMemoryMenuGroupDao(), new InMemoryMenuDao(),
+                new InMemoryMenuProductDao());
+        final AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new ProductService(productDao,
+                catalog, new ProductImportWriter(productDao, catalog)));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new MethodTimerAspect(meterRegistry));
+        this.productService = proxyFactory.getProxy();
+    }
+
+    @DisplayName("서비스 메서드의 실행 시간을 entity, operation 태그로 기록한다")
+    @Test
+    void timeService() {
+        // Given
+        final Product product = new Product();
+        product.setName("파닭치킨");
+        product.setPrice(BigDecimal.valueOf(18000L));
+
+        // When
+        productService.create(product);
+        productService.list();
+        productService.list();
+
+        // Then
+        final Timer create = meterRegistry.get(MethodTimerAspect.SERVICE_TIMER_NAME)
+                .tag("entity", "product")
+                .tag("operation", "create")
+                .timer();
+        final Timer list = meterRegistry.get(MethodTimerAspect.SERVICE_TIMER_NAME)
+                .tag("entity", "product")
+                .tag("operation", "list")
+                .timer();
+        assertAll(
+                () -> assertThat(create.count()).isEqualTo(1L)
+                ,
+                () -> assertThat(list.count()).isEqualTo(2L)
+                ,
+                () -> assertThat(list.takeSnapshot().percentileValues()).hasSize(3)
+        );
+    }
+
+    @DisplayName("예외가 발생해도 실행 시간을 기록한다")
+    @Test
+    void timeService_ExceptionThrown() {
+        // Given
+        final Product product = new Product();
+
+        // When
+        assertThatThrownBy(() -> productService.create(product))
+                .isInstanceOf(IllegalArgumentException.class)
+        ;
+
+        // Then
+        assertThat(meterRegistry.get(MethodTimerAspect.SERVICE_TIMER_NAME)
+                .tag("operation", "create")
+                .timer()
+                .count()
+        ).isEqualTo(1L);
+    }
+
+    @DisplayName("DAO 클래스 이름에서 테이블 이름 형태의 entity 태그를 만든다")
+    @Test
+    void toEntity() {
+        assertAll(
+                () -> assertThat(MethodTimerAspect.toEntity(JdbcTemplateMenuGroupDao.class))
+                        .isEqualTo("menu_group")
+                ,
+                () -> assertThat(MethodTimerAspect.toEntity(JdbcTemplateOrderLineItemDao.class))
+                        .isEqualTo("order_line_item")
+                ,
+                () -> assertThat(MethodTimerAspect.toEntity(ProductService.class))
+                        .isEqualTo("product")
+        );
+    }
+}
@@ -0,0 +1,117 @@
+package kitchenpos.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("ReplicationRoutingDataSource 테스트")
+class ReplicationRoutingDataSourceTest {
+    private static final String SELECT_SOURCE = "SELECT name FROM source";
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        this.primary = createDatabase(ReplicationRoutingDataSource.PRIMARY);
+        this.replica = createDatabase(ReplicationRoutingDataSource.REPLICA);
+
+        final Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(ReplicationRoutingDataSource.PRIMARY, primary);
+        targetDataSources.put(ReplicationRoutingDataSource.REPLICA, replica);
+
+        final ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource();
+        routingDataSource.setTargetDataSources(targetDataSources);
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+
+        final DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        final DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    private EmbeddedDatabase createDatabase(final String name) {
+        final EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName(name)
+                .build();
+        final JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE source (name VARCHAR(255) NOT NULL)");
+        jdbcTemplate.update("INSERT INTO source (name) VALUES (?)", name);
+        return database;
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @DisplayName("읽기 전용 트랜잭션은 레플리카에서 읽는다")
+    @Test
+    void readOnlyTransaction() {
+        // When
+        final String source = readOnlyTransaction.execute(
+                status -> jdbcTemplate.queryForObject(SELECT_SOURCE, String.class));
+
+        // Then
+        assertThat(source).isEqualTo(ReplicationRoutingDataSource.REPLICA);
+    }
+
+    @DisplayName("쓰기 트랜잭션은 프라이머리를 사용한다")
+    @Test
+    void writeTransaction() {
+        // When
+        final String source = writeTransaction.execute(
+                status -> jdbcTemplate.queryForObject(SELECT_SOURCE, String.class));
+
+        // Then
+        assertThat(source).isEqualTo(ReplicationRoutingDataSource.PRIMARY);
+    }
+
+    @DisplayName("트랜잭션 밖의 요청은 프라이머리를 사용한다")
+    @Test
+    void noTransaction() {
+        // When
+        final String source = jdbcTemplate.queryForObject(SELECT_SOURCE, String.class);
+
+        // Then
+        assertThat(source).isEqualTo(ReplicationRoutingDataSource.PRIMARY);
+    }
+
+    @DisplayName("쓰기 트랜잭션 안의 읽기 전용 메서드는 자신이 쓴 데이터를 프라이머리에서 읽는다")
+    @Test
+    void readOnlyInsideWriteTransaction() {
+        // When
+        final Integer count = writeTransaction.execute(status -> {
+            jdbcTemplate.update("INSERT INTO source (name) VALUES (?)", "written");
+            return readOnlyTransaction.execute(
+                    innerStatus -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM source", Integer.class));
+        });
+
+        // Then
+        assertThat(count).isEqualTo(2);
+    }
+}
@@ -0,0 +1,73 @@
+package kitchenpos.dao;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.assertj.core.util.Lists.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+
+@DisplayName("BatchInsert 테스트")
+class BatchInsertTest {
+    private static final String SQL = "INSERT INTO product (name) VALUES (?)";
+    private static final String KEY_COLUMN_NAME = "id";
+
+    private JdbcOperations jdbcOperations;
+    private PreparedStatement statement;
+    private ResultSet generatedKeys;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws SQLException {
+        this.jdbcOperations = mock(JdbcOperations.class);
+        this.statement = mock(PreparedStatement.class);
+        this.generatedKeys = mock(ResultSet.class);
+
+        when(statement.getGeneratedKeys()).thenReturn(generatedKeys);
+        when(jdbcOperations.execute(any(PreparedStatementCreator.class), any(PreparedStatementCallback.class)))
+                .thenAnswer(invocation -> invocation.<PreparedStatementCallback<?>>getArgument(1)
+                        .doInPreparedStatement(statement));
+    }
+
+    @DisplayName("생성된 키를 추가한 순서대로 붙인다")
+    @Test
+    void saveAll() throws SQLException {
+        // Given
+        when(generatedKeys.next()).thenReturn(true, true);
+        when(generatedKeys.getLong(1)).thenReturn(1L, 2L);
+
+        // When
+        final List<String> savedEntities = BatchInsert.saveAll(jdbcOperations, SQL, KEY_COLUMN_NAME,
+                newArrayList("후라이드", "양념"), (preparedStatement, entity) -> preparedStatement.setString(1, entity),
+                (key, entity) -> key + ":" + entity);
+
+        // Then
+        assertThat(savedEntities).containsExactly("1:후라이드", "2:양념");
+    }
+
+    @DisplayName("생성된 키가 추가한 행보다 적으면 예외가 발생한다")
+    @Test
+    void saveAll_MissingGeneratedKeys_ExceptionThrown() throws SQLException {
+        // Given
+        when(generatedKeys.next()).thenReturn(true, false);
+        when(generatedKeys.getLong(1)).thenReturn(1L);
+
+        // Then
+        assertThatThrownBy(() -> BatchInsert.saveAll(jdbcOperations, SQL, KEY_COLUMN_NAME,
+                newArrayList("후라이드", "양념"), (preparedStatement, entity) -> preparedStatement.setString(1, entity),
+                (key, entity) -> key + ":" + entity))
+                .isInstanceOf(DataRetrievalFailureException.class)
+        ;
+    }
+}
@@ -0,0 +1,119 @@
+package kitchenpos.dao;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderStatus;
+
+@DisplayName("Flyway 마이그레이션 테스트")
+class FlywayMigrationTest {
+    private EmbeddedDatabase dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        this.dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.shutdown();
+    }
+
+    @DisplayName("V1부터 마이그레이션하면 이전 버전에서 저장한 주문을 변환한다")
+    @Test
+    void migrate() {
+        // Given
+        migrate("3");
+        jdbcTemplate.update("INSERT INTO orders (id, order_table_id, order_status, ordered_time)"
+                + " VALUES (1, 1, 'COMPLETION', '2020-01-01 12:34:56')");
+        jdbcTemplate.update("INSERT INTO orders (id, order_table_id, order_status, ordered_time)"
+                + " VALUES (2, 2, 'COOKING', '2020-01-01 13:00:00')");
+        jdbcTemplate.update("INSERT INTO order_line_item (order_id, menu_id, quantity) VALUES (1, 1, 2)");
+        jdbcTemplate.update("INSERT INTO order_line_item (order_id, menu_id, quantity) VALUES (2, 1, 1)");
+
+        // When
+        migrate(null);
+
+        // Then
+        final List<Integer> orderStatusCodes =
+                jdbcTemplate.queryForList("SELECT order_status FROM orders ORDER BY id", Integer.class);
+        final List<Map<String, Object>> menuSales =
+                jdbcTemplate.queryForList("SELECT sales_hour, menu_id, quantity, revenue FROM menu_sales");
+        assertAll(
+                () -> assertThat(orderStatusCodes).containsExactly(3, 1)
+                ,
+                () -> assertThat(menuSales).hasSize(1)
+                ,
+                () -> assertThat(menuSales.get(0))
+                        .containsEntry("SALES_HOUR", Timestamp.valueOf(LocalDateTime.of(2020, 1, 1, 12, 0)))
+                        .containsEntry("MENU_ID", 1L)
+                        .containsEntry("QUANTITY", 2L)
+                ,
+                () -> assertThat((BigDecimal)menuSales.get(0).get("REVENUE"))
+                        .isEqualByComparingTo(BigDecimal.valueOf(32000L))
+        );
+    }
+
+    @DisplayName("V1부터 마이그레이션하면 주문 id를 기존 주문 다음 값부터 시퀀스에서 받는다")
+    @Test
+    void migrate_OrdersIdSequence() {
+        // Given
+        migrate("7");
+        jdbcTemplate.update("INSERT INTO orders (id, order_table_id, order_status, ordered_time)"
+                + " VALUES (1, 1, 3, '2020-01-01 12:00:00')");
+        jdbcTemplate.update("INSERT INTO orders_archive (id, order_table_id, order_status, ordered_time, archived_time)"
+                + " VALUES (5, 1, 3, '2020-01-01 12:00:00', '2020-02-01 00:00:00')");
+
+        // When
+        migrate(null);
+
+        // Then
+        final JdbcTemplateOrderDao orderDao = new JdbcTemplateOrderDao(dataSource);
+        final Order order = new Order();
+        order.setOrderTableId(1L);
+        order.setOrderStatus(OrderStatus.COOKING);
+        order.setOrderedTime(LocalDateTime.now());
+        final Order savedOrder = orderDao.save(order);
+
+        assertAll(
+                () -> assertThat(savedOrder.getId()).isEqualTo(6L)
+                ,
+                () -> assertThat(orderDao.nextId()).isEqualTo(7L)
+        );
+    }
+
+    private void migrate(final String target) {
+        final FluentConfiguration configuration = Flyway.configure()
+                .dataSource(dataSource);
+        if (Objects.nonNull(target)) {
+            configuration.target(target);
+        }
+        configuration.load()
+                .migrate()
+        ;
+    }
+}
@@ -56,6 +56,37 @@ class JdbcTemplateMenuDaoTest {
         );
     }
 
+    @DisplayName("MenuDao saveAll 테스트")
+    @Test
+    void saveAll() {
+        // Given
+        final Menu menu1 = new Menu();
+        menu1.setName("후라이드치킨");
+        menu1.setPrice(BigDecimal.valueOf(16000L));
+        menu1.setMenuGroupId(2L);
+        final Menu menu2 = new Menu();
+        menu2.setName("양념치킨");
+        menu2.setPrice(BigDecimal.valueOf(17000L));
+        menu2.setMenuGroupId(2L);
+
+        // When
+        final List<Menu> savedMenus = jdbcTemplateMenuDao.saveAll(newArrayList(menu1, menu2));
+
+        // Then
+        assertAll(
+                () -> assertThat(savedMenus)
+                        .extracting(Menu::getId)
+                        .doesNotContainNull()
+                        .doesNotHaveDuplicates()
+                ,
+                () -> assertThat(savedMenus)
+                        .extracting(Menu::getName)
+                        .containsExactly("후라이드치킨", "양념치킨")
+                ,
+                () -> assertThat(jdbcTemplateMenuDao.findAll()).hasSize(8)
+        );
+    }
+
     @DisplayName("MenuDao findById 테스트")
     @Test
     void findById() {
@@ -100,6 +131,19 @@ class JdbcTemplateMenuDaoTest {
         assertThat(menus).hasSize(6);
     }
 
+    @DisplayName("MenuDao findAllByIdIn 테스트")
+    @Test
+    void findAllByIdIn() {
+        // When
+        final List<Menu> menus = jdbcTemplateMenuDao.findAllByIdIn(newArrayList(1L, 2L, 100L));
+
+        // Then
+        assertThat(menus)
+                .extracting(Menu::getId)
+                .containsExactlyInAnyOrder(1L, 2L)
+        ;
+    }
+
     @DisplayName("MenuDao countByIdIn 테스트")
     @Test
     void countByIdIn() {
@@ -3,8 +3,12 @@ package kitchenpos.dao;
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -55,6 +59,38 @@ class JdbcTemplateMenuProductDaoTest {
         );
     }
 
+    @DisplayName("MenuProductDao saveAll 테스트")
+    @Test
+    void saveAll() {
+        // Given
+        final MenuProduct menuProduct1 = new MenuProduct();
+        menuProduct1.setMenuId(1L);
+        menuProduct1.setProductId(2L);
+        menuProduct1.setQuantity(1L);
+        final MenuProduct menuProduct2 = new MenuProduct();
+        menuProduct2.setMenuId(1L);
+        menuProduct2.setProductId(3L);
+        menuProduct2.setQuantity(2L);
+
+        // When
+        final List<MenuProduct> savedMenuProducts = jdbcTemplateMenuProductDao.saveAll(
+                Arrays.asList(menuProduct1, menuProduct2));
+
+        // Then
+        assertAll(
+                () -> assertThat(savedMenuProducts)
+                        .extracting(MenuProduct::getSeq)
+                        .doesNotContainNull()
+                        .doesNotHaveDuplicates()
+                ,
+                () -> assertThat(savedMenuProducts)
+                        .extracting(MenuProduct::getProductId, MenuProduct::getQuantity)
+                        .containsExactly(tuple(2L, 1L), tuple(3L, 2L))
+                ,
+                () -> assertThat(jdbcTemplateMenuProductDao.findAllByMenuId(1L)).hasSize(3)
+        );
+    }
+
     @DisplayName("MenuProductDao findById 테스트")
     @Test
     void findById() {
@@ -108,4 +144,44 @@ class JdbcTemplateMenuProductDaoTest {
         // Then
         assertThat(allByMenuId).hasSize(1);
     }
+
+    @DisplayName("MenuProductDao findAllByMenuIdIn 테스트")
+    @Test
+    void findAllByMenuIdIn() {
+        // When
+        final List<MenuProduct> allByMenuIdIn = jdbcTemplateMenuProductDao.findAllByMenuIdIn(
+                Arrays.asList(1L, 2L, 3L));
+
+        // Then
+        assertThat(allByMenuIdIn)
+                .extracting(MenuProduct::getMenuId)
+                .containsExactlyInAnyOrder(1L, 2L, 3L)
+        ;
+    }
+
+    @DisplayName("MenuProductDao findAllByMenuIdIn 메뉴 id 목록이 IN 절의 최대 크기보다 클 경우")
+    @Test
+    void findAllByMenuIdIn_ChunkedMenuIds() {
+        // Given
+        final List<Long> menuIds = LongStream.rangeClosed(1L, 2500L)
+                .boxed()
+                .collect(Collectors.toList());
+
+        // When
+        final List<MenuProduct> allByMenuIdIn = jdbcTemplateMenuProductDao.findAllByMenuIdIn(menuIds);
+
+        // Then
+        assertThat(allByMenuIdIn).hasSize(6);
+    }
+
+    @DisplayName("MenuProductDao findAllByMenuIdIn 메뉴 id 목록이 비어있을 경우")
+    @Test
+    void findAllByMenuIdIn_EmptyMenuIds() {
+        // When
+        final List<MenuProduct> allByMenuIdIn = jdbcTemplateMenuProductDao.findAllByMenuIdIn(
+                Collections.emptyList());
+
+        // Then
+        assertThat(allByMenuIdIn).isEmpty();
+    }
 }
@@ -0,0 +1,94 @@
+package kitchenpos.dao;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.assertj.core.util.Lists.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+
+import kitchenpos.domain.MenuGroupSales;
+import kitchenpos.domain.MenuSales;
+
+@DisplayName("JdbcTemplateMenuSalesDao 테스트")
+@JdbcTest
+@Sql("/dao-test.sql")
+@Import(JdbcTemplateMenuSalesDao.class)
+class JdbcTemplateMenuSalesDaoTest {
+    private static final LocalDateTime SALES_HOUR = LocalDateTime.of(2020, 11, 18, 12, 0);
+
+    @Autowired
+    private JdbcTemplateMenuSalesDao jdbcTemplateMenuSalesDao;
+
+    @DisplayName("MenuSalesDao addAll 테스트")
+    @Test
+    void addAll() {
+        // When
+        jdbcTemplateMenuSalesDao.addAll(newArrayList(newMenuSales(1L, 1L), newMenuSales(2L, 1L)));
+        jdbcTemplateMenuSalesDao.addAll(newArrayList(newMenuSales(1L, 2L)));
+
+        // Then
+        final List<MenuSales> menuSales = jdbcTemplateMenuSalesDao.findAllBySalesHourBetween(SALES_HOUR,
+                SALES_HOUR.plusHours(1));
+        assertAll(
+                () -> assertThat(menuSales)
+                        .extracting(MenuSales::getMenuId, MenuSales::getQuantity)
+                        .containsExactly(tuple(1L, 3L), tuple(2L, 1L))
+                ,
+                () -> assertThat(menuSales.get(0).getRevenue()).isEqualByComparingTo("48000")
+        );
+    }
+
+    @DisplayName("MenuSalesDao findAllBySalesHourBetween 테스트")
+    @Test
+    void findAllBySalesHourBetween() {
+        // Given
+        jdbcTemplateMenuSalesDao.addAll(newArrayList(newMenuSales(1L, 1L)));
+
+        // When
+        final List<MenuSales> menuSales = jdbcTemplateMenuSalesDao.findAllBySalesHourBetween(
+                SALES_HOUR.plusHours(1), SALES_HOUR.plusHours(2));
+
+        // Then
+        assertThat(menuSales).isEmpty();
+    }
+
+    @DisplayName("MenuSalesDao findAllMenuGroupSalesBySalesHourBetween 테스트")
+    @Test
+    void findAllMenuGroupSalesBySalesHourBetween() {
+        // Given
+        jdbcTemplateMenuSalesDao.addAll(newArrayList(newMenuSales(1L, 1L), newMenuSales(2L, 2L)));
+
+        // When
+        final List<MenuGroupSales> menuGroupSales =
+                jdbcTemplateMenuSalesDao.findAllMenuGroupSalesBySalesHourBetween(SALES_HOUR,
+                        SALES_HOUR.plusHours(1));
+
+        // Then
+        assertAll(
+                () -> assertThat(menuGroupSales)
+                        .extracting(MenuGroupSales::getMenuGroupId, MenuGroupSales::getQuantity)
+                        .containsExactly(tuple(2L, 3L))
+                ,
+                () -> assertThat(menuGroupSales.get(0).getRevenue()).isEqualByComparingTo("48000")
+        );
+    }
+
+    private MenuSales newMenuSales(final Long menuId, final long quantity) {
+        final MenuSales menuSales = new MenuSales();
+        menuSales.setSalesHour(SALES_HOUR);
+        menuSales.setMenuId(menuId);
+        menuSales.setMenuGroupId(2L);
+        menuSales.setQuantity(quantity);
+        menuSales.setRevenue(BigDecimal.valueOf(16000L * quantity));
+        return menuSales;
+    }
+}
@@ -0,0 +1,84 @@
+package kitchenpos.dao;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.assertj.core.util.Lists.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+
+@DisplayName("JdbcTemplateOrderArchiveDao 테스트")
+@JdbcTest
+@Sql("/dao-test.sql")
+@Import(JdbcTemplateOrderArchiveDao.class)
+class JdbcTemplateOrderArchiveDaoTest {
+    @Autowired
+    private JdbcTemplateOrderArchiveDao jdbcTemplateOrderArchiveDao;
+
+    @DisplayName("OrderArchiveDao saveAll 테스트")
+    @Test
+    void saveAll() {
+        // Given
+        final Order order1 = newOrder(10L, 100L);
+        final Order order2 = newOrder(11L, 101L);
+
+        // When
+        jdbcTemplateOrderArchiveDao.saveAll(newArrayList(order1, order2), LocalDateTime.now());
+
+        // Then
+        final List<Order> orders = jdbcTemplateOrderArchiveDao.findAllByIdGreaterThan(0L, 10);
+        assertAll(
+                () -> assertThat(orders)
+                        .extracting(Order::getId, Order::getOrderStatus)
+                        .containsExactly(tuple(10L, OrderStatus.COMPLETION), tuple(11L, OrderStatus.COMPLETION))
+                ,
+                () -> assertThat(jdbcTemplateOrderArchiveDao.findAllOrderLineItemsByOrderIdIn(newArrayList(10L)))
+                        .extracting(OrderLineItem::getSeq)
+                        .containsExactly(100L)
+        );
+    }
+
+    @DisplayName("OrderArchiveDao findAllByIdGreaterThan 테스트")
+    @Test
+    void findAllByIdGreaterThan() {
+        // Given
+        jdbcTemplateOrderArchiveDao.saveAll(newArrayList(newOrder(10L, 100L), newOrder(11L, 101L),
+                newOrder(12L, 102L)), LocalDateTime.now());
+
+        // When
+        final List<Order> orders = jdbcTemplateOrderArchiveDao.findAllByIdGreaterThan(10L, 1);
+
+        // Then
+        assertThat(orders)
+                .extracting(Order::getId)
+                .containsExactly(11L)
+        ;
+    }
+
+    private Order newOrder(final Long orderId, final Long seq) {
+        final OrderLineItem orderLineItem = new OrderLineItem();
+        orderLineItem.setSeq(seq);
+        orderLineItem.setOrderId(orderId);
+        orderLineItem.setMenuId(1L);
+        orderLineItem.setQuantity(1L);
+
+        final Order order = new Order();
+        order.setId(orderId);
+        order.setOrderTableId(1L);
+        order.setOrderStatus(OrderStatus.COMPLETION);
+        order.setOrderedTime(LocalDateTime.of(2020, 11, 1, 12, 0));
+        order.setOrderLineItems(newArrayList(orderLineItem));
+        return order;
+    }
+}
@@ -5,6 +5,7 @@ import static org.assertj.core.util.Lists.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -20,6 +21,8 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.jdbc.Sql;
 
 import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderSearchCondition;
 import kitchenpos.domain.OrderStatus;
 
 @DisplayName("JdbcTemplateOrderDao 테스트")
@@ -36,7 +39,7 @@ class JdbcTemplateOrderDaoTest {
         // Given
         final Order order = new Order();
         order.setOrderTableId(2L);
-        order.setOrderStatus(OrderStatus.COOKING.name());
+        order.setOrderStatus(OrderStatus.COOKING);
         order.setOrderedTime(LocalDateTime.now());
 
         // When
@@ -62,6 +65,32 @@ class JdbcTemplateOrderDaoTest {
         );
     }
 
+    @DisplayName("OrderDao insertAll 테스트")
+    @Test
+    void insertAll() {
+        // Given
+        final Order order1 = new Order();
+        order1.setId(100L);
+        order1.setOrderTableId(2L);
+        order1.setOrderStatus(OrderStatus.COOKING);
+        order1.setOrderedTime(LocalDateTime.now());
+
+        final Order order2 = new Order();
+        order2.setId(101L);
+        order2.setOrderTableId(3L);
+        order2.setOrderStatus(OrderStatus.COOKING);
+        order2.setOrderedTime(LocalDateTime.now());
+
+        // When
+        jdbcTemplateOrderDao.insertAll(newArrayList(order1, order2));
+
+        // Then
+        assertThat(jdbcTemplateOrderDao.findAllByIdIn(newArrayList(100L, 101L)))
+                .extracting(Order::getOrderTableId)
+                .containsExactlyInAnyOrder(2L, 3L)
+        ;
+    }
+
     @DisplayName("OrderDao findById 테스트")
     @Test
     void findById() {
@@ -77,7 +106,7 @@ class JdbcTemplateOrderDaoTest {
                 ,
                 () -> assertThat(order)
                         .extracting(Order::getOrderStatus)
-                        .isEqualTo(OrderStatus.MEAL.name())
+                        .isEqualTo(OrderStatus.MEAL)
                 ,
                 () -> assertThat(order)
                         .extracting(Order::getOrderedTime)
@@ -95,6 +124,23 @@ class JdbcTemplateOrderDaoTest {
         assertThat(order.isPresent()).isFalse();
     }
 
+    @DisplayName("OrderDao findByIdForUpdate 테스트")
+    @Test
+    void findByIdForUpdate() {
+        // When
+        final Optional<Order> order = jdbcTemplateOrderDao.findByIdForUpdate(1L);
+        final Optional<Order> notExistingOrder = jdbcTemplateOrderDao.findByIdForUpdate(2L);
+
+        // Then
+        assertAll(
+                () -> assertThat(order)
+                        .map(Order::getOrderStatus)
+                        .hasValue(OrderStatus.MEAL)
+                ,
+                () -> assertThat(notExistingOrder).isEmpty()
+        );
+    }
+
     @DisplayName("OrderDao findAll 테스트")
     @Test
     void findAll() {
@@ -105,12 +151,183 @@ class JdbcTemplateOrderDaoTest {
         assertThat(orders).hasSize(1);
     }
 
+    @DisplayName("OrderDao nextId 테스트")
+    @Test
+    void nextId() {
+        // Given
+        final Order order = new Order();
+        order.setOrderTableId(1L);
+        order.setOrderStatus(OrderStatus.COOKING);
+        order.setOrderedTime(LocalDateTime.now());
+
+        // When
+        final long firstId = jdbcTemplateOrderDao.nextId();
+        final Order savedOrder = jdbcTemplateOrderDao.save(order);
+        final long secondId = jdbcTemplateOrderDao.nextId();
+
+        // Then
+        assertAll(
+                () -> assertThat(firstId).isGreaterThan(1L)
+                ,
+                () -> assertThat(savedOrder.getId()).isEqualTo(firstId + 1)
+                ,
+                () -> assertThat(secondId).isEqualTo(firstId + 2)
+        );
+    }
+
+    @DisplayName("OrderDao findAllByIdIn 테스트")
+    @Test
+    void findAllByIdIn() {
+        // When
+        final List<Order> orders = jdbcTemplateOrderDao.findAllByIdIn(newArrayList(1L, 2L));
+
+        // Then
+        assertThat(orders)
+                .extracting(Order::getId)
+                .containsExactly(1L)
+        ;
+    }
+
+    @DisplayName("OrderDao findAllByIdGreaterThan 테스트")
+    @Test
+    void findAllByIdGreaterThan() {
+        // Given
+        final Order order = new Order();
+        order.setOrderTableId(2L);
+        order.setOrderStatus(OrderStatus.COOKING);
+        order.setOrderedTime(LocalDateTime.now());
+        final Order savedOrder1 = jdbcTemplateOrderDao.save(order);
+        final Order savedOrder2 = jdbcTemplateOrderDao.save(order);
+
+        // When
+        final List<Order> firstPage = jdbcTemplateOrderDao.findAllByIdGreaterThan(0L, 2);
+        final List<Order> secondPage = jdbcTemplateOrderDao.findAllByIdGreaterThan(
+                firstPage.get(1).getId(), 2);
+
+        // Then
+        assertAll(
+                () -> assertThat(firstPage)
+                        .extracting(Order::getId)
+                        .containsExactly(1L, savedOrder1.getId())
+                ,
+                () -> assertThat(secondPage)
+                        .extracting(Order::getId)
+                        .containsExactly(savedOrder2.getId())
+        );
+    }
+
+    @DisplayName("OrderDao findAllByConditionAndIdGreaterThan 테스트")
+    @Test
+    void findAllByConditionAndIdGreaterThan() {
+        // Given
+        final Order cookingOrder = new Order();
+        cookingOrder.setOrderTableId(2L);
+        cookingOrder.setOrderStatus(OrderStatus.COOKING);
+        cookingOrder.setOrderedTime(LocalDateTime.of(2020, 11, 18, 13, 0));
+        final Order savedCookingOrder = jdbcTemplateOrderDao.save(cookingOrder);
+
+        final Order laterOrder = new Order();
+        laterOrder.setOrderTableId(1L);
+        laterOrder.setOrderStatus(OrderStatus.COOKING);
+        laterOrder.setOrderedTime(LocalDateTime.of(2020, 11, 18, 13, 0));
+        final Order savedLaterOrder = jdbcTemplateOrderDao.save(laterOrder);
+
+        final OrderSearchCondition statusCondition = new OrderSearchCondition();
+        statusCondition.setOrderStatuses(newArrayList(OrderStatus.MEAL));
+
+        final OrderSearchCondition tableAndTimeCondition = new OrderSearchCondition();
+        tableAndTimeCondition.setOrderTableId(1L);
+        tableAndTimeCondition.setOrderedTimeFrom(LocalDateTime.of(2020, 11, 18, 12, 30));
+        tableAndTimeCondition.setOrderedTimeTo(LocalDateTime.of(2020, 11, 19, 0, 0));
+
+        // When
+        final List<Order> mealOrders = jdbcTemplateOrderDao.findAllByConditionAndIdGreaterThan(
+                statusCondition, 0L, 10);
+        final List<Order> tableOrders = jdbcTemplateOrderDao.findAllByConditionAndIdGreaterThan(
+                tableAndTimeCondition, 0L, 10);
+        final List<Order> allOrders = jdbcTemplateOrderDao.findAllByConditionAndIdGreaterThan(
+                new OrderSearchCondition(), 0L, 10);
+
+        // Then
+        assertAll(
+                () -> assertThat(mealOrders)
+                        .extracting(Order::getId)
+                        .containsExactly(1L)
+                ,
+                () -> assertThat(tableOrders)
+                        .extracting(Order::getId)
+                        .containsExactly(savedLaterOrder.getId())
+                ,
+                () -> assertThat(allOrders)
+                        .extracting(Order::getId)
+                        .containsExactly(1L, savedCookingOrder.getId(), savedLaterOrder.getId())
+        );
+    }
+
+    @DisplayName("OrderDao forEachWithOrderLineItems 테스트")
+    @Test
+    void forEachWithOrderLineItems() {
+        // Given
+        final Order order = new Order();
+        order.setOrderTableId(2L);
+        order.setOrderStatus(OrderStatus.COOKING);
+        order.setOrderedTime(LocalDateTime.now());
+        final Order savedOrder = jdbcTemplateOrderDao.save(order);
+
+        // When
+        final List<Order> orders = new ArrayList<>();
+        jdbcTemplateOrderDao.forEachWithOrderLineItems(orders::add);
+
+        // Then
+        assertAll(
+                () -> assertThat(orders)
+                        .extracting(Order::getId)
+                        .containsExactly(1L, savedOrder.getId())
+                ,
+                () -> assertThat(orders.get(0).getOrderLineItems())
+                        .extracting(OrderLineItem::getSeq)
+                        .containsExactly(1L, 2L)
+                ,
+                () -> assertThat(orders.get(1).getOrderLineItems()).isEmpty()
+        );
+    }
+
+    @DisplayName("OrderDao findIdsByOrderStatusAndOrderedTimeBeforeAndIdGreaterThan 테스트")
+    @Test
+    void findIdsByOrderStatusAndOrderedTimeBeforeAndIdGreaterThan() {
+        // Given
+        final Order firstOldOrder = new Order();
+        firstOldOrder.setOrderTableId(2L);
+        firstOldOrder.setOrderStatus(OrderStatus.COMPLETION);
+        firstOldOrder.setOrderedTime(LocalDateTime.of(2020, 11, 1, 12, 0));
+        final Order savedFirstOldOrder = jdbcTemplateOrderDao.save(firstOldOrder);
+
+        final Order oldOrder = new Order();
+        oldOrder.setOrderTableId(2L);
+        oldOrder.setOrderStatus(OrderStatus.COMPLETION);
+        oldOrder.setOrderedTime(LocalDateTime.of(2020, 11, 1, 12, 0));
+        final Order savedOldOrder = jdbcTemplateOrderDao.save(oldOrder);
+
+        final Order recentOrder = new Order();
+        recentOrder.setOrderTableId(2L);
+        recentOrder.setOrderStatus(OrderStatus.COMPLETION);
+        recentOrder.setOrderedTime(LocalDateTime.of(2020, 11, 20, 12, 0));
+        jdbcTemplateOrderDao.save(recentOrder);
+
+        // When
+        final List<Long> orderIds = jdbcTemplateOrderDao.findIdsByOrderStatusAndOrderedTimeBeforeAndIdGreaterThan(
+                OrderStatus.COMPLETION, LocalDateTime.of(2020, 11, 19, 0, 0), savedFirstOldOrder.getId(), 10);
+
+        // Then
+        assertThat(orderIds).containsExactly(savedOldOrder.getId());
+    }
+
     @DisplayName("OrderDao existsByOrderTableIdAndOrderStatusIn 테스트")
     @ParameterizedTest
     @MethodSource("generateOrderTableIdAndOrderStatuses")
     void existsByOrderTableIdAndOrderStatusIn(
             final long orderTableId,
-            final List<String> orderStatuses,
+            final List<OrderStatus> orderStatuses,
             final boolean expected
     ) {
         // When
@@ -126,7 +343,7 @@ class JdbcTemplateOrderDaoTest {
     @MethodSource("generateOrderTableIdsAndOrderStatuses")
     void existsByOrderTableIdInAndOrderStatusIn(
             final List<Long> orderTableIds,
-            final List<String> orderStatuses,
+            final List<OrderStatus> orderStatuses,
             final boolean expected
     ) {
         // When
@@ -137,13 +354,91 @@ class JdbcTemplateOrderDaoTest {
         assertThat(exists).isEqualTo(expected);
     }
 
+    @DisplayName("OrderDao updateOrderStatusByIdIn 테스트")
+    @Test
+    void updateOrderStatusByIdIn() {
+        // Given
+        final Order order = new Order();
+        order.setOrderTableId(2L);
+        order.setOrderStatus(OrderStatus.COOKING);
+        order.setOrderedTime(LocalDateTime.now());
+        final Order savedOrder = jdbcTemplateOrderDao.save(order);
+
+        // When
+        jdbcTemplateOrderDao.updateOrderStatusByIdIn(newArrayList(1L, savedOrder.getId()),
+                OrderStatus.COMPLETION);
+
+        // Then
+        assertThat(jdbcTemplateOrderDao.findAll())
+                .extracting(Order::getOrderStatus)
+                .containsOnly(OrderStatus.COMPLETION)
+        ;
+    }
+
+    @DisplayName("OrderDao updateOrderStatusByIdIn은 계산 완료된 주문을 바꾸지 않는다")
+    @Test
+    void updateOrderStatusByIdIn_Completion_NotUpdated() {
+        // Given
+        final Order order = new Order();
+        order.setOrderTableId(2L);
+        order.setOrderStatus(OrderStatus.COMPLETION);
+        order.setOrderedTime(LocalDateTime.now());
+        final Order savedOrder = jdbcTemplateOrderDao.save(order);
+
+        // When
+        final int updatedCount = jdbcTemplateOrderDao.updateOrderStatusByIdIn(newArrayList(1L, savedOrder.getId()),
+                OrderStatus.COOKING);
+
+        // Then
+        assertAll(
+                () -> assertThat(updatedCount).isEqualTo(1)
+                ,
+                () -> assertThat(jdbcTemplateOrderDao.findById(savedOrder.getId()))
+                        .map(Order::getOrderStatus)
+                        .hasValue(OrderStatus.COMPLETION)
+        );
+    }
+
+    @DisplayName("OrderDao findAllByIdInForUpdate 테스트")
+    @Test
+    void findAllByIdInForUpdate() {
+        // When
+        final List<Order> orders = jdbcTemplateOrderDao.findAllByIdInForUpdate(newArrayList(1L, 100L));
+
+        // Then
+        assertThat(orders)
+                .extracting(Order::getId)
+                .containsExactly(1L)
+        ;
+    }
+
+    @DisplayName("OrderDao deleteAllByIdIn 테스트")
+    @Test
+    void deleteAllByIdIn() {
+        // Given
+        final Order order = new Order();
+        order.setOrderTableId(2L);
+        order.setOrderStatus(OrderStatus.COMPLETION);
+        order.setOrderedTime(LocalDateTime.now());
+        final Order savedOrder = jdbcTemplateOrderDao.save(order);
+
+        // When
+        jdbcTemplateOrderDao.deleteAllByIdIn(newArrayList(savedOrder.getId()));
+
+        // Then
+        assertThat(jdbcTemplateOrderDao.findAll())
+                .extracting(Order::getId)
+                .containsExactly(1L)
+        ;
+    }
+
     private static Stream<Arguments> generateOrderTableIdAndOrderStatuses() {
         return Stream.of(
                 Arguments.arguments(1L,
-                        newArrayList(OrderStatus.MEAL.name(), OrderStatus.COMPLETION.name()), true)
+                        newArrayList(OrderStatus.MEAL, OrderStatus.COMPLETION), true)
                 ,
                 Arguments.arguments(1L,
-                        newArrayList(OrderStatus.COOKING.name(), OrderStatus.COMPLETION.name()),
+                        newArrayList(OrderStatus.COOKING, OrderStatus.COMPLETION),
                         false)
         );
     }
@@ -151,10 +446,10 @@ class JdbcTemplateOrderDaoTest {
     private static Stream<Arguments> generateOrderTableIdsAndOrderStatuses() {
         return Stream.of(
                 Arguments.arguments(newArrayList(1L, 2L, 3L),
-                        newArrayList(OrderStatus.MEAL.name(), OrderStatus.COMPLETION.name()), true)
+                        newArrayList(OrderStatus.MEAL, OrderStatus.COMPLETION), true)
                 ,
                 Arguments.arguments(newArrayList(1L, 2L, 3L),
-                        newArrayList(OrderStatus.COOKING.name(), OrderStatus.COMPLETION.name()),
+                        newArrayList(OrderStatus.COOKING, OrderStatus.COMPLETION),
                         false)
         );
     }
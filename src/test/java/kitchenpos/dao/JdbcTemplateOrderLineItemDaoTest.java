@@ -3,8 +3,12 @@ package kitchenpos.dao;
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -55,6 +59,38 @@ class JdbcTemplateOrderLineItemDaoTest {
         );
     }
 
+    @DisplayName("OrderLineItemDao saveAll 테스트")
+    @Test
+    void saveAll() {
+        // Given
+        final OrderLineItem orderLineItem1 = new OrderLineItem();
+        orderLineItem1.setOrderId(1L);
+        orderLineItem1.setMenuId(3L);
+        orderLineItem1.setQuantity(1);
+        final OrderLineItem orderLineItem2 = new OrderLineItem();
+        orderLineItem2.setOrderId(1L);
+        orderLineItem2.setMenuId(4L);
+        orderLineItem2.setQuantity(2);
+
+        // When
+        final List<OrderLineItem> savedOrderLineItems = jdbcTemplateOrderLineItemDao.saveAll(
+                Arrays.asList(orderLineItem1, orderLineItem2));
+
+        // Then
+        assertAll(
+                () -> assertThat(savedOrderLineItems)
+                        .extracting(OrderLineItem::getSeq)
+                        .doesNotContainNull()
+                        .doesNotHaveDuplicates()
+                ,
+                () -> assertThat(savedOrderLineItems)
+                        .extracting(OrderLineItem::getMenuId, OrderLineItem::getQuantity)
+                        .containsExactly(tuple(3L, 1L), tuple(4L, 2L))
+                ,
+                () -> assertThat(jdbcTemplateOrderLineItemDao.findAllByOrderId(1L)).hasSize(4)
+        );
+    }
+
     @DisplayName("OrderLineItemDao findById 테스트")
     @Test
     void findById() {
@@ -107,4 +143,60 @@ class JdbcTemplateOrderLineItemDaoTest {
         // Then
         assertThat(allByOrderId).hasSize(2);
     }
+
+    @DisplayName("OrderLineItemDao findAllByOrderIdIn 테스트")
+    @Test
+    void findAllByOrderIdIn() {
+        // When
+        final List<OrderLineItem> allByOrderIdIn = jdbcTemplateOrderLineItemDao.findAllByOrderIdIn(
+                Arrays.asList(1L, 2L));
+
+        // Then
+        assertThat(allByOrderIdIn)
+                .hasSize(2)
+                .extracting(OrderLineItem::getOrderId)
+                .containsOnly(1L)
+        ;
+    }
+
+    @DisplayName("OrderLineItemDao findAllByOrderIdIn 주문 id가 한 번에 조회하는 수보다 많을 경우")
+    @Test
+    void findAllByOrderIdIn_ManyOrderIds() {
+        // Given
+        final List<Long> orderIds = LongStream.iterate(2500L, id -> id - 1L)
+                .limit(2500L)
+                .boxed()
+                .collect(Collectors.toList());
+
+        // When
+        final List<OrderLineItem> allByOrderIdIn = jdbcTemplateOrderLineItemDao.findAllByOrderIdIn(orderIds);
+
+        // Then
+        assertThat(allByOrderIdIn)
+                .hasSize(2)
+                .extracting(OrderLineItem::getOrderId)
+                .containsOnly(1L)
+        ;
+    }
+
+    @DisplayName("OrderLineItemDao findAllByOrderIdIn 주문 id 목록이 비어있을 경우")
+    @Test
+    void findAllByOrderIdIn_EmptyOrderIds() {
+        // When
+        final List<OrderLineItem> allByOrderIdIn = jdbcTemplateOrderLineItemDao.findAllByOrderIdIn(
+                Collections.emptyList());
+
+        // Then
+        assertThat(allByOrderIdIn).isEmpty();
+    }
+
+    @DisplayName("OrderLineItemDao deleteAllByOrderIdIn 테스트")
+    @Test
+    void deleteAllByOrderIdIn() {
+        // When
+        jdbcTemplateOrderLineItemDao.deleteAllByOrderIdIn(Arrays.asList(1L));
+
+        // Then
+        assertThat(jdbcTemplateOrderLineItemDao.findAllByOrderId(1L)).isEmpty();
+    }
 }
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -52,6 +53,36 @@ class JdbcTemplateProductDaoTest {
         );
     }
 
+    @DisplayName("ProductDao saveAll 테스트")
+    @Test
+    void saveAll() {
+        // Given
+        final Product product1 = new Product();
+        product1.setName("파닭치킨");
+        product1.setPrice(BigDecimal.valueOf(18000L));
+
+        final Product product2 = new Product();
+        product2.setName("마늘치킨");
+        product2.setPrice(BigDecimal.valueOf(17000L));
+
+        // When
+        final List<Product> savedProducts = jdbcTemplateProductDao.saveAll(Arrays.asList(product1, product2));
+
+        // Then
+        assertAll(
+                () -> assertThat(savedProducts)
+                        .extracting(Product::getId)
+                        .doesNotContainNull()
+                        .doesNotHaveDuplicates()
+                ,
+                () -> assertThat(savedProducts)
+                        .extracting(Product::getName)
+                        .containsExactly(product1.getName(), product2.getName())
+                ,
+                () -> assertThat(jdbcTemplateProductDao.findAll()).hasSize(8)
+        );
+    }
+
     @DisplayName("ProductDao findById 테스트")
     @Test
     void findById() {
@@ -91,4 +122,18 @@ class JdbcTemplateProductDaoTest {
         // Then
         assertThat(products).hasSize(6);
     }
+
+    @DisplayName("ProductDao findAllByIdIn 테스트")
+    @Test
+    void findAllByIdIn() {
+        // When
+        final List<Product> products = jdbcTemplateProductDao.findAllByIdIn(
+                Arrays.asList(1L, 2L, 100L));
+
+        // Then
+        assertThat(products)
+                .extracting(Product::getId)
+                .containsExactlyInAnyOrder(1L, 2L)
+        ;
+    }
 }
@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import kitchenpos.dao.MenuDao;
 import kitchenpos.domain.Menu;
@@ -38,6 +39,14 @@ public class InMemoryMenuDao implements MenuDao {
         return menu;
     }
 
+    @Override
+    public List<Menu> saveAll(final List<Menu> entities) {
+        return entities.stream()
+                .map(this::save)
+                .collect(Collectors.toList())
+                ;
+    }
+
     @Override
     public Optional<Menu> findById(final Long id) {
         return Optional.ofNullable(menus.get(id));
@@ -48,6 +57,15 @@ public class InMemoryMenuDao implements MenuDao {
         return new ArrayList<>(menus.values());
     }
 
+    @Override
+    public List<Menu> findAllByIdIn(final List<Long> ids) {
+        return ids.stream()
+                .map(menus::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList())
+                ;
+    }
+
     @Override
     public long countByIdIn(final List<Long> ids) {
         return ids.stream()
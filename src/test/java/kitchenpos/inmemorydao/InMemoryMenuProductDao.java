@@ -37,6 +37,14 @@ public class InMemoryMenuProductDao implements MenuProductDao {
         return menuProduct;
     }
 
+    @Override
+    public List<MenuProduct> saveAll(final List<MenuProduct> entities) {
+        return entities.stream()
+                .map(this::save)
+                .collect(Collectors.toList())
+                ;
+    }
+
     @Override
     public Optional<MenuProduct> findById(final Long id) {
         return Optional.ofNullable(menuProducts.get(id));
@@ -55,4 +63,13 @@ public class InMemoryMenuProductDao implements MenuProductDao {
                 .collect(Collectors.toList())
                 ;
     }
+
+    @Override
+    public List<MenuProduct> findAllByMenuIdIn(final List<Long> menuIds) {
+        return menuProducts.values()
+                .stream()
+                .filter(menuProduct -> menuIds.contains(menuProduct.getMenuId()))
+                .collect(Collectors.toList())
+                ;
+    }
 }
@@ -0,0 +1,83 @@
+package kitchenpos.inmemorydao;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import kitchenpos.dao.MenuSalesDao;
+import kitchenpos.domain.MenuGroupSales;
+import kitchenpos.domain.MenuSales;
+
+public class InMemoryMenuSalesDao implements MenuSalesDao {
+    private Map<LocalDateTime, Map<Long, MenuSales>> menuSales;
+
+    public InMemoryMenuSalesDao() {
+        this.menuSales = new TreeMap<>();
+    }
+
+    @Override
+    public void addAll(final List<MenuSales> entities) {
+        for (final MenuSales entity : entities) {
+            final MenuSales sales = menuSales.computeIfAbsent(entity.getSalesHour(), salesHour -> new TreeMap<>())
+                    .get(entity.getMenuId());
+
+            if (sales == null) {
+                final MenuSales newSales = new MenuSales();
+                newSales.setSalesHour(entity.getSalesHour());
+                newSales.setMenuId(entity.getMenuId());
+                newSales.setMenuGroupId(entity.getMenuGroupId());
+                newSales.setQuantity(entity.getQuantity());
+                newSales.setRevenue(entity.getRevenue());
+                menuSales.get(entity.getSalesHour()).put(entity.getMenuId(), newSales);
+                continue;
+            }
+
+            sales.setQuantity(sales.getQuantity() + entity.getQuantity());
+            sales.setRevenue(sales.getRevenue().add(entity.getRevenue()));
+        }
+    }
+
+    @Override
+    public List<MenuSales> findAllBySalesHourBetween(final LocalDateTime from, final LocalDateTime to) {
+        final List<MenuSales> result = new ArrayList<>();
+        for (final Map.Entry<LocalDateTime, Map<Long, MenuSales>> entry : menuSales.entrySet()) {
+            if (!entry.getKey().isBefore(from) && entry.getKey().isBefore(to)) {
+                result.addAll(entry.getValue().values());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<MenuGroupSales> findAllMenuGroupSalesBySalesHourBetween(final LocalDateTime from,
+            final LocalDateTime to) {
+        final List<MenuGroupSales> result = new ArrayList<>();
+        for (final Map.Entry<LocalDateTime, Map<Long, MenuSales>> entry : menuSales.entrySet()) {
+            if (entry.getKey().isBefore(from) || !entry.getKey().isBefore(to)) {
+                continue;
+            }
+
+            final Map<Long, MenuGroupSales> menuGroupSales = new TreeMap<>();
+            for (final MenuSales sales : entry.getValue().values()) {
+                final MenuGroupSales groupSales = menuGroupSales.get(sales.getMenuGroupId());
+
+                if (groupSales == null) {
+                    final MenuGroupSales newGroupSales = new MenuGroupSales();
+                    newGroupSales.setSalesHour(sales.getSalesHour());
+                    newGroupSales.setMenuGroupId(sales.getMenuGroupId());
+                    newGroupSales.setQuantity(sales.getQuantity());
+                    newGroupSales.setRevenue(sales.getRevenue());
+                    menuGroupSales.put(sales.getMenuGroupId(), newGroupSales);
+                    continue;
+                }
+
+                groupSales.setQuantity(groupSales.getQuantity() + sales.getQuantity());
+                groupSales.setRevenue(groupSales.getRevenue().add(sales.getRevenue()));
+            }
+            result.addAll(menuGroupSales.values());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,58 @@
+package kitchenpos.inmemorydao;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import kitchenpos.dao.OrderArchiveDao;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+
+public class InMemoryOrderArchiveDao implements OrderArchiveDao {
+    private Map<Long, Order> orders;
+    private List<OrderLineItem> orderLineItems;
+
+    public InMemoryOrderArchiveDao() {
+        this.orders = new TreeMap<>();
+        this.orderLineItems = new ArrayList<>();
+    }
+
+    @Override
+    public void saveAll(final List<Order> entities, final LocalDateTime archivedTime) {
+        for (final Order entity : entities) {
+            if (orders.containsKey(entity.getId())) {
+                throw new IllegalStateException();
+            }
+
+            final Order order = new Order();
+            order.setId(entity.getId());
+            order.setOrderTableId(entity.getOrderTableId());
+            order.setOrderStatus(entity.getOrderStatus());
+            order.setOrderedTime(entity.getOrderedTime());
+
+            orders.put(order.getId(), order);
+            orderLineItems.addAll(entity.getOrderLineItems());
+        }
+    }
+
+    @Override
+    public List<Order> findAllByIdGreaterThan(final Long cursor, final int size) {
+        return orders.values()
+                .stream()
+                .filter(order -> order.getId() > cursor)
+                .limit(size)
+                .collect(Collectors.toList())
+                ;
+    }
+
+    @Override
+    public List<OrderLineItem> findAllOrderLineItemsByOrderIdIn(final List<Long> orderIds) {
+        return orderLineItems.stream()
+                .filter(orderLineItem -> orderIds.contains(orderLineItem.getOrderId()))
+                .collect(Collectors.toList())
+                ;
+    }
+}
@@ -1,13 +1,20 @@
 package kitchenpos.inmemorydao;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import kitchenpos.dao.OrderDao;
 import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderSearchCondition;
+import kitchenpos.domain.OrderStatus;
 
 public class InMemoryOrderDao implements OrderDao {
     private Map<Long, Order> orders;
@@ -15,7 +22,7 @@ public class InMemoryOrderDao implements OrderDao {
 
     public InMemoryOrderDao() {
         this.orders = new HashMap<>();
-        this.index = 0;
+        this.index = 1;
     }
 
     @Override
@@ -37,33 +44,141 @@ public class InMemoryOrderDao implements OrderDao {
         return order;
     }
 
+    @Override
+    public void insertAll(final List<Order> entities) {
+        for (final Order entity : entities) {
+            save(entity);
+            index = Math.max(index, entity.getId() + 1);
+        }
+    }
+
     @Override
     public Optional<Order> findById(final Long id) {
         return Optional.ofNullable(orders.get(id));
     }
 
+    @Override
+    public Optional<Order> findByIdForUpdate(final Long id) {
+        return findById(id);
+    }
+
     @Override
     public List<Order> findAll() {
         return new ArrayList<>(orders.values());
     }
 
+    @Override
+    public long nextId() {
+        return index++;
+    }
+
+    @Override
+    public List<Order> findAllByIdIn(final List<Long> ids) {
+        return ids.stream()
+                .distinct()
+                .map(orders::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList())
+                ;
+    }
+
+    @Override
+    public List<Order> findAllByIdInForUpdate(final List<Long> ids) {
+        return findAllByIdIn(ids);
+    }
+
+    @Override
+    public List<Order> findAllByIdGreaterThan(final Long cursor, final int size) {
+        return orders.values()
+                .stream()
+                .filter(order -> order.getId() > cursor)
+                .sorted(Comparator.comparing(Order::getId))
+                .limit(size)
+                .collect(Collectors.toList())
+                ;
+    }
+
+    @Override
+    public List<Order> findAllByConditionAndIdGreaterThan(final OrderSearchCondition condition,
+            final Long cursor, final int size) {
+        return orders.values()
+                .stream()
+                .filter(order -> order.getId() > cursor)
+                .filter(order -> condition.getOrderStatuses() == null || condition.getOrderStatuses().isEmpty()
+                        || condition.getOrderStatuses().contains(order.getOrderStatus()))
+                .filter(order -> condition.getOrderTableId() == null
+                        || condition.getOrderTableId().equals(order.getOrderTableId()))
+                .filter(order -> condition.getOrderedTimeFrom() == null
+                        || !order.getOrderedTime().isBefore(condition.getOrderedTimeFrom()))
+                .filter(order -> condition.getOrderedTimeTo() == null
+                        || order.getOrderedTime().isBefore(condition.getOrderedTimeTo()))
+                .sorted(Comparator.comparing(Order::getId))
+                .limit(size)
+                .collect(Collectors.toList())
+                ;
+    }
+
+    @Override
+    public void forEachWithOrderLineItems(final Consumer<Order> action) {
+        orders.values()
+                .stream()
+                .sorted(Comparator.comparing(Order::getId))
+                .forEach(action)
+        ;
+    }
+
+    @Override
+    public List<Long> findIdsByOrderStatusAndOrderedTimeBeforeAndIdGreaterThan(final OrderStatus orderStatus,
+            final LocalDateTime orderedTime, final Long cursor, final int size) {
+        return orders.values()
+                .stream()
+                .filter(order -> order.getOrderStatus() == orderStatus)
+                .filter(order -> order.getOrderedTime().isBefore(orderedTime))
+                .filter(order -> order.getId() > cursor)
+                .map(Order::getId)
+                .sorted()
+                .limit(size)
+                .collect(Collectors.toList())
+                ;
+    }
+
     @Override
     public boolean existsByOrderTableIdAndOrderStatusIn(final Long orderTableId,
-            final List<String> orderStatuses) {
+            final List<OrderStatus> orderStatuses) {
         return orders.entrySet()
                 .stream()
-                .filter(entry -> entry.getKey().equals(orderTableId))
+                .filter(entry -> orderTableId.equals(entry.getValue().getOrderTableId()))
                 .anyMatch(entry -> orderStatuses.contains(entry.getValue().getOrderStatus()))
                 ;
     }
 
     @Override
     public boolean existsByOrderTableIdInAndOrderStatusIn(final List<Long> orderTableIds,
-            final List<String> orderStatuses) {
+            final List<OrderStatus> orderStatuses) {
         return orders.entrySet()
                 .stream()
-                .filter(entry -> orderTableIds.contains(entry.getKey()))
+                .filter(entry -> orderTableIds.contains(entry.getValue().getOrderTableId()))
                 .anyMatch(entry -> orderStatuses.contains(entry.getValue().getOrderStatus()))
                 ;
     }
+
+    @Override
+    public int updateOrderStatusByIdIn(final List<Long> ids, final OrderStatus orderStatus) {
+        int updatedCount = 0;
+        for (final Long id : ids) {
+            final Order order = orders.get(id);
+            if (order != null && order.getOrderStatus() != OrderStatus.COMPLETION) {
+                order.setOrderStatus(orderStatus);
+                updatedCount++;
+            }
+        }
+        return updatedCount;
+    }
+
+    @Override
+    public void deleteAllByIdIn(final List<Long> ids) {
+        for (final Long id : ids) {
+            orders.remove(id);
+        }
+    }
 }
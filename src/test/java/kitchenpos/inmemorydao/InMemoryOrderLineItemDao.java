@@ -37,6 +37,14 @@ public class InMemoryOrderLineItemDao implements OrderLineItemDao {
         return orderLineItem;
     }
 
+    @Override
+    public List<OrderLineItem> saveAll(final List<OrderLineItem> entities) {
+        return entities.stream()
+                .map(this::save)
+                .collect(Collectors.toList())
+                ;
+    }
+
     @Override
     public Optional<OrderLineItem> findById(final Long id) {
         return Optional.ofNullable(orderLineItems.get(id));
@@ -55,4 +63,19 @@ public class InMemoryOrderLineItemDao implements OrderLineItemDao {
                 .collect(Collectors.toList())
                 ;
     }
+
+    @Override
+    public List<OrderLineItem> findAllByOrderIdIn(final List<Long> orderIds) {
+        return orderLineItems.values()
+                .stream()
+                .filter(orderLineItem -> orderIds.contains(orderLineItem.getOrderId()))
+                .collect(Collectors.toList())
+                ;
+    }
+
+    @Override
+    public void deleteAllByOrderIdIn(final List<Long> orderIds) {
+        orderLineItems.values()
+                .removeIf(orderLineItem -> orderIds.contains(orderLineItem.getOrderId()));
+    }
 }
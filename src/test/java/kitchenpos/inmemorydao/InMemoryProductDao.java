@@ -4,7 +4,9 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import kitchenpos.dao.ProductDao;
 import kitchenpos.domain.Product;
@@ -35,6 +37,14 @@ public class InMemoryProductDao implements ProductDao {
         return product;
     }
 
+    @Override
+    public List<Product> saveAll(final List<Product> entities) {
+        return entities.stream()
+                .map(this::save)
+                .collect(Collectors.toList())
+                ;
+    }
+
     @Override
     public Optional<Product> findById(final Long id) {
         return Optional.ofNullable(products.get(id));
@@ -44,4 +54,13 @@ public class InMemoryProductDao implements ProductDao {
     public List<Product> findAll() {
         return new ArrayList<>(products.values());
     }
+
+    @Override
+    public List<Product> findAllByIdIn(final List<Long> ids) {
+        return ids.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList())
+                ;
+    }
 }
@@ -1,8 +1,10 @@
+CREATE SEQUENCE orders_id_seq;
+
 CREATE TABLE orders
 (
-    id             BIGINT(20)   NOT NULL AUTO_INCREMENT,
+    id             BIGINT(20)   NOT NULL DEFAULT NEXT VALUE FOR orders_id_seq,
     order_table_id BIGINT(20)   NOT NULL,
-    order_status   VARCHAR(255) NOT NULL,
+    order_status   TINYINT      NOT NULL,
     ordered_time   DATETIME     NOT NULL,
     PRIMARY KEY (id)
 );
@@ -92,3 +94,64 @@ ALTER TABLE menu_product
 ALTER TABLE order_table
     ADD CONSTRAINT fk_order_table_table_group
         FOREIGN KEY (table_group_id) REFERENCES table_group (id);
+
+CREATE INDEX idx_orders_order_table_id_order_status
+    ON orders (order_table_id, order_status);
+
+CREATE INDEX idx_order_line_item_order_id
+    ON order_line_item (order_id, menu_id, quantity);
+
+CREATE INDEX idx_menu_product_menu_id
+    ON menu_product (menu_id, product_id, quantity);
+
+CREATE INDEX idx_order_table_table_group_id
+    ON order_table (table_group_id);
+
+CREATE INDEX idx_orders_order_status_id
+    ON orders (order_status, id);
+
+CREATE INDEX idx_orders_order_table_id_id
+    ON orders (order_table_id, id);
+
+CREATE INDEX idx_orders_ordered_time
+    ON orders (ordered_time);
+
+CREATE TABLE menu_sales
+(
+    sales_hour    DATETIME       NOT NULL,
+    menu_id       BIGINT(20)     NOT NULL,
+    menu_group_id BIGINT(20)     NOT NULL,
+    quantity      BIGINT(20)     NOT NULL,
+    revenue       DECIMAL(19, 2) NOT NULL,
+    PRIMARY KEY (sales_hour, menu_id)
+);
+
+ALTER TABLE menu_sales
+    ADD CONSTRAINT fk_menu_sales_menu
+        FOREIGN KEY (menu_id) REFERENCES menu (id);
+
+CREATE TABLE orders_archive
+(
+    id             BIGINT(20) NOT NULL,
+    order_table_id BIGINT(20) NOT NULL,
+    order_status   TINYINT    NOT NULL,
+    ordered_time   DATETIME   NOT NULL,
+    archived_time  DATETIME   NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE order_line_item_archive
+(
+    seq      BIGINT(20) NOT NULL,
+    order_id BIGINT(20) NOT NULL,
+    menu_id  BIGINT(20) NOT NULL,
+    quantity BIGINT(20) NOT NULL,
+    PRIMARY KEY (seq)
+);
+
+ALTER TABLE order_line_item_archive
+    ADD CONSTRAINT fk_order_line_item_archive_orders_archive
+        FOREIGN KEY (order_id) REFERENCES orders_archive (id);
+
+CREATE INDEX idx_order_line_item_archive_order_id
+    ON order_line_item_archive (order_id, menu_id, quantity);